@@ -0,0 +1,167 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigInteger;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link MaskType#AUTO} on a realistic mix of cards, IBANs, emails,
+ * phone numbers and non-sensitive references, against masking with the known type.
+ *
+ * <p>The setup prints the misclassification rate of {@link MaskType#detect(String)} over
+ * the labelled inputs, per expected type.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar AutoMaskTypeBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutoMaskTypeBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private final MaskingConfig config = MaskingConfig.create();
+    private final MaskingStrategy auto = MaskType.AUTO.getStrategy();
+
+    private String[] values;
+    private MaskType[] labels;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        values = new String[SIZE];
+        labels = new MaskType[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (random.nextInt(5)) {
+                case 0 -> label(i, card(random), MaskType.CREDIT_CARD);
+                case 1 -> label(i, iban(random), MaskType.IBAN);
+                case 2 -> label(i, email(random), MaskType.EMAIL);
+                case 3 -> label(i, phone(random), MaskType.PHONE);
+                default -> label(i, reference(random), MaskType.TOTAL);
+            }
+        }
+        reportMisclassification();
+    }
+
+    private void label(int i, String value, MaskType type) {
+        values[i] = value;
+        labels[i] = type;
+    }
+
+    private void reportMisclassification() {
+        Map<MaskType, int[]> stats = new EnumMap<>(MaskType.class);
+        int wrong = 0;
+        for (int i = 0; i < SIZE; i++) {
+            int[] s = stats.computeIfAbsent(labels[i], t -> new int[2]);
+            s[0]++;
+            if (MaskType.detect(values[i]) != labels[i]) {
+                s[1]++;
+                wrong++;
+            }
+        }
+        System.out.printf("%nMisclassification rate: %.2f%% of %d inputs%n", wrong * 100.0 / SIZE, SIZE);
+        stats.forEach((type, s) -> System.out.printf("  %-12s %5d inputs, %.2f%% misclassified%n",
+                type, s[0], s[1] * 100.0 / s[0]));
+    }
+
+    private static String digits(Random random, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            sb.append((char) ('0' + random.nextInt(10)));
+        }
+        return sb.toString();
+    }
+
+    private static String card(Random random) {
+        String body = "4" + digits(random, 14);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            int d = body.charAt(body.length() - 1 - i) - '0';
+            if (i % 2 == 0) {
+                d = d * 2 > 9 ? d * 2 - 9 : d * 2;
+            }
+            sum += d;
+        }
+        String pan = body + (10 - sum % 10) % 10;
+        return random.nextBoolean() ? pan
+                : pan.substring(0, 4) + " " + pan.substring(4, 8) + " " + pan.substring(8, 12) + " " + pan.substring(12);
+    }
+
+    private static String iban(Random random) {
+        String bban = digits(random, 20);
+        BigInteger numeric = new BigInteger(bban + "142800");   // "ES00" as digits
+        int check = 98 - numeric.mod(BigInteger.valueOf(97)).intValue();
+        return "ES" + String.format("%02d", check) + bban;
+    }
+
+    private static String email(Random random) {
+        String[] names = {"john.doe", "maria_garcia", "j.smith+billing", "ops"};
+        String[] domains = {"example.com", "bank.es", "mail.co.uk"};
+        return names[random.nextInt(names.length)] + random.nextInt(100) + "@" + domains[random.nextInt(domains.length)];
+    }
+
+    private static String phone(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> "+52" + digits(random, 10);
+            case 1 -> "(" + digits(random, 3) + ") " + digits(random, 3) + "-" + digits(random, 4);
+            default -> "+34 " + digits(random, 3) + " " + digits(random, 3) + " " + digits(random, 3);
+        };
+    }
+
+    private static String reference(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> "INV-2024-" + digits(random, 6);
+            case 1 -> UUID.nameUUIDFromBytes(digits(random, 8).getBytes()).toString();
+            case 2 -> "Order " + digits(random, 5);
+            default -> digits(random, 8);
+        };
+    }
+
+    private int next() {
+        int i = index;
+        index = (i + 1) & (SIZE - 1);
+        return i;
+    }
+
+    @Benchmark
+    public MaskType detect() {
+        return MaskType.detect(values[next()]);
+    }
+
+    @Benchmark
+    public String autoMask() {
+        return auto.mask(values[next()], config);
+    }
+
+    @Benchmark
+    public String knownTypeMask() {
+        int i = next();
+        return labels[i].getStrategy().mask(values[i], config);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(AutoMaskTypeBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,370 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares JMH JSON results against a baseline and fails on regressions.
+ *
+ * <p>A benchmark only regresses when its 99.9% confidence interval, as reported by JMH, lies
+ * entirely on the worse side of the baseline's interval, widened by a relative tolerance. Two
+ * runs whose intervals overlap are treated as unchanged, however far apart their means are, so
+ * noisy benchmarks do not fail the build while consistent slowdowns do. Allocation per
+ * operation ({@code gc.alloc.rate.norm}, with {@code -prof gc}) is checked the same way.
+ *
+ * <p>Overlapping intervals only mean something if the intervals are narrow. A result whose
+ * confidence interval is wider than {@code --max-error} of its score (10% by default), or
+ * that has no interval at all, is reported as {@code NOISY}, in either file. A benchmark in
+ * the baseline but not in the current run is {@code MISSING}, so that renaming or deleting
+ * a benchmark does not silently drop it from the gate; pass {@code --allow-missing} to accept
+ * that.
+ *
+ * <p>The comparison is written as a Markdown report. The exit code is 1 if anything regressed,
+ * is noisy or is missing, 2 on invalid arguments, 0 otherwise.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -cp bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar \
+ *     io.github.zeytx.bankmasker.benchmark.BenchmarkComparator \
+ *     bankmasker-benchmark/baseline/jmh-baseline.json jmh-result.json \
+ *     [--tolerance 0.05] [--max-error 0.10] [--allow-missing] [--report benchmark-report.md]
+ * </pre>
+ */
+public final class BenchmarkComparator {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    /** Allocation changes below this many bytes per operation are ignored. */
+    static final double ALLOCATION_SLACK = 8;
+
+    /** Default bound on the relative error of a usable result. */
+    static final double DEFAULT_MAX_ERROR = 0.10;
+
+    private final double tolerance;
+    private final double maxError;
+
+    /**
+     * Creates a comparator that treats results with more than 10% relative error as noisy.
+     *
+     * @param tolerance relative margin beyond the baseline's confidence interval, e.g. 0.05
+     */
+    public BenchmarkComparator(double tolerance) {
+        this(tolerance, DEFAULT_MAX_ERROR);
+    }
+
+    /**
+     * Creates a comparator.
+     *
+     * @param tolerance relative margin beyond the baseline's confidence interval, e.g. 0.05
+     * @param maxError  largest relative error, half the confidence interval divided by the
+     *                  score, of a result that can be compared, e.g. 0.10
+     */
+    public BenchmarkComparator(double tolerance, double maxError) {
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("tolerance must not be negative");
+        }
+        if (!(maxError > 0)) {
+            throw new IllegalArgumentException("maxError must be positive");
+        }
+        this.tolerance = tolerance;
+        this.maxError = maxError;
+    }
+
+    /** Verdict of one comparison. */
+    public enum Verdict {
+        UNCHANGED, IMPROVED, REGRESSED, NEW, MISSING, NOISY
+    }
+
+    /**
+     * One benchmark result: primary score and its confidence interval, plus allocation per
+     * operation if the GC profiler was on. Bounds are {@code NaN} when JMH reported no interval.
+     */
+    record Result(String key, String mode, String unit, double score, double low, double high,
+                  double allocation, double allocationLow, double allocationHigh) {
+
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+
+        /** Half the confidence interval relative to the score; {@code NaN} without an interval. */
+        double relativeError() {
+            return (high - low) / 2 / Math.abs(score);
+        }
+
+        boolean hasAllocation() {
+            return !Double.isNaN(allocation);
+        }
+    }
+
+    /** Comparison of one benchmark. */
+    record Comparison(String key, Result baseline, Result current, Verdict verdict, Verdict allocationVerdict) {
+
+        boolean regressed() {
+            return verdict == Verdict.REGRESSED || allocationVerdict == Verdict.REGRESSED;
+        }
+
+        boolean noisy() {
+            return verdict == Verdict.NOISY || allocationVerdict == Verdict.NOISY;
+        }
+
+        /**
+         * Whether this comparison fails the gate.
+         *
+         * @param allowMissing whether benchmarks missing from the current run are accepted
+         */
+        boolean failed(boolean allowMissing) {
+            return regressed() || noisy() || (verdict == Verdict.MISSING && !allowMissing);
+        }
+    }
+
+    /**
+     * Reads a JMH JSON result file ({@code -rf json}).
+     *
+     * @param file the result file
+     * @return the results by key: short benchmark name, mode and parameters
+     * @throws IOException if the file cannot be read or parsed
+     */
+    static Map<String, Result> read(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(file.toFile());
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            String mode = run.path("mode").asText();
+            String key = key(run.path("benchmark").asText(), mode, run.path("params"));
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION);
+            double[] primaryInterval = interval(primary);
+            double[] allocationInterval = interval(allocation);
+            results.put(key, new Result(key, mode, primary.path("scoreUnit").asText(),
+                    number(primary.path("score")), primaryInterval[0], primaryInterval[1],
+                    number(allocation.path("score")), allocationInterval[0], allocationInterval[1]));
+        }
+        return results;
+    }
+
+    private static String key(String benchmark, String mode, JsonNode params) {
+        // Drop the package: "MaskUtilsBenchmark.mask"
+        int method = benchmark.lastIndexOf('.');
+        int type = method > 0 ? benchmark.lastIndexOf('.', method - 1) : -1;
+        StringBuilder key = new StringBuilder(benchmark.substring(type + 1)).append(" [").append(mode);
+        Map<String, String> sorted = new TreeMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> param = it.next();
+            sorted.put(param.getKey(), param.getValue().asText());
+        }
+        sorted.forEach((name, value) -> key.append(", ").append(name).append('=').append(value));
+        return key.append(']').toString();
+    }
+
+    /**
+     * Confidence interval of a metric, or {@code NaN} bounds if JMH could not compute one, e.g.
+     * from a single iteration. A missing interval is unknown error, not zero error.
+     */
+    private static double[] interval(JsonNode metric) {
+        JsonNode confidence = metric.path("scoreConfidence");
+        double low = number(confidence.path(0));
+        double high = number(confidence.path(1));
+        if (Double.isNaN(number(metric.path("scoreError")))
+                || !Double.isFinite(low) || !Double.isFinite(high)) {
+            return new double[]{Double.NaN, Double.NaN};
+        }
+        return new double[]{low, high};
+    }
+
+    /** JMH writes {@code "NaN"} as a string when a value is undefined. */
+    private static double number(JsonNode node) {
+        if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Compares current results against the baseline.
+     *
+     * @param baseline the baseline results
+     * @param current  the current results
+     * @return one comparison per benchmark in either set
+     */
+    List<Comparison> compare(Map<String, Result> baseline, Map<String, Result> current) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (Result base : baseline.values()) {
+            Result now = current.get(base.key());
+            if (now == null) {
+                comparisons.add(new Comparison(base.key(), base, null, Verdict.MISSING, Verdict.MISSING));
+                continue;
+            }
+            Verdict verdict = noisy(base) || noisy(now)
+                    ? Verdict.NOISY
+                    : verdict(base.low(), base.high(), now.low(), now.high(), base.higherIsBetter(), 0);
+            Verdict allocation;
+            if (!base.hasAllocation() || !now.hasAllocation()) {
+                allocation = Verdict.UNCHANGED;
+            } else if (Double.isNaN(base.allocationLow()) || Double.isNaN(now.allocationLow())) {
+                allocation = Verdict.NOISY;
+            } else {
+                allocation = verdict(base.allocationLow(), base.allocationHigh(),
+                        now.allocationLow(), now.allocationHigh(), false, ALLOCATION_SLACK);
+            }
+            comparisons.add(new Comparison(base.key(), base, now, verdict, allocation));
+        }
+        for (Result now : current.values()) {
+            if (!baseline.containsKey(now.key())) {
+                comparisons.add(new Comparison(now.key(), null, now, Verdict.NEW, Verdict.NEW));
+            }
+        }
+        return comparisons;
+    }
+
+    /**
+     * Whether a result's interval is too wide, or unknown, for a comparison to mean anything.
+     * Allocation is not bounded this way: it is nearly deterministic, and its relative error is
+     * undefined for allocation-free benchmarks.
+     */
+    boolean noisy(Result result) {
+        double error = result.relativeError();
+        return Double.isNaN(error) || error > maxError;
+    }
+
+    /**
+     * Decides whether the current interval lies beyond the baseline interval, widened by the
+     * tolerance and an absolute slack, on the worse or the better side.
+     */
+    private Verdict verdict(double baseLow, double baseHigh, double low, double high,
+                            boolean higherIsBetter, double slack) {
+        if (higherIsBetter) {
+            if (high < baseLow * (1 - tolerance) - slack) {
+                return Verdict.REGRESSED;
+            }
+            if (low > baseHigh * (1 + tolerance) + slack) {
+                return Verdict.IMPROVED;
+            }
+        } else {
+            if (low > baseHigh * (1 + tolerance) + slack) {
+                return Verdict.REGRESSED;
+            }
+            if (high < baseLow * (1 - tolerance) - slack) {
+                return Verdict.IMPROVED;
+            }
+        }
+        return Verdict.UNCHANGED;
+    }
+
+    /**
+     * Renders the comparisons as a Markdown report, regressions first.
+     *
+     * @param comparisons the comparisons
+     * @return the report
+     */
+    String report(List<Comparison> comparisons) {
+        List<Comparison> sorted = new ArrayList<>(comparisons);
+        sorted.sort((a, b) -> Boolean.compare(b.failed(false), a.failed(false)));
+        long regressions = sorted.stream().filter(Comparison::regressed).count();
+        long noisy = sorted.stream().filter(Comparison::noisy).count();
+        long missing = sorted.stream().filter(c -> c.verdict() == Verdict.MISSING).count();
+
+        StringBuilder out = new StringBuilder();
+        out.append("# Benchmark comparison\n\n");
+        out.append(String.format(Locale.ROOT,
+                "%d benchmarks, %d regressed, %d noisy, %d missing. A regression is a 99.9%% confidence interval"
+                        + " beyond the baseline's by more than %.1f%%; a result is noisy if its interval is wider"
+                        + " than %.1f%% of its score.%n%n",
+                sorted.size(), regressions, noisy, missing, tolerance * 100, maxError * 100));
+        out.append("| Benchmark | Baseline | Current | Change | Alloc (B/op) | Verdict |\n");
+        out.append("|-----------|----------|---------|--------|--------------|---------|\n");
+        for (Comparison c : sorted) {
+            out.append("| ").append(c.key())
+                    .append(" | ").append(format(c.baseline()))
+                    .append(" | ").append(format(c.current()))
+                    .append(" | ").append(change(c.baseline(), c.current()))
+                    .append(" | ").append(allocation(c))
+                    .append(" | ").append(verdict(c))
+                    .append(" |\n");
+        }
+        return out.toString();
+    }
+
+    private static String format(Result result) {
+        if (result == null) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.3f +/- %.3f %s", result.score(),
+                (result.high() - result.low()) / 2, result.unit());
+    }
+
+    private static String change(Result baseline, Result current) {
+        if (baseline == null || current == null || baseline.score() == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (current.score() - baseline.score()) / baseline.score() * 100);
+    }
+
+    private static String allocation(Comparison c) {
+        if (c.baseline() == null || c.current() == null
+                || Double.isNaN(c.baseline().allocation()) || Double.isNaN(c.current().allocation())) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.0f -> %.0f", c.baseline().allocation(), c.current().allocation());
+    }
+
+    private static String verdict(Comparison c) {
+        if (c.verdict() == Verdict.REGRESSED) {
+            return "**REGRESSED**";
+        }
+        if (c.allocationVerdict() == Verdict.REGRESSED) {
+            return "**REGRESSED (allocation)**";
+        }
+        if (c.verdict() == Verdict.NOISY || c.verdict() == Verdict.MISSING) {
+            return "**" + c.verdict().name() + "**";
+        }
+        if (c.allocationVerdict() == Verdict.NOISY) {
+            return "**NOISY (allocation)**";
+        }
+        return c.verdict().name().toLowerCase(Locale.ROOT);
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<String> files = new ArrayList<>();
+        double tolerance = 0.05;
+        double maxError = DEFAULT_MAX_ERROR;
+        boolean allowMissing = false;
+        Path report = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--tolerance" -> tolerance = Double.parseDouble(args[++i]);
+                case "--max-error" -> maxError = Double.parseDouble(args[++i]);
+                case "--allow-missing" -> allowMissing = true;
+                case "--report" -> report = Path.of(args[++i]);
+                default -> files.add(args[i]);
+            }
+        }
+        if (files.size() != 2) {
+            System.err.println("Usage: BenchmarkComparator <baseline.json> <current.json>"
+                    + " [--tolerance 0.05] [--max-error 0.10] [--allow-missing] [--report report.md]");
+            System.exit(2);
+        }
+
+        BenchmarkComparator comparator = new BenchmarkComparator(tolerance, maxError);
+        List<Comparison> comparisons = comparator.compare(read(Path.of(files.get(0))), read(Path.of(files.get(1))));
+        String text = comparator.report(comparisons);
+        System.out.println(text);
+        if (report != null) {
+            Files.writeString(report, text);
+        }
+        boolean missingAllowed = allowMissing;
+        if (comparisons.stream().anyMatch(c -> c.failed(missingAllowed))) {
+            System.err.println("Benchmark regressions, noisy or missing results found, see the report above");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the benchmark suite with the GC profiler, for allocation rates per operation, and
+ * writes the results as JSON for tooling and for comparing runs.
+ *
+ * <p>Arguments are benchmark include patterns; without any, every benchmark runs. The result
+ * file defaults to {@code jmh-result.json} and can be changed with {@code -Dbankmasker.jmh.result=...}.
+ * {@code -Dbankmasker.jmh.forks=...} and {@code -Dbankmasker.jmh.iterations=...} override the forks and
+ * measurement iterations of every benchmark; the regression gate and its baseline use 5 forks of
+ * 20 iterations, so that confidence intervals are narrow enough to compare.
+ *
+ * <p>With {@code -Dbankmasker.jmh.interleave=true} the forks run one round at a time: each round
+ * runs every benchmark once, and the rounds are merged into one result per benchmark. JMH
+ * otherwise runs all forks of a benchmark back to back, so a few minutes of a slower or faster
+ * machine shift that benchmark alone while its interval stays narrow. Interleaved, each
+ * benchmark samples the whole run and such drift widens its interval instead.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -cp bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar \
+ *     io.github.zeytx.bankmasker.benchmark.BenchmarkSuite MaskUtilsBenchmark ValueLengthBenchmark
+ * </pre>
+ * The same is available from the JMH launcher with {@code -prof gc -rf json -rff jmh-result.json}.
+ */
+public final class BenchmarkSuite {
+
+    private BenchmarkSuite() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String result = System.getProperty("bankmasker.jmh.result", "jmh-result.json");
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class);
+        String forks = System.getProperty("bankmasker.jmh.forks");
+        boolean interleave = Boolean.getBoolean("bankmasker.jmh.interleave");
+        if (interleave && forks == null) {
+            throw new IllegalArgumentException("bankmasker.jmh.interleave needs bankmasker.jmh.forks");
+        }
+        if (forks != null && !interleave) {
+            options.forks(Integer.parseInt(forks));
+        }
+        String iterations = System.getProperty("bankmasker.jmh.iterations");
+        if (iterations != null) {
+            options.measurementIterations(Integer.parseInt(iterations));
+        }
+        if (args.length == 0) {
+            options.include(BenchmarkSuite.class.getPackageName() + ".*");
+        }
+        for (String include : args) {
+            options.include(include);
+        }
+        if (!interleave) {
+            new Runner(options.resultFormat(ResultFormatType.JSON).result(result).build()).run();
+            return;
+        }
+        options.forks(1);
+        List<Collection<RunResult>> rounds = new ArrayList<>();
+        for (int round = Integer.parseInt(forks); round > 0; round--) {
+            rounds.add(new Runner(options.build()).run());
+        }
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, result).writeOut(merge(rounds));
+    }
+
+    /** Merges the forks of each benchmark, identified by its parameters, across rounds. */
+    static Collection<RunResult> merge(List<Collection<RunResult>> rounds) {
+        Map<String, RunResult> first = new LinkedHashMap<>();
+        Map<String, List<BenchmarkResult>> forks = new LinkedHashMap<>();
+        for (Collection<RunResult> round : rounds) {
+            for (RunResult run : round) {
+                String id = run.getParams().id();
+                first.putIfAbsent(id, run);
+                forks.computeIfAbsent(id, k -> new ArrayList<>()).addAll(run.getBenchmarkResults());
+            }
+        }
+        List<RunResult> merged = new ArrayList<>(first.size());
+        first.forEach((id, run) -> merged.add(new RunResult(run.getParams(), forks.get(id))));
+        return merged;
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH matrix of JSON, Smile and CBOR serialization, masked and unmasked. On Smile and CBOR,
+ * masked ASCII values are written as UTF-8 bytes from a reused buffer instead of going
+ * through the generator's char buffer and encoder. Each invocation writes the next of
+ * {@value #VALUES} customers filled from the seeded {@link BankingCorpus}.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar BinaryFormatsBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryFormatsBenchmark {
+
+    static final int VALUES = 1024;
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private MaskedCustomer[] masked;
+    private PlainCustomer[] plain;
+    private int next;
+
+    public static class MaskedCustomer {
+        public long id;
+        @MaskData(MaskType.NAME)
+        public String name;
+        @MaskData(MaskType.EMAIL)
+        public String email;
+        @MaskData(MaskType.PHONE)
+        public String phone;
+        @MaskData(MaskType.IBAN)
+        public String iban;
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber;
+        public String segment = "RETAIL";
+    }
+
+    public static class PlainCustomer {
+        public long id;
+        public String name;
+        public String email;
+        public String phone;
+        public String iban;
+        public String cardNumber;
+        public String segment = "RETAIL";
+    }
+
+    @Setup
+    public void setup() {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        mapper = new ObjectMapper(factory);
+
+        BankingCorpus corpus = new BankingCorpus();
+        masked = new MaskedCustomer[VALUES];
+        plain = new PlainCustomer[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            MaskedCustomer m = masked[i] = new MaskedCustomer();
+            PlainCustomer p = plain[i] = new PlainCustomer();
+            m.id = p.id = i;
+            m.name = p.name = corpus.name();
+            m.email = p.email = corpus.email();
+            m.phone = p.phone = corpus.phone();
+            m.iban = p.iban = corpus.iban();
+            m.cardNumber = p.cardNumber = corpus.pan();
+        }
+    }
+
+    @Benchmark
+    public byte[] masked() throws Exception {
+        return mapper.writeValueAsBytes(masked[next++ & (VALUES - 1)]);
+    }
+
+    @Benchmark
+    public byte[] unmasked() throws Exception {
+        return mapper.writeValueAsBytes(plain[next++ & (VALUES - 1)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BinaryFormatsBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
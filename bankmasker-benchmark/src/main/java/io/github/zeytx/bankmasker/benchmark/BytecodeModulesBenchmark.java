@@ -0,0 +1,112 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of plain Jackson, Blackbird and Afterburner, with and without masking, on
+ * a transaction with two masked and eight plain properties. With an optimizing module, the
+ * plain properties of the masked DTO keep their generated writers, so the gap between
+ * {@code plain} and {@code masked} should stay the cost of masking two values. Each invocation
+ * writes the next of {@value #VALUES} transactions filled from the seeded {@link BankingCorpus}.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar BytecodeModulesBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BytecodeModulesBenchmark {
+
+    static final int VALUES = 1024;
+
+    @Param({"jackson", "blackbird", "afterburner"})
+    public String module;
+
+    private ObjectMapper mapper;
+    private PlainTransaction[] plain;
+    private MaskedTransaction[] masked;
+    private int next;
+
+    public static class PlainTransaction {
+        public long id = 1_000_042L;
+        public String reference = "TX-2024-000042";
+        public String cardNumber;
+        public String email;
+        public long amountCents = 129_990L;
+        public String currency = "EUR";
+        public int installments = 3;
+        public boolean international = false;
+        public String merchant = "ACME Online Store";
+        public String status = "APPROVED";
+    }
+
+    public static class MaskedTransaction {
+        public long id = 1_000_042L;
+        public String reference = "TX-2024-000042";
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber;
+        @MaskData(MaskType.EMAIL)
+        public String email;
+        public long amountCents = 129_990L;
+        public String currency = "EUR";
+        public int installments = 3;
+        public boolean international = false;
+        public String merchant = "ACME Online Store";
+        public String status = "APPROVED";
+    }
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper();
+        switch (module) {
+            case "blackbird" -> mapper.registerModule(new BlackbirdModule());
+            case "afterburner" -> mapper.registerModule(new AfterburnerModule());
+            default -> {
+            }
+        }
+
+        BankingCorpus corpus = new BankingCorpus();
+        plain = new PlainTransaction[VALUES];
+        masked = new MaskedTransaction[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            PlainTransaction p = plain[i] = new PlainTransaction();
+            MaskedTransaction m = masked[i] = new MaskedTransaction();
+            p.cardNumber = m.cardNumber = corpus.pan();
+            p.email = m.email = corpus.email();
+        }
+    }
+
+    @Benchmark
+    public byte[] plain() throws Exception {
+        return mapper.writeValueAsBytes(plain[next++ & (VALUES - 1)]);
+    }
+
+    @Benchmark
+    public byte[] masked() throws Exception {
+        return mapper.writeValueAsBytes(masked[next++ & (VALUES - 1)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(BytecodeModulesBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
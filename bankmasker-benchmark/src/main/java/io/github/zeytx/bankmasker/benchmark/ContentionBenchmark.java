@@ -0,0 +1,73 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskUtils;
+import io.github.zeytx.bankmasker.benchmark.MaskingSerializerBenchmark.MaskedDTO;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of one shared {@link ObjectMapper} and the global configuration used from
+ * 1, 4 and 16 threads. Per-thread throughput staying flat as threads are added means no
+ * shared state is contended; compare runs on machines with at least as many cores.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar ContentionBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentionBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final MaskedDTO dto = MaskedDTO.of(new BankingCorpus());
+
+    @Benchmark
+    @Threads(1)
+    public byte[] serialize1Thread() throws Exception {
+        return mapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] serialize4Threads() throws Exception {
+        return mapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public byte[] serialize16Threads() throws Exception {
+        return mapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String maskUtils1Thread() {
+        return MaskUtils.mask("ES6621000418401234567891", MaskType.IBAN);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String maskUtils16Threads() {
+        return MaskUtils.mask("ES6621000418401234567891", MaskType.IBAN);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ContentionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
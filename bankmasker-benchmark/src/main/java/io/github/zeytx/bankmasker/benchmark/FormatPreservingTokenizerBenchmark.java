@@ -0,0 +1,84 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.FormatPreservingTokenizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for {@link FormatPreservingTokenizer}: card numbers with the last four
+ * digits kept and Luhn cycle walking, 20-digit account numbers, detokenization, and a
+ * tokenizer built per value, which pays for {@code Cipher.getInstance} and the AES key
+ * schedule every time instead of once per thread. Each runs under FF1 and FF3-1.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar FormatPreservingTokenizerBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatPreservingTokenizerBenchmark {
+
+    private static final byte[] KEY = "benchmark-aes-key-0123456789abcd".getBytes(StandardCharsets.US_ASCII);
+    private static final String CARD = "4111 1111 1111 1111";
+    private static final String ACCOUNT = "21000418450200051332";
+
+    @Param({"FF1", "FF3_1"})
+    private FormatPreservingTokenizer.Algorithm algorithm;
+
+    private FormatPreservingTokenizer cards;
+    private FormatPreservingTokenizer accounts;
+    private String accountToken;
+
+    @Setup
+    public void setUp() {
+        cards = FormatPreservingTokenizer.builder()
+                .key(KEY)
+                .algorithm(algorithm)
+                .preserveLast(4)
+                .luhn(true)
+                .build();
+        accounts = FormatPreservingTokenizer.builder()
+                .key(KEY)
+                .algorithm(algorithm)
+                .build();
+        accountToken = accounts.tokenize(ACCOUNT);
+    }
+
+    @Benchmark
+    public String tokenizeCard() {
+        return cards.tokenize(CARD);
+    }
+
+    @Benchmark
+    public String tokenizeAccount() {
+        return accounts.tokenize(ACCOUNT);
+    }
+
+    @Benchmark
+    public String detokenizeAccount() {
+        return accounts.detokenize(accountToken);
+    }
+
+    @Benchmark
+    public String tokenizeAccountFreshCipher() {
+        return FormatPreservingTokenizer.builder().key(KEY).algorithm(algorithm).build().tokenize(ACCOUNT);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(FormatPreservingTokenizerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.zeytx.bankmasker.JsonTreeMasker;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks masking large statement trees in place with {@link JsonTreeMasker},
+ * sequentially and in parallel, against binding them to annotated POJOs and serializing
+ * them back to a tree. The trees are filled from the seeded {@link BankingCorpus}.
+ *
+ * <p>The in-place benchmarks mask a fresh copy of the tree on every invocation;
+ * {@link #copyOnly()} measures that copy alone. {@link #rootArrayParallel()} masks the
+ * transactions array of that copy as a root array, addressed with {@code [*]} paths.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar JsonTreeMaskerBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonTreeMaskerBenchmark {
+
+    public static class Account {
+        @MaskData(MaskType.IBAN)
+        public String iban;
+        @MaskData(MaskType.NAME)
+        public String holder;
+    }
+
+    public static class Transaction {
+        public long id;
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber;
+        @MaskData(MaskType.IBAN)
+        public String counterpartyIban;
+        public String merchant;
+        public long amountCents;
+        public String currency;
+    }
+
+    public static class Statement {
+        public Account account;
+        public List<Transaction> transactions;
+    }
+
+    /** Number of transactions in the statement. */
+    @Param({"10000", "100000"})
+    private int transactions;
+
+    private ObjectMapper pojoMapper;
+    private JsonTreeMasker sequential;
+    private JsonTreeMasker parallel;
+    private JsonTreeMasker rootArray;
+    private JsonNode statement;
+    private JsonNode copy;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MaskingConfig config = MaskingConfig.create();
+        pojoMapper = new ObjectMapper().registerModule(new MaskingModule(config));
+        JsonTreeMasker.Builder rules = JsonTreeMasker.builder()
+                .config(config)
+                .rule("account.iban", MaskType.IBAN)
+                .rule("account.holder", MaskType.NAME)
+                .rule("transactions[*].cardNumber", MaskType.CREDIT_CARD)
+                .rule("transactions[*].counterpartyIban", MaskType.IBAN);
+        sequential = rules.parallelThreshold(Integer.MAX_VALUE).build();
+        parallel = rules.parallelThreshold(4096).build();
+        rootArray = JsonTreeMasker.builder()
+                .config(config)
+                .rule("[*].cardNumber", MaskType.CREDIT_CARD)
+                .rule("[*].counterpartyIban", MaskType.IBAN)
+                .parallelThreshold(4096)
+                .build();
+
+        BankingCorpus corpus = new BankingCorpus();
+        ObjectNode root = new ObjectMapper().createObjectNode();
+        root.putObject("account")
+                .put("iban", corpus.iban())
+                .put("holder", corpus.name());
+        ArrayNode items = root.putArray("transactions");
+        for (int i = 0; i < transactions; i++) {
+            items.addObject()
+                    .put("id", i)
+                    .put("cardNumber", corpus.pan())
+                    .put("counterpartyIban", corpus.iban())
+                    .put("merchant", "Merchant " + (i % 100))
+                    .put("amountCents", 100 + i % 10_000)
+                    .put("currency", "EUR");
+        }
+        statement = root;
+    }
+
+    @Setup(Level.Invocation)
+    public void copyTree() {
+        copy = statement.deepCopy();
+    }
+
+    @Benchmark
+    public JsonNode copyOnly() {
+        return statement.deepCopy();
+    }
+
+    @Benchmark
+    public JsonNode inPlaceSequential() {
+        return sequential.mask(copy);
+    }
+
+    @Benchmark
+    public JsonNode inPlaceParallel() {
+        return parallel.mask(copy);
+    }
+
+    @Benchmark
+    public JsonNode rootArrayParallel() {
+        return rootArray.mask(copy.get("transactions"));
+    }
+
+    @Benchmark
+    public JsonNode throughPojos() throws JsonProcessingException {
+        return pojoMapper.valueToTree(pojoMapper.treeToValue(statement, Statement.class));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(JsonTreeMaskerBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.benchmark.MaskingSerializerBenchmark.MaskedDTO;
+import io.github.zeytx.bankmasker.benchmark.MaskingSerializerBenchmark.PlainDTO;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH latency benchmarks of serialization with and without masking. Sample-time mode
+ * reports the p50, p90, p99, p99.9 and maximum per call, next to the average.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar LatencyBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatencyBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final MaskedDTO masked = MaskedDTO.of(new BankingCorpus());
+    private final PlainDTO plain = PlainDTO.of(masked);
+
+    @Benchmark
+    public byte[] masked() throws Exception {
+        return mapper.writeValueAsBytes(masked);
+    }
+
+    @Benchmark
+    public byte[] plain() throws Exception {
+        return mapper.writeValueAsBytes(plain);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LatencyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingLatencyRecorder;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.benchmark.MaskingSerializerBenchmark.MaskedDTO;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the cost of a {@link MaskingLatencyRecorder}: serialization with no
+ * recorder attached, which should match {@code MaskingSerializerBenchmark}, against one
+ * attached, from 1 and 4 threads sharing the recorder, plus the raw cost of
+ * {@link MaskingLatencyRecorder#record}.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar LatencyRecorderBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LatencyRecorderBenchmark {
+
+    @Param({"detached", "attached"})
+    public String recorder;
+
+    private final MaskedDTO dto = MaskedDTO.of(new BankingCorpus());
+    private final MaskingLatencyRecorder latencyRecorder = new MaskingLatencyRecorder();
+    private ObjectMapper mapper;
+    private long nanos;
+
+    @Setup
+    public void setUp() {
+        MaskingConfig config = MaskingConfig.create();
+        if ("attached".equals(recorder)) {
+            config.setLatencyRecorder(latencyRecorder);
+        }
+        mapper = new ObjectMapper().registerModule(new MaskingModule(config));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] serialize1Thread() throws Exception {
+        return mapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] serialize4Threads() throws Exception {
+        return mapper.writeValueAsBytes(dto);
+    }
+
+    @Benchmark
+    public void record() {
+        latencyRecorder.record(MaskType.IBAN, "iban", nanos++ & 0xFFFF);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LatencyRecorderBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskUtils;
+import io.github.zeytx.bankmasker.Masked;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing eager {@link MaskUtils#mask} log arguments with lazy
+ * {@link Masked} wrappers, with the log level disabled and enabled.
+ *
+ * <p>The disabled case logs at DEBUG through an SLF4J simple logger set to INFO by
+ * {@code simplelogger.properties}, so each call pays the binding's real level check.
+ * The enabled case formats the message with SLF4J's {@link MessageFormatter}, which is
+ * what bindings do before handing the message to appenders.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar LazyMaskedLogBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyMaskedLogBenchmark {
+
+    private final Logger disabled = LoggerFactory.getLogger(LazyMaskedLogBenchmark.class);
+    private String card;
+
+    @Setup
+    public void setup() {
+        if (disabled.isDebugEnabled()) {
+            throw new IllegalStateException("DEBUG must be disabled for " + disabled.getName());
+        }
+        card = new BankingCorpus().pan();
+    }
+
+    @Benchmark
+    public void eagerDisabled() {
+        disabled.debug("card {}", MaskUtils.mask(card, MaskType.CREDIT_CARD));
+    }
+
+    @Benchmark
+    public void lazyDisabled() {
+        disabled.debug("card {}", Masked.of(card, MaskType.CREDIT_CARD));
+    }
+
+    @Benchmark
+    public void eagerEnabled(Blackhole bh) {
+        bh.consume(MessageFormatter.format("card {}", MaskUtils.mask(card, MaskType.CREDIT_CARD)).getMessage());
+    }
+
+    @Benchmark
+    public void lazyEnabled(Blackhole bh) {
+        bh.consume(MessageFormatter.format("card {}", Masked.of(card, MaskType.CREDIT_CARD)).getMessage());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LazyMaskedLogBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
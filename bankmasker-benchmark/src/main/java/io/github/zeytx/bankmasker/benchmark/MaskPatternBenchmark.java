@@ -0,0 +1,123 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.MaskPattern;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingStrategy;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing compiled {@link MaskPattern}s with the hand-written
+ * {@link MaskType} strategies producing the same output, on {@value #VALUES} values of
+ * each type from the seeded {@link BankingCorpus} that both mask identically.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskPatternBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskPatternBenchmark {
+
+    static final int VALUES = 1024;
+
+    private final MaskingConfig config = MaskingConfig.create();
+
+    private final MaskingStrategy cardStrategy = MaskType.CREDIT_CARD.getStrategy();
+    private final MaskingStrategy ibanStrategy = MaskType.IBAN.getStrategy();
+    private final MaskingStrategy phoneStrategy = MaskType.PHONE.getStrategy();
+
+    /** Same output as {@link MaskType#CREDIT_CARD}. */
+    private final MaskPattern cardPattern = MaskPattern.compile("(?s)****-****-****-####");
+    /** Same output as {@link MaskType#IBAN}. */
+    private final MaskPattern ibanPattern = MaskPattern.compile("(?s)##*+####");
+    /** Same output as {@link MaskType#PHONE}. */
+    private final MaskPattern phonePattern = MaskPattern.compile("(?s)*+####");
+
+    private final StringBuilder sb = new StringBuilder(64);
+
+    private String[] cards;
+    private String[] ibans;
+    private String[] phones;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BankingCorpus corpus = new BankingCorpus();
+        cards = matching(corpus, MaskType.CREDIT_CARD, cardPattern);
+        ibans = matching(corpus, MaskType.IBAN, ibanPattern);
+        phones = matching(corpus, MaskType.PHONE, phonePattern);
+    }
+
+    /**
+     * Draws values of {@code type} on which {@code pattern} and the strategy agree, so both
+     * sides do the same work. The card pattern only covers 16-digit numbers.
+     */
+    private String[] matching(BankingCorpus corpus, MaskType type, MaskPattern pattern) {
+        String[] values = new String[VALUES];
+        for (int i = 0; i < VALUES; ) {
+            String value = corpus.value(type);
+            if (pattern.mask(value, config).equals(type.getStrategy().mask(value, config))) {
+                values[i++] = value;
+            }
+        }
+        return values;
+    }
+
+    @Benchmark
+    public String creditCardStrategy() {
+        return cardStrategy.mask(cards[next++ & (VALUES - 1)], config);
+    }
+
+    @Benchmark
+    public String creditCardPattern() {
+        return cardPattern.mask(cards[next++ & (VALUES - 1)], config);
+    }
+
+    @Benchmark
+    public String ibanStrategy() {
+        return ibanStrategy.mask(ibans[next++ & (VALUES - 1)], config);
+    }
+
+    @Benchmark
+    public String ibanPattern() {
+        return ibanPattern.mask(ibans[next++ & (VALUES - 1)], config);
+    }
+
+    @Benchmark
+    public String phoneStrategy() {
+        return phoneStrategy.mask(phones[next++ & (VALUES - 1)], config);
+    }
+
+    @Benchmark
+    public String phonePattern() {
+        return phonePattern.mask(phones[next++ & (VALUES - 1)], config);
+    }
+
+    /** Allocation-free variant, appending into a reused builder. */
+    @Benchmark
+    public int ibanPatternMaskTo() {
+        sb.setLength(0);
+        ibanPattern.maskTo(ibans[next++ & (VALUES - 1)], '*', sb);
+        return sb.length();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskPatternBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
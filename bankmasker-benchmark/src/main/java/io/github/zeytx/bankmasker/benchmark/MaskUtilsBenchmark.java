@@ -0,0 +1,66 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskUtils;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH microbenchmarks of {@link MaskUtils#mask(String, MaskType)} for every built-in
+ * {@link MaskType}. Each invocation masks the next of {@value #VALUES} values of that type
+ * from the seeded {@link BankingCorpus}, so the input varies like production data.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskUtilsBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskUtilsBenchmark {
+
+    static final int VALUES = 1024;
+
+    @Param({"CREDIT_CARD", "EMAIL", "PHONE", "DNI", "IBAN", "SSN", "NAME", "PASSPORT",
+            "BANK_ACCOUNT", "IP_ADDRESS", "AUTO", "PSEUDONYMIZE", "TOTAL"})
+    public MaskType type;
+
+    private String[] values;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        MaskingConfig.getInstance().setPseudonymizationKey(
+                "benchmark-pseudonymization-key!!".getBytes(StandardCharsets.US_ASCII));
+        values = new BankingCorpus().values(type, VALUES);
+    }
+
+    @TearDown
+    public void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @Benchmark
+    public String mask() {
+        return MaskUtils.mask(values[next++ & (VALUES - 1)], type);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskUtilsBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
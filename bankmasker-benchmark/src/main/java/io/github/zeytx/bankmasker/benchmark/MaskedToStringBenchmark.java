@@ -0,0 +1,108 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskUtils;
+import io.github.zeytx.bankmasker.MaskedToString;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing {@link MaskedToString#of(Object)} with hand-written,
+ * Lombok-style {@code toString()} implementations, with and without masking, cycling through
+ * {@value #VALUES} payments filled from the seeded {@link BankingCorpus}.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskedToStringBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskedToStringBenchmark {
+
+    static final int VALUES = 1024;
+
+    public static class Payment {
+        @MaskData(MaskType.CREDIT_CARD)
+        private final String cardNumber;
+
+        @MaskData(MaskType.EMAIL)
+        private final String email;
+
+        @MaskData(MaskType.IBAN)
+        private final String iban;
+
+        private final String currency = "EUR";
+        private final long amountCents;
+        private final String reference;
+
+        Payment(BankingCorpus corpus, long amountCents) {
+            this.cardNumber = corpus.pan();
+            this.email = corpus.email();
+            this.iban = corpus.iban();
+            this.amountCents = amountCents;
+            this.reference = corpus.reference();
+        }
+
+        /** What Lombok's {@code @ToString} generates: no masking at all. */
+        String lombokToString() {
+            return "Payment(cardNumber=" + cardNumber + ", email=" + email + ", iban=" + iban
+                    + ", currency=" + currency + ", amountCents=" + amountCents
+                    + ", reference=" + reference + ")";
+        }
+
+        /** Hand-written toString with explicit {@link MaskUtils} calls. */
+        String handMaskedToString() {
+            return "Payment{cardNumber=" + MaskUtils.mask(cardNumber, MaskType.CREDIT_CARD)
+                    + ", email=" + MaskUtils.mask(email, MaskType.EMAIL)
+                    + ", iban=" + MaskUtils.mask(iban, MaskType.IBAN)
+                    + ", currency=" + currency + ", amountCents=" + amountCents
+                    + ", reference=" + reference + "}";
+        }
+    }
+
+    private Payment[] payments;
+    private int next;
+
+    @Setup
+    public void setup() {
+        BankingCorpus corpus = new BankingCorpus();
+        payments = new Payment[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            payments[i] = new Payment(corpus, 100 + i * 37L);
+        }
+    }
+
+    @Benchmark
+    public String lombokStyleUnmasked() {
+        return payments[next++ & (VALUES - 1)].lombokToString();
+    }
+
+    @Benchmark
+    public String handWrittenMasked() {
+        return payments[next++ & (VALUES - 1)].handMaskedToString();
+    }
+
+    @Benchmark
+    public String maskedToString() {
+        return MaskedToString.of(payments[next++ & (VALUES - 1)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskedToStringBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
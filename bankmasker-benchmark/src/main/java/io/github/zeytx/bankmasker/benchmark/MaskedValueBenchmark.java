@@ -0,0 +1,86 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.Masked;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing repeated serialization of the same session object with
+ * {@link MaskData} fields (the strategy runs on every call) and with {@link Masked}
+ * fields (the masked form is computed once and cached). The session holds one set of values
+ * from the seeded {@link BankingCorpus}; reusing it is what this benchmark measures.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskedValueBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskedValueBenchmark {
+
+    public static class AnnotatedSession {
+        @MaskData(MaskType.IBAN)
+        public String iban;
+
+        @MaskData(MaskType.CREDIT_CARD)
+        public String card;
+
+        @MaskData(MaskType.NAME)
+        public String holder;
+    }
+
+    public static class MaskedSession {
+        public Masked<String> iban;
+        public Masked<String> card;
+        public Masked<String> holder;
+    }
+
+    private ObjectMapper mapper;
+    private AnnotatedSession annotated;
+    private MaskedSession masked;
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper();
+        BankingCorpus corpus = new BankingCorpus();
+        annotated = new AnnotatedSession();
+        annotated.iban = corpus.iban();
+        annotated.card = corpus.pan();
+        annotated.holder = corpus.name();
+        masked = new MaskedSession();
+        masked.iban = Masked.of(annotated.iban, MaskType.IBAN);
+        masked.card = Masked.of(annotated.card, MaskType.CREDIT_CARD);
+        masked.holder = Masked.of(annotated.holder, MaskType.NAME);
+    }
+
+    @Benchmark
+    public String repeatedStrategy() throws Exception {
+        return mapper.writeValueAsString(annotated);
+    }
+
+    @Benchmark
+    public String cachedMaskedValue() throws Exception {
+        return mapper.writeValueAsString(masked);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskedValueBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
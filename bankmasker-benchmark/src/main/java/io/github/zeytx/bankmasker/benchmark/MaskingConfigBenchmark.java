@@ -0,0 +1,95 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the {@link MaskingConfig} read path: the settings a serializer needs for
+ * one field, read through the individual getters against one {@link MaskingConfig#snapshot()},
+ * alone and with a writer thread updating the config concurrently.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskingConfigBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskingConfigBenchmark {
+
+    private final MaskingConfig config = MaskingConfig.create();
+
+    @Benchmark
+    public void getters(Blackhole bh) {
+        readGetters(bh);
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole bh) {
+        readSnapshot(bh);
+    }
+
+    @Benchmark
+    @Group("gettersContended")
+    @GroupThreads(3)
+    public void gettersReader(Blackhole bh) {
+        readGetters(bh);
+    }
+
+    @Benchmark
+    @Group("gettersContended")
+    @GroupThreads(1)
+    public MaskingConfig gettersWriter() {
+        return config.update(s -> s.withEnabled(true));
+    }
+
+    @Benchmark
+    @Group("snapshotContended")
+    @GroupThreads(3)
+    public void snapshotReader(Blackhole bh) {
+        readSnapshot(bh);
+    }
+
+    @Benchmark
+    @Group("snapshotContended")
+    @GroupThreads(1)
+    public MaskingConfig snapshotWriter() {
+        return config.update(s -> s.withEnabled(true));
+    }
+
+    private void readGetters(Blackhole bh) {
+        bh.consume(config.isEnabled());
+        bh.consume(config.isTypeEnabled(MaskType.IBAN));
+        bh.consume(config.getAuditLogger());
+        bh.consume(config.getLatencyRecorder());
+        bh.consume(config.getDefaultMaskChar());
+    }
+
+    private void readSnapshot(Blackhole bh) {
+        MaskingConfig.Snapshot s = config.snapshot();
+        bh.consume(s.isEnabled());
+        bh.consume(s.isTypeEnabled(MaskType.IBAN));
+        bh.consume(s.getAuditLogger());
+        bh.consume(s.getLatencyRecorder());
+        bh.consume(s.getDefaultMaskChar());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskingConfigBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
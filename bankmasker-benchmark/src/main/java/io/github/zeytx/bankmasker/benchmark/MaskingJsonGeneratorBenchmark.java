@@ -0,0 +1,120 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskedFieldNames;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingJsonGenerator;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing a plain generator with {@link MaskingJsonGenerator}
+ * on a large {@code Map<String, Object>} payload and its {@code JsonNode} tree, filled from
+ * the seeded {@link BankingCorpus}.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskingJsonGeneratorBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskingJsonGeneratorBenchmark {
+
+    private static final MaskedFieldNames NAMES = MaskedFieldNames.builder()
+            .add("cardNumber", MaskType.CREDIT_CARD)
+            .add("iban", MaskType.IBAN)
+            .add("email", MaskType.EMAIL)
+            .add("phone", MaskType.PHONE)
+            .build();
+
+    /** Number of payment entries in the payload. */
+    @Param({"1000"})
+    private int entries;
+
+    private ObjectMapper plainMapper;
+    private ObjectMapper moduleMapper;
+    private ObjectMapper decoratedMapper;
+    private Map<String, Object> payload;
+    private JsonNode tree;
+
+    @Setup
+    public void setup() {
+        plainMapper = new ObjectMapper();
+        moduleMapper = new ObjectMapper()
+                .registerModule(new MaskingModule(MaskingConfig.create(), NAMES));
+        decoratedMapper = new ObjectMapper(JsonFactory.builder()
+                .addDecorator(MaskingJsonGenerator.decorator(NAMES, MaskingConfig.create()))
+                .build());
+
+        BankingCorpus corpus = new BankingCorpus();
+        List<Map<String, Object>> payments = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            Map<String, Object> payment = new LinkedHashMap<>();
+            payment.put("id", i);
+            payment.put("cardNumber", corpus.pan());
+            payment.put("iban", corpus.iban());
+            payment.put("email", corpus.email());
+            payment.put("phone", corpus.phone());
+            payment.put("currency", "EUR");
+            payment.put("reference", corpus.reference());
+            payment.put("description", "Monthly subscription");
+            payments.add(payment);
+        }
+        payload = new LinkedHashMap<>();
+        payload.put("batch", "2024-01");
+        payload.put("payments", payments);
+        tree = plainMapper.valueToTree(payload);
+    }
+
+    @Benchmark
+    public String mapPlain() throws JsonProcessingException {
+        return plainMapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public String mapWithModule() throws JsonProcessingException {
+        return moduleMapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public String mapWithDecorator() throws JsonProcessingException {
+        return decoratedMapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public String treePlain() throws JsonProcessingException {
+        return plainMapper.writeValueAsString(tree);
+    }
+
+    @Benchmark
+    public String treeWithModule() throws JsonProcessingException {
+        return moduleMapper.writeValueAsString(tree);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskingJsonGeneratorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
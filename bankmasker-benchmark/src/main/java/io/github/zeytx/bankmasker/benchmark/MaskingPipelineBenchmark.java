@@ -0,0 +1,116 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingPipeline;
+import io.github.zeytx.bankmasker.MaskingPipeline.Normalizer;
+import io.github.zeytx.bankmasker.MaskingPipeline.Validator;
+import io.github.zeytx.bankmasker.MaskingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing fused {@link MaskingPipeline}s with chaining today's building
+ * blocks: a regex to normalize, a validation over the resulting string, then the
+ * {@link MaskType} strategy.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskingPipelineBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaskingPipelineBenchmark {
+
+    private static final String CARD = "4111 1111 1111 1111";
+    private static final String IBAN = "ES66 2100 0418 4012 3456 7891";
+    private static final BigInteger NINETY_SEVEN = BigInteger.valueOf(97);
+
+    private final MaskingConfig config = MaskingConfig.create();
+
+    private final MaskingStrategy cardPipeline = MaskingPipeline.builder()
+            .normalize(Normalizer.DIGITS)
+            .validate(Validator.LUHN)
+            .mask("****-****-****-####")
+            .build();
+
+    private final MaskingStrategy ibanPipeline = MaskingPipeline.builder()
+            .normalize(Normalizer.ALPHANUMERIC_UPPER)
+            .validate(Validator.IBAN)
+            .mask("##*+####")
+            .build();
+
+    @Benchmark
+    public String creditCardChained() {
+        String digits = CARD.replaceAll("\\D", "");
+        if (!luhn(digits)) {
+            return MaskType.TOTAL.getStrategy().mask(digits, config);
+        }
+        return MaskType.CREDIT_CARD.getStrategy().mask(digits, config);
+    }
+
+    @Benchmark
+    public String creditCardPipeline() {
+        return cardPipeline.mask(CARD, config);
+    }
+
+    @Benchmark
+    public String ibanChained() {
+        String clean = IBAN.replaceAll("\\s", "").toUpperCase();
+        if (!iban(clean)) {
+            return MaskType.TOTAL.getStrategy().mask(clean, config);
+        }
+        return MaskType.IBAN.getStrategy().mask(clean, config);
+    }
+
+    @Benchmark
+    public String ibanPipeline() {
+        return ibanPipeline.mask(IBAN, config);
+    }
+
+    /** Typical string-based Luhn check. */
+    private static boolean luhn(String digits) {
+        int sum = 0;
+        boolean doubled = false;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int d = digits.charAt(i) - '0';
+            if (doubled) {
+                d = d * 2 > 9 ? d * 2 - 9 : d * 2;
+            }
+            sum += d;
+            doubled = !doubled;
+        }
+        return digits.length() > 1 && sum % 10 == 0;
+    }
+
+    /** Typical string-based IBAN check: rearrange, expand letters, mod 97. */
+    private static boolean iban(String iban) {
+        if (!iban.matches("[A-Z]{2}[0-9]{2}[A-Z0-9]{11,30}")) {
+            return false;
+        }
+        String rearranged = iban.substring(4) + iban.substring(0, 4);
+        StringBuilder numeric = new StringBuilder();
+        for (char c : rearranged.toCharArray()) {
+            numeric.append(Character.getNumericValue(c));
+        }
+        return new BigInteger(numeric.toString()).mod(NINETY_SEVEN).intValue() == 1;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskingPipelineBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.MaskingPolicy;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks measuring per-call {@link MaskingPolicy} selection under
+ * mixed-policy concurrent traffic.
+ *
+ * <p>Each thread replays its own random sequence of policies against writers
+ * pre-built with {@link MaskingModule#withPolicy}, and is compared with a
+ * single-policy baseline on the same mapper.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskingPolicyBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class MaskingPolicyBenchmark {
+
+    private static final int SEQUENCE_LENGTH = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Writers {
+        ObjectWriter defaultWriter;
+        ObjectWriter[] policyWriters;
+        MaskingSerializerBenchmark.MaskedDTO dto;
+
+        @Setup
+        public void setup() {
+            ObjectMapper mapper = new ObjectMapper();
+            defaultWriter = mapper.writer();
+            MaskingPolicy[] policies = MaskingPolicy.values();
+            policyWriters = new ObjectWriter[policies.length];
+            for (MaskingPolicy policy : policies) {
+                policyWriters[policy.ordinal()] = MaskingModule.withPolicy(mapper.writer(), policy);
+            }
+            dto = MaskingSerializerBenchmark.MaskedDTO.of(new BankingCorpus());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Traffic {
+        int[] sequence;
+        int cursor;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(Thread.currentThread().getId());
+            sequence = new int[SEQUENCE_LENGTH];
+            for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+                sequence[i] = random.nextInt(MaskingPolicy.values().length);
+            }
+        }
+
+        int next() {
+            int policy = sequence[cursor];
+            cursor = (cursor + 1) & (SEQUENCE_LENGTH - 1);
+            return policy;
+        }
+    }
+
+    @Benchmark
+    public String defaultPolicy(Writers writers) throws Exception {
+        return writers.defaultWriter.writeValueAsString(writers.dto);
+    }
+
+    @Benchmark
+    public String mixedPolicies(Writers writers, Traffic traffic) throws Exception {
+        return writers.policyWriters[traffic.next()].writeValueAsString(writers.dto);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskingPolicyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
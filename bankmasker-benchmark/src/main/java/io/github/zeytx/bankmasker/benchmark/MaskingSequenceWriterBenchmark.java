@@ -0,0 +1,128 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.MaskingSequenceWriter;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-shot JMH benchmark exporting 10M masked records through {@link MaskingSequenceWriter}
+ * into a discarding stream. The records cycle through {@value #VALUES} values of each masked
+ * field drawn from the seeded {@link BankingCorpus}.
+ *
+ * <p>Besides the run time, every million records it prints the records/sec so far and the
+ * used heap right after a batch, which stays flat for the whole export. Add {@code -prof gc}
+ * for allocation rates.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar MaskingSequenceWriterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class MaskingSequenceWriterBenchmark {
+
+    static final int VALUES = 1024;
+
+    public static class PaymentDTO {
+        public long id;
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber;
+        @MaskData(MaskType.IBAN)
+        public String iban;
+        @MaskData(MaskType.EMAIL)
+        public String email;
+        public String currency = "EUR";
+        public long amountCents;
+    }
+
+    /** Discards everything, like a fast network peer. */
+    private static final class NullOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+
+    @Param({"10000000"})
+    private long records;
+
+    @Param({"10000"})
+    private int batchSize;
+
+    private ObjectMapper mapper;
+    private String[] cards;
+    private String[] ibans;
+    private String[] emails;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper().registerModule(new MaskingModule(MaskingConfig.create()));
+        BankingCorpus corpus = new BankingCorpus();
+        cards = corpus.values(MaskType.CREDIT_CARD, VALUES);
+        ibans = corpus.values(MaskType.IBAN, VALUES);
+        emails = corpus.values(MaskType.EMAIL, VALUES);
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        MaskingSequenceWriter writer = MaskingSequenceWriter.builder(mapper.writer())
+                .type(PaymentDTO.class)
+                .batchSize(batchSize)
+                .progressListener(this::report)
+                .open(new NullOutputStream());
+        try (writer) {
+            for (long i = 0; i < records; i++) {
+                PaymentDTO payment = new PaymentDTO();
+                payment.id = i;
+                payment.amountCents = i % 100_000;
+                int value = (int) i & (VALUES - 1);
+                payment.cardNumber = cards[value];
+                payment.iban = ibans[value];
+                payment.email = emails[value];
+                writer.write(payment);
+            }
+        }
+        System.out.printf("%n%,d records, %,d bytes, %,.0f records/sec%n",
+                writer.getRecordsWritten(), writer.getBytesWritten(), writer.getRecordsPerSecond());
+        return writer.getBytesWritten();
+    }
+
+    private void report(MaskingSequenceWriter writer) {
+        if (writer.getRecordsWritten() % 1_000_000 == 0) {
+            System.out.printf("%n%,12d records  %,10.0f records/sec  heap used %,6d KB",
+                    writer.getRecordsWritten(), writer.getRecordsPerSecond(),
+                    memory.getHeapMemoryUsage().getUsed() / 1024);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(MaskingSequenceWriterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -3,6 +3,7 @@ package io.github.zeytx.bankmasker.benchmark;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.zeytx.bankmasker.MaskData;
 import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -12,7 +13,9 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import java.util.concurrent.TimeUnit;
 
 /**
- * JMH benchmarks measuring BankMasker serialization overhead.
+ * JMH benchmarks measuring BankMasker serialization overhead. Each invocation serializes the
+ * next of {@value #VALUES} DTOs filled from the seeded {@link BankingCorpus}. Compiling the
+ * paths of all their values takes longer than 3 warmup iterations on a single core.
  *
  * <p>Run with:
  * <pre>
@@ -22,88 +25,137 @@ import java.util.concurrent.TimeUnit;
 @BenchmarkMode(Mode.Throughput)
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 @State(Scope.Thread)
-@Warmup(iterations = 3, time = 1)
+@Warmup(iterations = 5, time = 1)
 @Measurement(iterations = 5, time = 1)
 @Fork(1)
 public class MaskingSerializerBenchmark {
 
+    static final int VALUES = 1024;
+
     private ObjectMapper mapper;
-    private MaskedDTO maskedDto;
-    private PlainDTO plainDto;
+    private MaskedDTO[] maskedDtos;
+    private PlainDTO[] plainDtos;
+    private SingleCardDTO[] singleCardDtos;
+    private int next;
 
     // DTO with masking annotations
     public static class MaskedDTO {
         @MaskData(MaskType.CREDIT_CARD)
-        public String cardNumber = "4111111111111111";
+        public String cardNumber;
 
         @MaskData(MaskType.EMAIL)
-        public String email = "john.doe@example.com";
+        public String email;
 
         @MaskData(MaskType.PHONE)
-        public String phone = "+525512345678";
+        public String phone;
 
         @MaskData(MaskType.DNI)
-        public String dni = "ABCD123456";
+        public String dni;
 
         @MaskData(MaskType.IBAN)
-        public String iban = "ES6621000418401234567891";
+        public String iban;
 
         @MaskData(MaskType.SSN)
-        public String ssn = "123-45-6789";
+        public String ssn;
 
         @MaskData(MaskType.NAME)
-        public String name = "John Doe";
+        public String name;
 
         @MaskData(MaskType.PASSPORT)
-        public String passport = "AB1234567";
+        public String passport;
 
         @MaskData(MaskType.BANK_ACCOUNT)
-        public String bankAccount = "12345678901234";
+        public String bankAccount;
 
         @MaskData(MaskType.IP_ADDRESS)
-        public String ip = "192.168.1.100";
-
-        public String plainField = "this is not masked";
+        public String ip;
+
+        public String plainField;
+
+        /** Fills every field with the next values from {@code corpus}. */
+        static MaskedDTO of(BankingCorpus corpus) {
+            MaskedDTO dto = new MaskedDTO();
+            dto.cardNumber = corpus.pan();
+            dto.email = corpus.email();
+            dto.phone = corpus.phone();
+            dto.dni = corpus.nationalId();
+            dto.iban = corpus.iban();
+            dto.ssn = corpus.ssn();
+            dto.name = corpus.name();
+            dto.passport = corpus.passport();
+            dto.bankAccount = corpus.bankAccount();
+            dto.ip = corpus.ipAddress();
+            dto.plainField = corpus.reference();
+            return dto;
+        }
     }
 
     // DTO without masking — baseline
     public static class PlainDTO {
-        public String cardNumber = "4111111111111111";
-        public String email = "john.doe@example.com";
-        public String phone = "+525512345678";
-        public String dni = "ABCD123456";
-        public String iban = "ES6621000418401234567891";
-        public String ssn = "123-45-6789";
-        public String name = "John Doe";
-        public String passport = "AB1234567";
-        public String bankAccount = "12345678901234";
-        public String ip = "192.168.1.100";
-        public String plainField = "this is not masked";
+        public String cardNumber;
+        public String email;
+        public String phone;
+        public String dni;
+        public String iban;
+        public String ssn;
+        public String name;
+        public String passport;
+        public String bankAccount;
+        public String ip;
+        public String plainField;
+
+        /** Copies the values of {@code masked}, so both DTOs serialize the same data. */
+        static PlainDTO of(MaskedDTO masked) {
+            PlainDTO dto = new PlainDTO();
+            dto.cardNumber = masked.cardNumber;
+            dto.email = masked.email;
+            dto.phone = masked.phone;
+            dto.dni = masked.dni;
+            dto.iban = masked.iban;
+            dto.ssn = masked.ssn;
+            dto.name = masked.name;
+            dto.passport = masked.passport;
+            dto.bankAccount = masked.bankAccount;
+            dto.ip = masked.ip;
+            dto.plainField = masked.plainField;
+            return dto;
+        }
+    }
+
+    // DTO with a single masked field, created up front so the benchmark measures serialization only
+    public static class SingleCardDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public String card;
     }
 
     @Setup
     public void setup() {
         mapper = new ObjectMapper();
-        maskedDto = new MaskedDTO();
-        plainDto = new PlainDTO();
+        BankingCorpus corpus = new BankingCorpus();
+        maskedDtos = new MaskedDTO[VALUES];
+        plainDtos = new PlainDTO[VALUES];
+        singleCardDtos = new SingleCardDTO[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            maskedDtos[i] = MaskedDTO.of(corpus);
+            plainDtos[i] = PlainDTO.of(maskedDtos[i]);
+            singleCardDtos[i] = new SingleCardDTO();
+            singleCardDtos[i].card = corpus.pan();
+        }
     }
 
     @Benchmark
     public String serializeWithMasking() throws Exception {
-        return mapper.writeValueAsString(maskedDto);
+        return mapper.writeValueAsString(maskedDtos[next++ & (VALUES - 1)]);
     }
 
     @Benchmark
     public String serializeWithoutMasking() throws Exception {
-        return mapper.writeValueAsString(plainDto);
+        return mapper.writeValueAsString(plainDtos[next++ & (VALUES - 1)]);
     }
 
     @Benchmark
     public String serializeSingleCreditCard() throws Exception {
-        return mapper.writeValueAsString(new Object() {
-            @MaskData(MaskType.CREDIT_CARD)
-            public final String card = "4111111111111111";
-        });
+        return mapper.writeValueAsString(singleCardDtos[next++ & (VALUES - 1)]);
     }
 
     public static void main(String[] args) throws RunnerException {
@@ -0,0 +1,155 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.ParallelMaskingWriter;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks serializing a 1M-element masked list with {@link ParallelMaskingWriter}
+ * on pools of 1 to 8 threads, against Jackson's single-threaded {@code writeValue}. The
+ * elements cycle through {@value #VALUES} values of each masked field from the seeded
+ * {@link BankingCorpus}.
+ *
+ * <p>Output goes to a discarding gathering channel, so the numbers reflect serialization
+ * and masking only. Speedup is bounded by the cores of the machine running the benchmark.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar ParallelMaskingWriterBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelMaskingWriterBenchmark {
+
+    static final int VALUES = 1024;
+
+    public static class TransactionDTO {
+        public long id;
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber;
+        @MaskData(MaskType.IBAN)
+        public String counterpartyIban;
+        @MaskData(MaskType.NAME)
+        public String holder;
+        public String merchant;
+        public long amountCents;
+        public String currency = "EUR";
+    }
+
+    /** Discards everything while reporting the bytes as written. */
+    private static final class NullChannel implements GatheringByteChannel {
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long n = 0;
+            for (int i = offset; i < offset + length; i++) {
+                n += srcs[i].remaining();
+                srcs[i].position(srcs[i].limit());
+            }
+            return n;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private ObjectMapper mapper;
+    private List<TransactionDTO> transactions;
+    private ForkJoinPool pool;
+    private ParallelMaskingWriter parallel;
+    private final NullChannel channel = new NullChannel();
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper().registerModule(new MaskingModule(MaskingConfig.create()));
+        BankingCorpus corpus = new BankingCorpus();
+        String[] cards = corpus.values(MaskType.CREDIT_CARD, VALUES);
+        String[] ibans = corpus.values(MaskType.IBAN, VALUES);
+        String[] names = corpus.values(MaskType.NAME, VALUES);
+        transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TransactionDTO tx = new TransactionDTO();
+            tx.id = i;
+            tx.cardNumber = cards[i & (VALUES - 1)];
+            tx.counterpartyIban = ibans[i & (VALUES - 1)];
+            tx.holder = names[i & (VALUES - 1)];
+            tx.merchant = "Merchant " + (i % 100);
+            tx.amountCents = 100 + i % 10_000;
+            transactions.add(tx);
+        }
+        pool = new ForkJoinPool(threads);
+        parallel = ParallelMaskingWriter.builder(mapper.writer())
+                .type(TransactionDTO.class)
+                .executor(pool)
+                .maxInFlight(threads * 2)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void jacksonSingleThreaded() throws IOException {
+        mapper.writeValue(Channels.newOutputStream(channel), transactions);
+    }
+
+    @Benchmark
+    public long parallelChunked() throws IOException {
+        return parallel.writeArray(transactions, channel);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ParallelMaskingWriterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.benchmark.MaskingSerializerBenchmark.MaskedDTO;
+import io.github.zeytx.bankmasker.benchmark.MaskingSerializerBenchmark.PlainDTO;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of how serialization with masking scales with the payload: DTOs with 1 or
+ * 11 fields, in lists of 1 to 10,000 records, masked and unmasked. Every record holds
+ * different values from the seeded {@link BankingCorpus}.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar PayloadScalingBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadScalingBenchmark {
+
+    @Param({"1", "11"})
+    public int fields;
+
+    @Param({"1", "100", "10000"})
+    public int records;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private List<Object> masked;
+    private List<Object> plain;
+
+    public static class MaskedCardDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber;
+    }
+
+    public static class PlainCardDTO {
+        public String cardNumber;
+    }
+
+    @Setup
+    public void setUp() {
+        BankingCorpus corpus = new BankingCorpus();
+        masked = new ArrayList<>(records);
+        plain = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            if (fields == 1) {
+                MaskedCardDTO maskedCard = new MaskedCardDTO();
+                PlainCardDTO plainCard = new PlainCardDTO();
+                maskedCard.cardNumber = plainCard.cardNumber = corpus.pan();
+                masked.add(maskedCard);
+                plain.add(plainCard);
+            } else {
+                MaskedDTO maskedDto = MaskedDTO.of(corpus);
+                masked.add(maskedDto);
+                plain.add(PlainDTO.of(maskedDto));
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] masked() throws Exception {
+        return mapper.writeValueAsBytes(masked);
+    }
+
+    @Benchmark
+    public byte[] plain() throws Exception {
+        return mapper.writeValueAsBytes(plain);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PayloadScalingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
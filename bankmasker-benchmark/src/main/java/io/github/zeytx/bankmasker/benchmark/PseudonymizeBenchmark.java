@@ -0,0 +1,91 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingStrategy;
+import io.github.zeytx.bankmasker.Pseudonymizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH throughput benchmarks for {@link MaskType#PSEUDONYMIZE}: the naive approach of a
+ * {@code Mac.getInstance} and {@code init} per value, against the per-thread pooled
+ * {@link Mac} and the {@link Pseudonymizer#pseudonymizeAll(List, MaskingConfig) batch API}.
+ * Run it with {@code -t 4} to see how the approaches scale across threads.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar PseudonymizeBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PseudonymizeBenchmark {
+
+    private static final int BATCH = 1000;
+
+    private final byte[] key = "benchmark-pseudonymization-key!!".getBytes(StandardCharsets.US_ASCII);
+    private final MaskingConfig config = MaskingConfig.create().setPseudonymizationKey(key);
+    private final MaskingStrategy strategy = MaskType.PSEUDONYMIZE.getStrategy();
+    private final List<String> values = new ArrayList<>(BATCH);
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < BATCH; i++) {
+            values.add("ES66210004184012" + String.format("%08d", i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<String> macPerValue() throws GeneralSecurityException {
+        List<String> tokens = new ArrayList<>(BATCH);
+        for (String value : values) {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+            byte[] digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            tokens.add(Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)));
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<String> pooledPerValue() {
+        List<String> tokens = new ArrayList<>(BATCH);
+        for (String value : values) {
+            tokens.add(strategy.mask(value, config));
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<String> batch() {
+        return Pseudonymizer.pseudonymizeAll(values, config);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PseudonymizeBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.TenantMaskingConfigs;
+import io.github.zeytx.bankmasker.TenantMaskingWriters;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing two ways of serving per-tenant masking configurations:
+ * one {@code ObjectMapper} + {@link MaskingModule} per tenant, and a single shared
+ * mapper with a {@link TenantMaskingConfigs} table.
+ *
+ * <p>Besides throughput, each setup prints the heap retained by the tenant
+ * structures once every tenant has serialized a DTO (so serializer caches are warm).
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar TenantConfigBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantConfigBenchmark {
+
+    private static final char[] MASK_CHARS = {'*', '#', 'x', '•'};
+    private static final MaskType[][] TYPE_SETS = {
+            MaskType.values(),
+            {MaskType.CREDIT_CARD, MaskType.IBAN},
+            {MaskType.CREDIT_CARD, MaskType.EMAIL, MaskType.PHONE},
+    };
+
+    @Param({"2000"})
+    public int tenants;
+
+    private String[] tenantIds;
+    private ObjectWriter[] mapperPerTenant;
+    private TenantMaskingWriters sharedMapper;
+    private MaskingSerializerBenchmark.MaskedDTO dto;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        dto = MaskingSerializerBenchmark.MaskedDTO.of(new BankingCorpus());
+        tenantIds = new String[tenants];
+        for (int i = 0; i < tenants; i++) {
+            tenantIds[i] = "tenant-" + i;
+        }
+
+        long before = retainedHeap();
+        mapperPerTenant = new ObjectWriter[tenants];
+        for (int i = 0; i < tenants; i++) {
+            ObjectMapper mapper = new ObjectMapper();
+            mapper.registerModule(new MaskingModule(MaskingConfig.create()
+                    .setDefaultMaskChar(maskChar(i))
+                    .setEnabledTypes(types(i))));
+            mapperPerTenant[i] = mapper.writer();
+            mapperPerTenant[i].writeValueAsString(dto);
+        }
+        long perTenant = retainedHeap() - before;
+
+        before = retainedHeap();
+        TenantMaskingConfigs.Builder builder = TenantMaskingConfigs.builder()
+                .defaultConfig(MaskingConfig.create());
+        for (int i = 0; i < tenants; i++) {
+            builder.tenant(tenantIds[i], maskChar(i), types(i));
+        }
+        sharedMapper = new TenantMaskingWriters(new ObjectMapper().writer(), builder.build());
+        for (String tenantId : tenantIds) {
+            sharedMapper.writerFor(tenantId).writeValueAsString(dto);
+        }
+        long shared = retainedHeap() - before;
+
+        System.out.printf("%nRetained heap for %d tenants: mapper-per-tenant=%,d bytes, shared-mapper=%,d bytes%n",
+                tenants, perTenant, shared);
+    }
+
+    @Benchmark
+    public String mapperPerTenant(Cursor cursor) throws Exception {
+        int tenant = nextTenant(cursor);
+        return mapperPerTenant[tenant].writeValueAsString(dto);
+    }
+
+    @Benchmark
+    public String sharedMapper(Cursor cursor) throws Exception {
+        int tenant = nextTenant(cursor);
+        return sharedMapper.writerFor(tenantIds[tenant]).writeValueAsString(dto);
+    }
+
+    private int nextTenant(Cursor cursor) {
+        // Stride through the tenants so consecutive calls hit different configs
+        cursor.next = (cursor.next + 7919) % tenants;
+        return cursor.next;
+    }
+
+    private static char maskChar(int tenant) {
+        return MASK_CHARS[new SplittableRandom(tenant).nextInt(MASK_CHARS.length)];
+    }
+
+    private static Set<MaskType> types(int tenant) {
+        MaskType[] types = TYPE_SETS[tenant % TYPE_SETS.length];
+        return EnumSet.of(types[0], types);
+    }
+
+    private static long retainedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TenantConfigBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.MaskingPolicy;
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import io.github.zeytx.bankmasker.corpus.Transaction;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks serializing batches of nested {@link Transaction} DTOs from the seeded
+ * {@link BankingCorpus}: varied card numbers, IBANs, phones, Unicode names and IPv4/IPv6
+ * addresses, masked and, as a baseline, with {@link MaskingPolicy#UNMASKED}.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar TransactionBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int records;
+
+    private ObjectWriter masked;
+    private ObjectWriter unmasked;
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper();
+        masked = mapper.writer();
+        unmasked = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED);
+        transactions = new BankingCorpus().transactions(records);
+    }
+
+    @Benchmark
+    public byte[] masked() throws Exception {
+        return masked.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public byte[] unmasked() throws Exception {
+        return unmasked.writeValueAsBytes(transactions);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(TransactionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of how masking scales with the length of the value, from 8 characters to
+ * 1 MB: {@link MaskUtils} with a type whose output is as long as its input
+ * ({@code BANK_ACCOUNT}), a custom mask, and serializing a DTO holding the value.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -jar bankmasker-benchmark/target/bankmasker-benchmark-1.0.0-SNAPSHOT.jar ValueLengthBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueLengthBenchmark {
+
+    @Param({"8", "64", "1024", "65536", "1048576"})
+    public int length;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private String value;
+    private Document masked;
+    private PlainDocument plain;
+
+    public static class Document {
+        @MaskData(MaskType.BANK_ACCOUNT)
+        public String payload;
+    }
+
+    public static class PlainDocument {
+        public String payload;
+    }
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('0' + i % 10));
+        }
+        value = sb.toString();
+        masked = new Document();
+        masked.payload = value;
+        plain = new PlainDocument();
+        plain.payload = value;
+    }
+
+    @Benchmark
+    public String maskBankAccount() {
+        return MaskUtils.mask(value, MaskType.BANK_ACCOUNT);
+    }
+
+    @Benchmark
+    public String maskCustom() {
+        return MaskUtils.mask(value, '*', 2, 4);
+    }
+
+    @Benchmark
+    public byte[] serializeMasked() throws Exception {
+        return mapper.writeValueAsBytes(masked);
+    }
+
+    @Benchmark
+    public byte[] serializePlain() throws Exception {
+        return mapper.writeValueAsBytes(plain);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(ValueLengthBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,288 @@
+package io.github.zeytx.bankmasker.benchmark;
+
+import io.github.zeytx.bankmasker.benchmark.BenchmarkComparator.Comparison;
+import io.github.zeytx.bankmasker.benchmark.BenchmarkComparator.Result;
+import io.github.zeytx.bankmasker.benchmark.BenchmarkComparator.Verdict;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BenchmarkComparator — benchmark regression gate")
+class BenchmarkComparatorTest {
+
+    private final BenchmarkComparator comparator = new BenchmarkComparator(0.05);
+
+    /** An average-time result (lower is better) with the given interval and no allocation data. */
+    private static Result avgt(double low, double high) {
+        return new Result("B.m [avgt]", "avgt", "ns/op", (low + high) / 2, low, high,
+                Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    private static Result thrpt(double low, double high) {
+        return new Result("B.m [thrpt]", "thrpt", "ops/ms", (low + high) / 2, low, high,
+                Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    private static Result withAllocation(Result result, double low, double high) {
+        return new Result(result.key(), result.mode(), result.unit(), result.score(), result.low(), result.high(),
+                (low + high) / 2, low, high);
+    }
+
+    private Comparison compare(Result baseline, Result current) {
+        List<Comparison> comparisons = comparator.compare(Map.of(baseline.key(), baseline),
+                Map.of(current.key(), current));
+        assertEquals(1, comparisons.size());
+        return comparisons.get(0);
+    }
+
+    /** One JMH JSON row, as written with {@code -rf json}. */
+    private static String row(String benchmark, String mode, String params, String score, String error,
+                              String low, String high) {
+        return """
+                {
+                  "benchmark": "%s",
+                  "mode": "%s",
+                  "params": {%s},
+                  "primaryMetric": {
+                    "score": %s,
+                    "scoreError": %s,
+                    "scoreConfidence": [%s, %s],
+                    "scoreUnit": "ns/op"
+                  },
+                  "secondaryMetrics": {
+                    "gc.alloc.rate.norm": {
+                      "score": 96.0,
+                      "scoreError": 0.001,
+                      "scoreConfidence": [95.999, 96.001],
+                      "scoreUnit": "B/op"
+                    }
+                  }
+                }""".formatted(benchmark, mode, params, score, error, low, high);
+    }
+
+    private static Map<String, Result> read(Path dir, String... rows) throws IOException {
+        Path file = dir.resolve("jmh-result.json");
+        Files.writeString(file, "[" + String.join(",", rows) + "]");
+        return BenchmarkComparator.read(file);
+    }
+
+    @Nested
+    @DisplayName("Reading JMH results")
+    class Reading {
+
+        @TempDir
+        Path dir;
+
+        @Test
+        @DisplayName("Keys drop the package and list parameters sorted by name")
+        void parameterisedKeys() throws IOException {
+            Map<String, Result> results = read(dir,
+                    row("io.github.zeytx.bankmasker.benchmark.MaskUtilsBenchmark.mask", "avgt",
+                            "\"type\": \"IBAN\", \"length\": \"16\"", "100.0", "2.0", "98.0", "102.0"),
+                    row("io.github.zeytx.bankmasker.benchmark.MaskUtilsBenchmark.mask", "avgt",
+                            "\"type\": \"EMAIL\", \"length\": \"16\"", "50.0", "1.0", "49.0", "51.0"));
+
+            assertEquals(List.of("MaskUtilsBenchmark.mask [avgt, length=16, type=IBAN]",
+                    "MaskUtilsBenchmark.mask [avgt, length=16, type=EMAIL]"), List.copyOf(results.keySet()));
+        }
+
+        @Test
+        @DisplayName("Keys without parameters hold the mode only")
+        void unparameterisedKey() throws IOException {
+            Map<String, Result> results = read(dir,
+                    row("io.github.zeytx.bankmasker.benchmark.MaskingSerializerBenchmark.serializeWithMasking",
+                            "thrpt", "", "100.0", "2.0", "98.0", "102.0"));
+
+            assertTrue(results.containsKey("MaskingSerializerBenchmark.serializeWithMasking [thrpt]"));
+        }
+
+        @Test
+        @DisplayName("Score, interval and allocation are read")
+        void values() throws IOException {
+            Result result = read(dir, row("p.B.m", "avgt", "", "100.0", "2.0", "98.0", "102.0"))
+                    .get("B.m [avgt]");
+
+            assertEquals(100.0, result.score());
+            assertEquals(98.0, result.low());
+            assertEquals(102.0, result.high());
+            assertEquals(0.02, result.relativeError(), 1e-9);
+            assertEquals(96.0, result.allocation());
+            assertEquals(95.999, result.allocationLow());
+        }
+
+        @Test
+        @DisplayName("A NaN score error means an unknown interval, not a zero one")
+        void nanErrorIsUnknown() throws IOException {
+            Result result = read(dir, row("p.B.m", "avgt", "", "100.0", "\"NaN\"", "\"NaN\"", "\"NaN\""))
+                    .get("B.m [avgt]");
+
+            assertTrue(Double.isNaN(result.low()));
+            assertTrue(Double.isNaN(result.relativeError()));
+            assertTrue(comparator.noisy(result));
+        }
+    }
+
+    @Nested
+    @DisplayName("Score verdicts")
+    class Scores {
+
+        @Test
+        @DisplayName("Overlapping intervals are unchanged, however far apart the means")
+        void overlap() {
+            Comparison c = compare(avgt(91, 109), avgt(100, 118));
+
+            assertEquals(Verdict.UNCHANGED, c.verdict());
+            assertFalse(c.failed(false));
+        }
+
+        @Test
+        @DisplayName("An interval just within the tolerance is unchanged")
+        void withinTolerance() {
+            // Baseline high 110, widened by 5%: 115.5
+            assertEquals(Verdict.UNCHANGED, compare(avgt(100, 110), avgt(115.4, 125.4)).verdict());
+        }
+
+        @Test
+        @DisplayName("An interval just beyond the tolerance is a regression")
+        void beyondTolerance() {
+            Comparison c = compare(avgt(100, 110), avgt(115.6, 125.6));
+
+            assertEquals(Verdict.REGRESSED, c.verdict());
+            assertTrue(c.failed(true));
+        }
+
+        @Test
+        @DisplayName("Lower average time is an improvement")
+        void averageTimeImproved() {
+            assertEquals(Verdict.IMPROVED, compare(avgt(100, 110), avgt(80, 90)).verdict());
+        }
+
+        @Test
+        @DisplayName("Lower throughput is a regression, higher an improvement")
+        void throughput() {
+            assertEquals(Verdict.REGRESSED, compare(thrpt(100, 110), thrpt(80, 90)).verdict());
+            assertEquals(Verdict.IMPROVED, compare(thrpt(100, 110), thrpt(120, 130)).verdict());
+        }
+
+        @Test
+        @DisplayName("A current result beyond the error bound is noisy and fails")
+        void noisyCurrent() {
+            Comparison c = compare(avgt(100, 110), avgt(100, 124));
+
+            assertEquals(Verdict.NOISY, c.verdict());
+            assertTrue(c.failed(true));
+        }
+
+        @Test
+        @DisplayName("A noisy baseline cannot hide a regression")
+        void noisyBaseline() {
+            // Baseline 231 +/- 180: any result would overlap it
+            assertEquals(Verdict.NOISY, compare(thrpt(51, 411), thrpt(20, 21)).verdict());
+        }
+
+        @Test
+        @DisplayName("The error bound is configurable")
+        void maxError() {
+            BenchmarkComparator lenient = new BenchmarkComparator(0.05, 0.5);
+
+            assertFalse(lenient.noisy(avgt(100, 124)));
+            assertThrows(IllegalArgumentException.class, () -> new BenchmarkComparator(0.05, 0));
+            assertThrows(IllegalArgumentException.class, () -> new BenchmarkComparator(-0.01));
+        }
+    }
+
+    @Nested
+    @DisplayName("Allocation verdicts")
+    class Allocation {
+
+        @Test
+        @DisplayName("Up to 8 B/op more is within the slack")
+        void withinSlack() {
+            Comparison c = compare(withAllocation(avgt(100, 110), 96, 96),
+                    withAllocation(avgt(100, 110), 104, 104));
+
+            assertEquals(Verdict.UNCHANGED, c.allocationVerdict());
+        }
+
+        @Test
+        @DisplayName("More than the slack above the tolerance is a regression")
+        void beyondSlack() {
+            // 96 B/op widened by 5% and 8 B: 108.8
+            Comparison c = compare(withAllocation(avgt(100, 110), 96, 96),
+                    withAllocation(avgt(100, 110), 108.9, 108.9));
+
+            assertEquals(Verdict.UNCHANGED, c.verdict());
+            assertEquals(Verdict.REGRESSED, c.allocationVerdict());
+            assertTrue(c.failed(false));
+        }
+
+        @Test
+        @DisplayName("Allocation is ignored when either run had no GC profiler")
+        void noProfiler() {
+            assertEquals(Verdict.UNCHANGED,
+                    compare(withAllocation(avgt(100, 110), 96, 96), avgt(100, 110)).allocationVerdict());
+        }
+
+        @Test
+        @DisplayName("Allocation without an interval is noisy")
+        void noInterval() {
+            Result single = new Result("B.m [avgt]", "avgt", "ns/op", 105, 100, 110, 96, Double.NaN, Double.NaN);
+            Comparison c = compare(withAllocation(avgt(100, 110), 96, 96), single);
+
+            assertEquals(Verdict.NOISY, c.allocationVerdict());
+            assertTrue(c.failed(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("New and missing benchmarks")
+    class NewAndMissing {
+
+        @Test
+        @DisplayName("A benchmark only in the current run is new and passes")
+        void newBenchmark() {
+            Result added = avgt(100, 110);
+            Comparison c = comparator.compare(Map.of(), Map.of(added.key(), added)).get(0);
+
+            assertEquals(Verdict.NEW, c.verdict());
+            assertFalse(c.failed(false));
+        }
+
+        @Test
+        @DisplayName("A benchmark missing from the current run fails unless allowed")
+        void missingBenchmark() {
+            Result removed = avgt(100, 110);
+            Comparison c = comparator.compare(Map.of(removed.key(), removed), Map.of()).get(0);
+
+            assertEquals(Verdict.MISSING, c.verdict());
+            assertTrue(c.failed(false));
+            assertFalse(c.failed(true));
+        }
+
+        @Test
+        @DisplayName("The report lists failures first and counts each kind")
+        void report() {
+            Map<String, Result> baseline = new LinkedHashMap<>();
+            baseline.put("A [avgt]", new Result("A [avgt]", "avgt", "ns/op", 105, 100, 110,
+                    Double.NaN, Double.NaN, Double.NaN));
+            baseline.put("B [avgt]", new Result("B [avgt]", "avgt", "ns/op", 105, 100, 110,
+                    Double.NaN, Double.NaN, Double.NaN));
+            Map<String, Result> current = Map.of("A [avgt]", baseline.get("A [avgt]"));
+
+            String report = comparator.report(comparator.compare(baseline, current));
+
+            assertTrue(report.contains("2 benchmarks, 0 regressed, 0 noisy, 1 missing"), report);
+            assertTrue(report.indexOf("**MISSING**") < report.indexOf("| unchanged |"), report);
+        }
+    }
+}
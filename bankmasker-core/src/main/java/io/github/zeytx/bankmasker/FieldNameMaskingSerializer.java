@@ -0,0 +1,86 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+
+import java.io.IOException;
+
+/**
+ * Wraps a map or tree serializer so that its output goes through a
+ * {@link MaskingJsonGenerator}. Installed by {@link MaskingModule} when it is
+ * given {@link MaskedFieldNames}.
+ *
+ * @since 1.1.0
+ */
+final class FieldNameMaskingSerializer extends JsonSerializer<Object>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    private final JsonSerializer<Object> delegate;
+    private final MaskedFieldNames fieldNames;
+
+    @SuppressWarnings("unchecked")
+    FieldNameMaskingSerializer(JsonSerializer<?> delegate, MaskedFieldNames fieldNames) {
+        this.delegate = (JsonSerializer<Object>) delegate;
+        this.fieldNames = fieldNames;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        delegate.serialize(value, wrap(gen, provider), provider);
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSer) throws IOException {
+        delegate.serializeWithType(value, wrap(gen, provider), provider, typeSer);
+    }
+
+    private JsonGenerator wrap(JsonGenerator gen, SerializerProvider provider) {
+        // Already wrapped by an enclosing map, or the caller may see everything
+        MaskingPolicy policy = MaskingModule.resolvePolicy(provider);
+        if (gen instanceof MaskingJsonGenerator || policy == MaskingPolicy.UNMASKED) {
+            return gen;
+        }
+        return new MaskingJsonGenerator(gen, fieldNames, MaskingModule.resolveConfig(provider), policy);
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        if (delegate instanceof ContextualSerializer contextual) {
+            JsonSerializer<?> resolved = contextual.createContextual(prov, property);
+            if (resolved != delegate) {
+                return new FieldNameMaskingSerializer(resolved, fieldNames);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Object value) {
+        return delegate.isEmpty(provider, value);
+    }
+
+    @Override
+    public boolean usesObjectId() {
+        return delegate.usesObjectId();
+    }
+
+    @Override
+    public Class<Object> handledType() {
+        return delegate.handledType();
+    }
+}
@@ -0,0 +1,651 @@
+package io.github.zeytx.bankmasker;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+
+/**
+ * Reversible, format-preserving tokenization of card and account numbers with FF1 or FF3-1
+ * (NIST SP 800-38G) over AES.
+ *
+ * <p>Digits are encrypted in place; any other character (spaces, dashes) is kept where it
+ * is, so a token has exactly the format of its value. The last digits can be left in clear
+ * with {@link Builder#preserveLast(int)}, and {@link Builder#luhn(boolean)} keeps tokens of
+ * card numbers Luhn-valid by cycle walking, so downstream validators still accept them:
+ * <pre>{@code
+ * FormatPreservingTokenizer cards = FormatPreservingTokenizer.builder()
+ *     .key(aesKey)              // 16, 24 or 32 bytes
+ *     .tweak(tweak)             // optional
+ *     .preserveLast(4)
+ *     .luhn(true)
+ *     .build();
+ *
+ * String token = cards.tokenize("4111 1111 1111 1111");   // e.g. "7032 9154 6620 1111"
+ * cards.detokenize(token);                                 // "4111 1111 1111 1111"
+ * }</pre>
+ *
+ * <p>{@link Algorithm#FF1} is the default. NIST's revision of SP 800-38G drops FF3-1 and keeps
+ * FF1, so new tokens should use FF1; {@link Algorithm#FF3_1} remains selectable to read and
+ * produce tokens created with it. The two produce different tokens for the same key.
+ *
+ * <p>Between 6 and 32 digits are encrypted, which keeps the whole Feistel round on
+ * {@code long} arithmetic. Each thread keeps its own {@link Cipher} with the expanded AES key
+ * schedule, initialized once, and the working buffers shared with {@link MaskPattern}, so
+ * tokenizing a value allocates only its result. FF1 costs ten AES blocks per value and
+ * FF3-1 eight, once FF1's per-length prefix, which depends only on the key, tweak and digit
+ * count, has been computed.
+ *
+ * <p>As a {@link MaskingStrategy}, values that cannot be tokenized are fully masked like
+ * {@link MaskType#TOTAL}. Everything runs offline: no key service is involved.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @since 1.1.0
+ */
+public final class FormatPreservingTokenizer implements MaskingStrategy {
+
+    /** Minimum number of encrypted digits, so that the domain has at least a million values. */
+    public static final int MIN_DIGITS = 6;
+
+    /** Maximum number of encrypted digits. */
+    public static final int MAX_DIGITS = 32;
+
+    /** Maximum length of an FF1 tweak, in bytes. */
+    public static final int MAX_FF1_TWEAK = 256;
+
+    private static final long[] POW10 = new long[MAX_DIGITS / 2 + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Format-preserving encryption mode.
+     */
+    public enum Algorithm {
+
+        /** FF1, the mode kept by the current revision of NIST SP 800-38G, with a tweak of any length. */
+        FF1,
+
+        /**
+         * FF3-1 from NIST SP 800-38G Rev. 1, with a 7-byte tweak. Dropped by NIST's revision of
+         * the standard; use it only for tokens that already exist.
+         */
+        FF3_1
+    }
+
+    private final Algorithm algorithm;
+    private final int preserveLast;
+    private final boolean luhn;
+    private final ThreadLocal<FeistelCipher> ciphers;
+
+    private FormatPreservingTokenizer(Builder builder) {
+        this.algorithm = builder.algorithm;
+        this.preserveLast = builder.preserveLast;
+        this.luhn = builder.luhn;
+        byte[] tweak = builder.tweak;
+        if (algorithm == Algorithm.FF1) {
+            SecretKeySpec spec = new SecretKeySpec(builder.key, "AES");
+            byte[] t = tweak != null ? tweak : new byte[0];
+            this.ciphers = ThreadLocal.withInitial(() -> new Ff1Cipher(spec, t));
+        } else {
+            // FF3-1 runs AES under the byte-reversed key
+            byte[] key = new byte[builder.key.length];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = builder.key[key.length - 1 - i];
+            }
+            SecretKeySpec spec = new SecretKeySpec(key, "AES");
+            byte[] t = tweak != null ? tweak : new byte[7];
+            int tweakLeft;
+            int tweakRight;
+            if (t.length == 8) {
+                // 64-bit FF3 tweak, see Builder#ff3Tweak
+                tweakLeft = bigEndian(t[0], t[1], t[2], t[3]);
+                tweakRight = bigEndian(t[4], t[5], t[6], t[7]);
+            } else {
+                // T_L = T[0..27] || 0^4, T_R = T[32..55] || T[28..31] || 0^4
+                tweakLeft = bigEndian(t[0], t[1], t[2], t[3] & 0xF0);
+                tweakRight = bigEndian(t[4], t[5], t[6], (t[3] & 0x0F) << 4);
+            }
+            this.ciphers = ThreadLocal.withInitial(() -> new Ff3Cipher(spec, tweakLeft, tweakRight));
+        }
+    }
+
+    private static int bigEndian(int b0, int b1, int b2, int b3) {
+        return (b0 & 0xFF) << 24 | (b1 & 0xFF) << 16 | (b2 & 0xFF) << 8 | (b3 & 0xFF);
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the encryption mode of this tokenizer.
+     *
+     * @return the algorithm
+     */
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Tokenizes a value.
+     *
+     * @param value the value, e.g. a card or account number
+     * @return the token, with the same length and separators
+     * @throws IllegalArgumentException if the value has too few or too many digits to encrypt,
+     *                                  contains letters, or fails the Luhn check in Luhn mode
+     */
+    public String tokenize(String value) {
+        return transform(value, true);
+    }
+
+    /**
+     * Recovers the value of a token produced with the same key and tweak.
+     *
+     * @param token the token
+     * @return the original value
+     * @throws IllegalArgumentException if the token is not a valid token for this tokenizer
+     */
+    public String detokenize(String token) {
+        return transform(token, false);
+    }
+
+    @Override
+    public String mask(String value) {
+        return mask(value, MaskingConfig.getInstance());
+    }
+
+    @Override
+    public String mask(String value, MaskingConfig config) {
+        if (value == null) {
+            return null;
+        }
+        MaskPattern.Buffers buffers = MaskPattern.Buffers.of(value, value.length());
+        return run(buffers, value.length(), true)
+                ? new String(buffers.out, 0, value.length())
+                : MaskType.TOTAL.mask(value, config.getDefaultMaskChar());
+    }
+
+    @Override
+    public void maskTo(String value, MaskingConfig config, StringBuilder out) {
+        if (value == null) {
+            out.append((String) null);
+            return;
+        }
+        MaskPattern.Buffers buffers = MaskPattern.Buffers.of(value, value.length());
+        if (run(buffers, value.length(), true)) {
+            out.append(buffers.out, 0, value.length());
+        } else {
+            MaskPattern.appendTotal(config.getDefaultMaskChar(), out);
+        }
+    }
+
+    private String transform(String value, boolean encrypt) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null");
+        }
+        MaskPattern.Buffers buffers = MaskPattern.Buffers.of(value, value.length());
+        if (!run(buffers, value.length(), encrypt)) {
+            throw new IllegalArgumentException("Value cannot be " + (encrypt ? "tokenized" : "detokenized")
+                    + ": expected " + (MIN_DIGITS + preserveLast) + " to " + (MAX_DIGITS + preserveLast)
+                    + " digits" + (luhn ? " passing the Luhn check" : "") + ", separators aside");
+        }
+        return new String(buffers.out, 0, value.length());
+    }
+
+    /**
+     * Encrypts or decrypts the digits of {@code buffers.in[0, length)} into {@code buffers.out}.
+     *
+     * @return {@code false} if the value has no valid digit layout
+     */
+    private boolean run(MaskPattern.Buffers buffers, int length, boolean encrypt) {
+        char[] in = buffers.in;
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            char c = in[i];
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (Character.isLetterOrDigit(c)) {
+                return false;
+            }
+        }
+        int n = digits - preserveLast;
+        if (n < MIN_DIGITS || n > MAX_DIGITS) {
+            return false;
+        }
+
+        // A = first u encrypted digits, B = the remaining v; FF1 puts the odd digit in B
+        int u = algorithm == Algorithm.FF1 ? n / 2 : (n + 1) / 2;
+        int v = n - u;
+        long a = 0;
+        long b = 0;
+        int luhnSuffix = 0;
+        int k = 0;
+        for (int i = 0; i < length; i++) {
+            char c = in[i];
+            if (c < '0' || c > '9') {
+                continue;
+            }
+            int d = c - '0';
+            if (k < u) {
+                a += d * POW10[place(k, u)];
+            } else if (k < n) {
+                b += d * POW10[place(k - u, v)];
+            } else {
+                luhnSuffix += luhnDigit(d, digits - 1 - k);
+            }
+            k++;
+        }
+        if (luhn && (luhnSum(a, b, u, v, digits) + luhnSuffix) % 10 != 0) {
+            return false;
+        }
+
+        FeistelCipher cipher = ciphers.get();
+        do {
+            long[] result = encrypt ? cipher.encrypt(a, b, u, v) : cipher.decrypt(a, b, u, v);
+            a = result[0];
+            b = result[1];
+            // Cycle walking: repeat until the result is Luhn-valid again
+        } while (luhn && (luhnSum(a, b, u, v, digits) + luhnSuffix) % 10 != 0);
+
+        char[] out = buffers.out;
+        k = 0;
+        for (int i = 0; i < length; i++) {
+            char c = in[i];
+            if (c >= '0' && c <= '9' && k < n) {
+                long digit = k < u ? a / POW10[place(k, u)] % 10 : b / POW10[place(k - u, v)] % 10;
+                out[i] = (char) ('0' + digit);
+                k++;
+            } else {
+                out[i] = c;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Power of ten of the {@code k}-th of {@code m} digits in a half: FF3-1 reads numerals
+     * reversed, {@code NUM(REV(X))}, and FF1 in order.
+     */
+    private int place(int k, int m) {
+        return algorithm == Algorithm.FF1 ? m - 1 - k : k;
+    }
+
+    /** Luhn contribution of the encrypted digits, {@code digits} being the total digit count. */
+    private int luhnSum(long a, long b, int u, int v, int digits) {
+        int sum = 0;
+        for (int k = 0; k < u; k++) {
+            sum += luhnDigit((int) (a / POW10[place(k, u)] % 10), digits - 1 - k);
+        }
+        for (int k = 0; k < v; k++) {
+            sum += luhnDigit((int) (b / POW10[place(k, v)] % 10), digits - 1 - u - k);
+        }
+        return sum;
+    }
+
+    /** Luhn contribution of one digit at the given position from the right. */
+    private static int luhnDigit(int d, int fromRight) {
+        if (fromRight % 2 == 0) {
+            return d;
+        }
+        return d * 2 > 9 ? d * 2 - 9 : d * 2;
+    }
+
+    /**
+     * One thread's AES cipher, initialized once, and its block buffers.
+     */
+    private abstract static class FeistelCipher {
+
+        private final Cipher cipher;
+        final long[] result = new long[2];
+
+        FeistelCipher(SecretKeySpec key) {
+            try {
+                this.cipher = Cipher.getInstance("AES/ECB/NoPadding");
+                this.cipher.init(Cipher.ENCRYPT_MODE, key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialize AES", e);
+            }
+        }
+
+        /** Encrypts the halves {@code a} of {@code u} digits and {@code b} of {@code v} digits. */
+        abstract long[] encrypt(long a, long b, int u, int v);
+
+        abstract long[] decrypt(long a, long b, int u, int v);
+
+        /** Encrypts one 16-byte block. */
+        final void aes(byte[] in, byte[] out) {
+            try {
+                cipher.update(in, 0, 16, out, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot compute AES", e);
+            }
+        }
+    }
+
+    /**
+     * FF1: ten rounds whose round function is the CBC-MAC of {@code P || Q}.
+     */
+    private static final class Ff1Cipher extends FeistelCipher {
+
+        private static final int ROUNDS = 10;
+
+        private final byte[] tweak;
+        private final byte[] block = new byte[16];
+        private final byte[] mac = new byte[16];
+
+        /**
+         * Per digit count: the CBC-MAC state after {@code P} and all of {@code Q} but its last
+         * block, and the constant bytes of that last block. Neither depends on the round.
+         */
+        private final byte[][] states = new byte[MAX_DIGITS + 1][];
+        private final byte[][] tails = new byte[MAX_DIGITS + 1][];
+
+        Ff1Cipher(SecretKeySpec key, byte[] tweak) {
+            super(key);
+            this.tweak = tweak;
+        }
+
+        @Override
+        long[] encrypt(long a, long b, int u, int v) {
+            int n = u + v;
+            int bytes = numBytes(v);
+            for (int i = 0; i < ROUNDS; i++) {
+                int m = i % 2 == 0 ? u : v;
+                long y = round(n, bytes, i, b, POW10[m]);
+                long c = (a + y) % POW10[m];
+                a = b;
+                b = c;
+            }
+            result[0] = a;
+            result[1] = b;
+            return result;
+        }
+
+        @Override
+        long[] decrypt(long a, long b, int u, int v) {
+            int n = u + v;
+            int bytes = numBytes(v);
+            for (int i = ROUNDS - 1; i >= 0; i--) {
+                int m = i % 2 == 0 ? u : v;
+                long y = round(n, bytes, i, a, POW10[m]);
+                long c = Math.floorMod(b - y, POW10[m]);
+                b = a;
+                a = c;
+            }
+            result[0] = a;
+            result[1] = b;
+            return result;
+        }
+
+        /** {@code b}: bytes holding any {@code v}-digit number, {@code ceil(ceil(v * log2(10)) / 8)}. */
+        private static int numBytes(int v) {
+            return (64 - Long.numberOfLeadingZeros(POW10[v] - 1) + 7) / 8;
+        }
+
+        /**
+         * Round function: the first {@code d} bytes of {@code PRF(P || Q)}, with
+         * {@code Q = T || 0^pad || [i] || [x]^b}, read as a number mod {@code modulus}.
+         * {@code d = 4 * ceil(b / 4) + 4} is at most 12 here, so one block of output suffices.
+         */
+        private long round(int n, int bytes, int i, long x, long modulus) {
+            byte[] state = states[n];
+            if (state == null) {
+                prepare(n, bytes);
+                state = states[n];
+            }
+            byte[] tail = tails[n];
+            byte[] block = this.block;
+            for (int j = 0; j < 16; j++) {
+                block[j] = (byte) (state[j] ^ tail[j]);
+            }
+            block[15 - bytes] ^= (byte) i;
+            for (int j = 0; j < bytes; j++) {
+                block[15 - j] ^= (byte) (x >>> (8 * j));
+            }
+            aes(block, mac);
+            int d = 4 * ((bytes + 3) / 4) + 4;
+            long y = 0;
+            for (int j = 0; j < d; j++) {
+                y = (y * 256 + (mac[j] & 0xFF)) % modulus;
+            }
+            return y;
+        }
+
+        /** Runs the CBC-MAC over {@code P} and the round-independent blocks of {@code Q}. */
+        private void prepare(int n, int bytes) {
+            int u = n / 2;
+            int t = tweak.length;
+            byte[] state = new byte[16];
+            // P = [1]^1 || [2]^1 || [1]^1 || [10]^3 || [10]^1 || [u mod 256]^1 || [n]^4 || [t]^4
+            byte[] p = {1, 2, 1, 0, 0, 10, 10, (byte) u,
+                    (byte) (n >>> 24), (byte) (n >>> 16), (byte) (n >>> 8), (byte) n,
+                    (byte) (t >>> 24), (byte) (t >>> 16), (byte) (t >>> 8), (byte) t};
+            aes(p, state);
+
+            int length = t + Math.floorMod(-t - bytes - 1, 16) + 1 + bytes;
+            byte[] block = new byte[16];
+            for (int offset = 0; offset < length - 16; offset += 16) {
+                for (int j = 0; j < 16; j++) {
+                    int k = offset + j;
+                    block[j] = (byte) (state[j] ^ (k < t ? tweak[k] : 0));
+                }
+                aes(block, state);
+            }
+            byte[] tail = new byte[16];
+            for (int j = 0; j < 16; j++) {
+                int k = length - 16 + j;
+                tail[j] = k < t ? tweak[k] : 0;
+            }
+            states[n] = state;
+            tails[n] = tail;
+        }
+    }
+
+    /**
+     * FF3-1: eight rounds of AES under the reversed key, on reversed numerals.
+     */
+    private static final class Ff3Cipher extends FeistelCipher {
+
+        private static final int ROUNDS = 8;
+
+        private final int tweakLeft;
+        private final int tweakRight;
+        private final byte[] block = new byte[16];
+        private final byte[] encrypted = new byte[16];
+
+        Ff3Cipher(SecretKeySpec key, int tweakLeft, int tweakRight) {
+            super(key);
+            this.tweakLeft = tweakLeft;
+            this.tweakRight = tweakRight;
+        }
+
+        @Override
+        long[] encrypt(long a, long b, int u, int v) {
+            for (int i = 0; i < ROUNDS; i++) {
+                int m = i % 2 == 0 ? u : v;
+                long y = round(i % 2 == 0 ? tweakRight : tweakLeft, i, b, POW10[m]);
+                long c = (a + y) % POW10[m];
+                a = b;
+                b = c;
+            }
+            result[0] = a;
+            result[1] = b;
+            return result;
+        }
+
+        @Override
+        long[] decrypt(long a, long b, int u, int v) {
+            for (int i = ROUNDS - 1; i >= 0; i--) {
+                int m = i % 2 == 0 ? u : v;
+                long y = round(i % 2 == 0 ? tweakRight : tweakLeft, i, a, POW10[m]);
+                long c = Math.floorMod(b - y, POW10[m]);
+                b = a;
+                a = c;
+            }
+            result[0] = a;
+            result[1] = b;
+            return result;
+        }
+
+        /**
+         * Round function: {@code NUM(REVB(CIPH(REVB(W ^ i || [x]^12)))) mod modulus}, with the
+         * byte reversals folded into how the block is filled and the output is read.
+         */
+        private long round(int w, int i, long x, long modulus) {
+            byte[] block = this.block;
+            // REVB(P): x little-endian, 4 zero bytes, then W ^ [i]^4 reversed
+            for (int j = 0; j < 8; j++) {
+                block[j] = (byte) (x >>> (8 * j));
+            }
+            block[8] = 0;
+            block[9] = 0;
+            block[10] = 0;
+            block[11] = 0;
+            block[12] = (byte) (w ^ i);
+            block[13] = (byte) (w >>> 8);
+            block[14] = (byte) (w >>> 16);
+            block[15] = (byte) (w >>> 24);
+            aes(block, encrypted);
+            // REVB(S) read big-endian is S read little-endian
+            long y = 0;
+            for (int j = 15; j >= 0; j--) {
+                y = (y * 256 + (encrypted[j] & 0xFF)) % modulus;
+            }
+            return y;
+        }
+    }
+
+    /**
+     * Builder for {@link FormatPreservingTokenizer}.
+     */
+    public static final class Builder {
+
+        private byte[] key;
+        private Algorithm algorithm = Algorithm.FF1;
+        private byte[] tweak;
+        private int preserveLast;
+        private boolean luhn;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the AES key. Required.
+         *
+         * @param key the key, 16, 24 or 32 bytes; copied
+         * @return this builder
+         */
+        public Builder key(byte[] key) {
+            if (key == null || (key.length != 16 && key.length != 24 && key.length != 32)) {
+                throw new IllegalArgumentException("AES key must be 16, 24 or 32 bytes");
+            }
+            this.key = key.clone();
+            return this;
+        }
+
+        /**
+         * Sets the encryption mode. Defaults to {@link Algorithm#FF1}.
+         *
+         * @param algorithm the algorithm
+         * @return this builder
+         * @throws IllegalArgumentException if the algorithm is {@code null}, or FF3-1 with a
+         *                                  tweak that is not 7 bytes
+         */
+        public Builder algorithm(Algorithm algorithm) {
+            if (algorithm == null) {
+                throw new IllegalArgumentException("Algorithm must not be null");
+            }
+            checkTweak(algorithm, tweak);
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        /**
+         * Sets the tweak, e.g. to derive different tokens per environment or column. Defaults
+         * to none for FF1 and to all zeros for FF3-1.
+         *
+         * @param tweak the tweak, up to {@value FormatPreservingTokenizer#MAX_FF1_TWEAK} bytes for FF1, 7 bytes for FF3-1; copied
+         * @return this builder
+         */
+        public Builder tweak(byte[] tweak) {
+            if (tweak == null) {
+                throw new IllegalArgumentException("Tweak must not be null");
+            }
+            checkTweak(algorithm, tweak);
+            this.tweak = tweak.clone();
+            return this;
+        }
+
+        private static void checkTweak(Algorithm algorithm, byte[] tweak) {
+            if (tweak == null) {
+                return;
+            }
+            if (algorithm == Algorithm.FF3_1 && tweak.length != 7) {
+                throw new IllegalArgumentException("FF3-1 tweak must be 7 bytes");
+            }
+            if (algorithm == Algorithm.FF1 && tweak.length > MAX_FF1_TWEAK) {
+                throw new IllegalArgumentException("FF1 tweak must be at most " + MAX_FF1_TWEAK + " bytes");
+            }
+        }
+
+        /**
+         * Sets a 64-bit FF3 tweak, the predecessor of FF3-1 with the same rounds, and selects
+         * FF3-1. Only used to check the implementation against the published FF3 sample vectors.
+         */
+        Builder ff3Tweak(byte[] tweak) {
+            this.algorithm = Algorithm.FF3_1;
+            this.tweak = tweak.clone();
+            return this;
+        }
+
+        /**
+         * Keeps the last digits in clear, e.g. 4 for the last four digits of a card.
+         * Defaults to 0.
+         *
+         * @param digits the number of trailing digits left unchanged
+         * @return this builder
+         */
+        public Builder preserveLast(int digits) {
+            if (digits < 0) {
+                throw new IllegalArgumentException("preserveLast must not be negative");
+            }
+            this.preserveLast = digits;
+            return this;
+        }
+
+        /**
+         * Keeps tokens Luhn-valid; values must then pass the Luhn check. Meant for card
+         * numbers. Defaults to {@code false}.
+         *
+         * @param luhn whether tokens keep a valid Luhn check digit
+         * @return this builder
+         */
+        public Builder luhn(boolean luhn) {
+            this.luhn = luhn;
+            return this;
+        }
+
+        /**
+         * Builds the tokenizer.
+         *
+         * @return the tokenizer
+         * @throws IllegalStateException if no key was set
+         */
+        public FormatPreservingTokenizer build() {
+            if (key == null) {
+                throw new IllegalStateException("An AES key is required");
+            }
+            return new FormatPreservingTokenizer(this);
+        }
+    }
+}
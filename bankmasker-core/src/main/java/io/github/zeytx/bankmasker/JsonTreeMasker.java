@@ -0,0 +1,390 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Masks an existing {@link JsonNode} tree in place, following compiled path rules.
+ *
+ * <p>For pipelines that already hold a tree (e.g. from {@code ObjectMapper.readTree}),
+ * this avoids binding it to POJOs and serializing it again just to apply {@link MaskData}.
+ * Matched text and number nodes are replaced with {@link TextNode}s holding the masked value.
+ *
+ * <p>Paths are dot-separated field names relative to the root, where {@code *} matches any
+ * field and a {@code [*]} suffix matches every element of an array. A path may start with
+ * {@code $}, and a leading {@code [*]} (or {@code $[*]}) addresses the elements of a root array,
+ * as in {@code "[*].cardNumber"} for a top-level array of records:
+ * <pre>{@code
+ * JsonTreeMasker masker = JsonTreeMasker.builder()
+ *     .rule("account.iban", MaskType.IBAN)
+ *     .rule("transactions[*].cardNumber", MaskType.CREDIT_CARD)
+ *     .rule("transactions[*].*.email", MaskType.EMAIL)
+ *     .build();
+ *
+ * JsonNode statement = mapper.readTree(json);
+ * masker.mask(statement);
+ * }</pre>
+ *
+ * <p>Arrays with at least {@link Builder#parallelThreshold(int) parallelThreshold} elements
+ * are split across a {@link ForkJoinPool} (the common pool by default). The tree must not be
+ * read or modified by other threads while it is being masked. The audit logger, if any, may
+ * be called from pool threads.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @since 1.1.0
+ */
+public final class JsonTreeMasker {
+
+    private final State root;
+    private final MaskingConfig config;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    private JsonTreeMasker(Builder builder, State compiled) {
+        this.root = compiled.determinize();
+        this.config = builder.config;
+        this.pool = builder.pool;
+        this.parallelThreshold = builder.parallelThreshold;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Masks the given tree in place.
+     *
+     * @param tree the tree to mask, may be {@code null}
+     * @return the same tree, for chaining
+     */
+    public JsonNode mask(JsonNode tree) {
+        if (tree != null && config.isEnabled()) {
+            walk(tree, root, null);
+        }
+        return tree;
+    }
+
+    private void walk(JsonNode node, State state, String fieldName) {
+        if (node instanceof ObjectNode object) {
+            maskObject(object, state);
+        } else if (node instanceof ArrayNode array && state.anyElement != null) {
+            int size = array.size();
+            if (size >= parallelThreshold) {
+                ArrayTask task = new ArrayTask(array, state.anyElement, fieldName, 0, size);
+                if (ForkJoinTask.inForkJoinPool()) {
+                    task.invoke();
+                } else {
+                    pool.invoke(task);
+                }
+            } else {
+                maskElements(array, state.anyElement, fieldName, 0, size);
+            }
+        }
+    }
+
+    private void maskObject(ObjectNode object, State state) {
+        Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            State next = state.field(field.getKey());
+            if (next == null) {
+                continue;
+            }
+            JsonNode value = field.getValue();
+            if (next.type != null && isMaskable(value)) {
+                field.setValue(mask(value, next.type, field.getKey()));
+            } else {
+                walk(value, next, field.getKey());
+            }
+        }
+    }
+
+    private void maskElements(ArrayNode array, State state, String fieldName, int from, int to) {
+        for (int i = from; i < to; i++) {
+            JsonNode element = array.get(i);
+            if (state.type != null && isMaskable(element)) {
+                array.set(i, mask(element, state.type, fieldName));
+            } else {
+                walk(element, state, fieldName);
+            }
+        }
+    }
+
+    private static boolean isMaskable(JsonNode node) {
+        return node.isTextual() || node.isNumber();
+    }
+
+    private JsonNode mask(JsonNode node, MaskType type, String fieldName) {
+        String value = node.asText();
+        MaskingConfig.Snapshot config = this.config.snapshot();
+        if (value.isEmpty() || !config.isTypeEnabled(type)) {
+            return node;
+        }
+        MaskingLatencyRecorder recorder = config.getLatencyRecorder();
+        TextNode masked;
+        if (recorder == null) {
+            masked = TextNode.valueOf(type.getStrategy().mask(value, config.asConfig()));
+        } else {
+            long start = System.nanoTime();
+            masked = TextNode.valueOf(type.getStrategy().mask(value, config.asConfig()));
+            recorder.record(type, fieldName, System.nanoTime() - start);
+        }
+        MaskingAuditLogger logger = config.getAuditLogger();
+        if (logger != null) {
+            logger.onFieldMasked(fieldName, type);
+        }
+        return masked;
+    }
+
+    /**
+     * Masks a range of array elements, splitting it while it is above the threshold.
+     */
+    private final class ArrayTask extends RecursiveAction {
+
+        private final ArrayNode array;
+        private final State state;
+        private final String fieldName;
+        private final int from;
+        private final int to;
+
+        ArrayTask(ArrayNode array, State state, String fieldName, int from, int to) {
+            this.array = array;
+            this.state = state;
+            this.fieldName = fieldName;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= parallelThreshold) {
+                maskElements(array, state, fieldName, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ArrayTask(array, state, fieldName, from, mid),
+                    new ArrayTask(array, state, fieldName, mid, to));
+        }
+    }
+
+    /**
+     * Node of the compiled rule automaton. After {@link #determinize()}, every explicit child
+     * also contains the rules reachable through {@code *}, so a lookup follows a single state.
+     */
+    private static final class State {
+
+        Map<String, State> fields;
+        State anyField;
+        State anyElement;
+        MaskType type;
+
+        State field(String name) {
+            if (fields != null) {
+                State state = fields.get(name);
+                if (state != null) {
+                    return state;
+                }
+            }
+            return anyField;
+        }
+
+        State determinize() {
+            if (fields != null) {
+                for (State child : fields.values()) {
+                    if (anyField != null) {
+                        child.mergeFrom(anyField);
+                    }
+                }
+                for (State child : fields.values()) {
+                    child.determinize();
+                }
+            }
+            if (anyField != null) {
+                anyField.determinize();
+            }
+            if (anyElement != null) {
+                anyElement.determinize();
+            }
+            return this;
+        }
+
+        /** Deep-merges the given state into this one; rules already here take precedence. */
+        void mergeFrom(State other) {
+            if (type == null) {
+                type = other.type;
+            }
+            if (other.fields != null) {
+                for (Map.Entry<String, State> entry : other.fields.entrySet()) {
+                    childField(entry.getKey()).mergeFrom(entry.getValue());
+                }
+            }
+            if (other.anyField != null) {
+                if (anyField == null) {
+                    anyField = new State();
+                }
+                anyField.mergeFrom(other.anyField);
+            }
+            if (other.anyElement != null) {
+                if (anyElement == null) {
+                    anyElement = new State();
+                }
+                anyElement.mergeFrom(other.anyElement);
+            }
+        }
+
+        State element() {
+            if (anyElement == null) {
+                anyElement = new State();
+            }
+            return anyElement;
+        }
+
+        State childField(String name) {
+            if (fields == null) {
+                fields = new HashMap<>();
+            }
+            return fields.computeIfAbsent(name, n -> new State());
+        }
+    }
+
+    /**
+     * Builder for {@link JsonTreeMasker}.
+     */
+    public static final class Builder {
+
+        private final State root = new State();
+        private MaskingConfig config = MaskingConfig.getInstance();
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private int parallelThreshold = 4096;
+
+        private Builder() {
+        }
+
+        /**
+         * Masks the values at the given path with the given type.
+         *
+         * @param path the path, e.g. {@code "transactions[*].cardNumber"} or {@code "[*].iban"}
+         * @param type the mask type to apply
+         * @return this builder
+         * @throws IllegalArgumentException if the path is malformed or an argument is {@code null}
+         */
+        public Builder rule(String path, MaskType type) {
+            if (path == null || type == null) {
+                throw new IllegalArgumentException("path and type must not be null");
+            }
+            String body = path.startsWith("$.") || path.startsWith("$[") ? path.substring(1) : path;
+            State state = root;
+            // Elements of a root array
+            while (body.startsWith("[*]")) {
+                state = state.element();
+                body = body.substring(3);
+            }
+            if (state != root || path.startsWith("$.")) {
+                if (body.isEmpty() && state != root) {
+                    state.type = type;
+                    return this;
+                }
+                if (!body.startsWith(".")) {
+                    throw new IllegalArgumentException("Invalid path: " + path);
+                }
+                body = body.substring(1);
+            }
+            for (String segment : body.split("\\.", -1)) {
+                String name = segment;
+                int elements = 0;
+                while (name.endsWith("[*]")) {
+                    name = name.substring(0, name.length() - 3);
+                    elements++;
+                }
+                if (name.isEmpty() || name.indexOf('[') >= 0 || name.indexOf(']') >= 0) {
+                    throw new IllegalArgumentException("Invalid path: " + path);
+                }
+                if (name.equals("*")) {
+                    if (state.anyField == null) {
+                        state.anyField = new State();
+                    }
+                    state = state.anyField;
+                } else {
+                    state = state.childField(name);
+                }
+                for (int i = 0; i < elements; i++) {
+                    state = state.element();
+                }
+            }
+            state.type = type;
+            return this;
+        }
+
+        /**
+         * Sets the configuration for enable flag, enabled types, mask character and auditing.
+         * Defaults to the global {@link MaskingConfig#getInstance()}.
+         *
+         * @param config the configuration
+         * @return this builder
+         */
+        public Builder config(MaskingConfig config) {
+            if (config == null) {
+                throw new IllegalArgumentException("MaskingConfig must not be null");
+            }
+            this.config = config;
+            return this;
+        }
+
+        /**
+         * Sets the pool large arrays are masked on. Defaults to the common pool.
+         *
+         * @param pool the fork/join pool
+         * @return this builder
+         */
+        public Builder pool(ForkJoinPool pool) {
+            if (pool == null) {
+                throw new IllegalArgumentException("ForkJoinPool must not be null");
+            }
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * Sets the minimum array size masked in parallel, which is also the size of the
+         * chunks each task processes. Defaults to 4096; use {@link Integer#MAX_VALUE}
+         * to always mask sequentially.
+         *
+         * @param parallelThreshold the threshold, at least 1
+         * @return this builder
+         */
+        public Builder parallelThreshold(int parallelThreshold) {
+            if (parallelThreshold < 1) {
+                throw new IllegalArgumentException("parallelThreshold must be at least 1");
+            }
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * Compiles the rules.
+         *
+         * @return the tree masker
+         */
+        public JsonTreeMasker build() {
+            // Compile a copy so the builder can keep adding rules.
+            State compiled = new State();
+            compiled.mergeFrom(root);
+            return new JsonTreeMasker(this, compiled);
+        }
+    }
+}
@@ -24,6 +24,9 @@ import java.lang.annotation.Target;
  *
  *     @MaskData(value = MaskType.CUSTOM, maskChar = '#', visibleStart = 2, visibleEnd = 3)
  *     private String accountId;
+ *
+ *     @MaskData(value = MaskType.CREDIT_CARD, pattern = "(?s)####-****-****-####")
+ *     private String panWithBin;
  * }
  * }</pre>
  *
@@ -67,4 +70,15 @@ public @interface MaskData {
      * @return visible characters from the end (defaults to 0)
      */
     int visibleEnd() default 0;
+
+    /**
+     * Mask template compiled into a {@link MaskPattern}, e.g. {@code "(?s)####-****-****-####"}.
+     * When set, it replaces the strategy of {@link #value()}, which is still used for
+     * {@link MaskingConfig#isTypeEnabled enabled types} and audit logging. {@link #maskChar()},
+     * if not {@code '*'}, is used as the mask character.
+     *
+     * @return the mask template (defaults to none)
+     * @since 1.1.0
+     */
+    String pattern() default "";
 }
\ No newline at end of file
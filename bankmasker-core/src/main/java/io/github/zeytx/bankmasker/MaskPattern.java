@@ -0,0 +1,326 @@
+package io.github.zeytx.bankmasker;
+
+import java.util.Arrays;
+
+/**
+ * Masking strategy described by a template, compiled once into a small instruction array.
+ *
+ * <p>Each character of the template is an instruction applied left to right:
+ * <ul>
+ *   <li>{@code #} keeps one input character</li>
+ *   <li>{@code *} masks one input character</li>
+ *   <li>{@code #+} / {@code *+} keep / mask as many characters as needed for the rest of the
+ *       template to consume the end of the input (at most one per template)</li>
+ *   <li>{@code \x} emits {@code x} literally; any other character is emitted as-is</li>
+ * </ul>
+ * A template may start with a flag telling how separators in the input (anything that is not
+ * a letter or digit) are handled: {@code (?s)} skips them, {@code (?k)} keeps them in place.
+ * Without a flag every input character is consumed by {@code #} and {@code *}.
+ *
+ * <pre>{@code
+ * MaskPattern.compile("(?s)####-****-****-####")  // 4111 1111 1111 1111 → 4111-****-****-1111
+ * MaskPattern.compile("(?k)*+####")               // 4111-1111-1111-1111 → ****-****-****-1111
+ * MaskPattern.compile("##*+####")                 // ES6621000418401234567891 → ES******************7891
+ * }</pre>
+ *
+ * <p>If the input does not have as many characters as the template consumes, the value is
+ * fully masked like {@link MaskType#TOTAL}, so a malformed value never leaks.
+ *
+ * <p>Masking runs a tight loop over reused per-thread buffers: the only allocation is the
+ * resulting string, and {@link #maskTo(String, char, StringBuilder)} allocates nothing.
+ * Use it on a field with {@link MaskData#pattern()}, where it is compiled once per property.
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @since 1.1.0
+ */
+public final class MaskPattern implements MaskingStrategy {
+
+    private static final int KEEP = 0;
+    private static final int MASK = 1;
+    private static final int LITERAL = 2;
+    private static final int FILL_KEEP = 3;
+    private static final int FILL_MASK = 4;
+    private static final int OP_BITS = 3;
+
+    private static final int MODE_ALL = 0;
+    private static final int MODE_SKIP_SEPARATORS = 1;
+    private static final int MODE_KEEP_SEPARATORS = 2;
+
+    private final String pattern;
+    private final int[] program;
+    private final int mode;
+    private final int consumed;
+    private final int literals;
+    private final boolean fill;
+
+    private MaskPattern(String pattern, int[] program, int mode, int consumed, int literals, boolean fill) {
+        this.pattern = pattern;
+        this.program = program;
+        this.mode = mode;
+        this.consumed = consumed;
+        this.literals = literals;
+        this.fill = fill;
+    }
+
+    /**
+     * Compiles a mask template.
+     *
+     * @param pattern the template, e.g. {@code "(?s)####-****-****-####"}
+     * @return the compiled pattern
+     * @throws IllegalArgumentException if the template is {@code null}, empty or malformed
+     */
+    public static MaskPattern compile(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            throw new IllegalArgumentException("Mask pattern must not be null or empty");
+        }
+        int mode = MODE_ALL;
+        int start = 0;
+        if (pattern.startsWith("(?s)")) {
+            mode = MODE_SKIP_SEPARATORS;
+            start = 4;
+        } else if (pattern.startsWith("(?k)")) {
+            mode = MODE_KEEP_SEPARATORS;
+            start = 4;
+        }
+
+        int[] program = new int[pattern.length()];
+        int size = 0;
+        int consumed = 0;
+        int literals = 0;
+        boolean fill = false;
+        for (int i = start; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            int op;
+            if (c == '#' || c == '*') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '+') {
+                    if (fill) {
+                        throw new IllegalArgumentException("Only one '+' allowed in mask pattern: " + pattern);
+                    }
+                    fill = true;
+                    i++;
+                    program[size++] = c == '#' ? FILL_KEEP : FILL_MASK;
+                    continue;
+                }
+                op = c == '#' ? KEEP : MASK;
+                consumed++;
+                // Merge runs of the same instruction: "####" is a single KEEP 4
+                if (size > 0 && (program[size - 1] & ((1 << OP_BITS) - 1)) == op) {
+                    program[size - 1] += 1 << OP_BITS;
+                    continue;
+                }
+                program[size++] = op | (1 << OP_BITS);
+                continue;
+            }
+            if (c == '+') {
+                throw new IllegalArgumentException("'+' must follow '#' or '*' in mask pattern: " + pattern);
+            }
+            if (c == '\\') {
+                if (++i == pattern.length()) {
+                    throw new IllegalArgumentException("Dangling escape in mask pattern: " + pattern);
+                }
+                c = pattern.charAt(i);
+            }
+            program[size++] = LITERAL | (c << OP_BITS);
+            literals++;
+        }
+        return new MaskPattern(pattern, Arrays.copyOf(program, size), mode, consumed, literals, fill);
+    }
+
+    /**
+     * Returns the template this pattern was compiled from.
+     *
+     * @return the template
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * Masks the value with the global {@link MaskingConfig#getDefaultMaskChar() mask character}.
+     *
+     * @param value the value to mask
+     * @return the masked value, or {@code null} for a {@code null} value
+     */
+    @Override
+    public String mask(String value) {
+        return mask(value, MaskingConfig.getInstance().getDefaultMaskChar());
+    }
+
+    @Override
+    public String mask(String value, MaskingConfig config) {
+        return mask(value, config.getDefaultMaskChar());
+    }
+
+    /**
+     * Masks the value with the given mask character.
+     *
+     * @param value    the value to mask
+     * @param maskChar the mask character
+     * @return the masked value, or {@code null} for a {@code null} value
+     */
+    public String mask(String value, char maskChar) {
+        if (value == null) {
+            return null;
+        }
+        Buffers buffers = Buffers.of(value, maxOutputLength(value.length()));
+        int len = run(buffers.in, value.length(), maskChar, buffers.out);
+        return len >= 0 ? new String(buffers.out, 0, len) : MaskType.TOTAL.mask(value, maskChar);
+    }
+
+    @Override
+    public void maskTo(String value, MaskingConfig config, StringBuilder out) {
+        maskTo(value, config.getDefaultMaskChar(), out);
+    }
+
+    /**
+     * Appends the masked value, using the given mask character, to the given builder.
+     *
+     * @param value    the value to mask
+     * @param maskChar the mask character
+     * @param out      the builder to append to
+     */
+    public void maskTo(String value, char maskChar, StringBuilder out) {
+        if (value == null) {
+            out.append((String) null);
+            return;
+        }
+        Buffers buffers = Buffers.of(value, maxOutputLength(value.length()));
+        int len = run(buffers.in, value.length(), maskChar, buffers.out);
+        if (len >= 0) {
+            out.append(buffers.out, 0, len);
+        } else {
+            appendTotal(maskChar, out);
+        }
+    }
+
+    /**
+     * Maximum output length for an input of the given length.
+     */
+    int maxOutputLength(int inputLength) {
+        return inputLength + literals;
+    }
+
+    /**
+     * Runs the program over {@code src[0, length)} into {@code out}, which must hold at
+     * least {@link #maxOutputLength(int)} characters.
+     *
+     * @return the output length, or {@code -1} if the input does not fit the template
+     */
+    int run(char[] src, int length, char maskChar, char[] out) {
+        int available = length;
+        if (mode != MODE_ALL) {
+            available = 0;
+            for (int i = 0; i < length; i++) {
+                if (!isSeparator(src[i])) {
+                    available++;
+                }
+            }
+        }
+        int extra = available - consumed;
+        if (extra < 0 || (!fill && extra != 0)) {
+            return -1;
+        }
+
+        int pos = 0;
+        int o = 0;
+        for (int instruction : program) {
+            int op = instruction & ((1 << OP_BITS) - 1);
+            if (op == LITERAL) {
+                out[o++] = (char) (instruction >>> OP_BITS);
+                continue;
+            }
+            int count = op == FILL_KEEP || op == FILL_MASK ? extra : instruction >>> OP_BITS;
+            boolean keep = op == KEEP || op == FILL_KEEP;
+            for (int n = 0; n < count; n++) {
+                char c = src[pos++];
+                if (mode != MODE_ALL) {
+                    while (isSeparator(c)) {
+                        if (mode == MODE_KEEP_SEPARATORS) {
+                            out[o++] = c;
+                        }
+                        c = src[pos++];
+                    }
+                }
+                out[o++] = keep ? c : maskChar;
+            }
+        }
+        if (mode == MODE_KEEP_SEPARATORS) {
+            while (pos < length) {
+                out[o++] = src[pos++];
+            }
+        }
+        return o;
+    }
+
+    /**
+     * Appends the {@link MaskType#TOTAL} mask used when a value does not fit.
+     */
+    static void appendTotal(char maskChar, StringBuilder out) {
+        for (int i = 0; i < 8; i++) {
+            out.append(maskChar);
+        }
+    }
+
+    private static boolean isSeparator(char c) {
+        if (c < 128) {
+            return !((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'));
+        }
+        return !Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * Per-thread input, output and validator state buffers, grown as needed and reused by
+     * every pattern and {@link MaskingPipeline} on the thread.
+     */
+    static final class Buffers {
+
+        private static final ThreadLocal<Buffers> LOCAL = ThreadLocal.withInitial(Buffers::new);
+
+        char[] in = new char[64];
+        char[] out = new char[64];
+        private long[] states = new long[4];
+
+        /** Returns this thread's buffers holding the value's characters in {@link #in}. */
+        static Buffers of(String value, int outCapacity) {
+            Buffers buffers = ensure(value.length(), outCapacity);
+            value.getChars(0, value.length(), buffers.in, 0);
+            return buffers;
+        }
+
+        /** Returns this thread's buffers with at least the given capacities. */
+        static Buffers ensure(int inCapacity, int outCapacity) {
+            Buffers buffers = LOCAL.get();
+            if (buffers.in.length < inCapacity) {
+                buffers.in = new char[Math.max(inCapacity, buffers.in.length * 2)];
+            }
+            if (buffers.out.length < outCapacity) {
+                buffers.out = new char[Math.max(outCapacity, buffers.out.length * 2)];
+            }
+            return buffers;
+        }
+
+        /** Returns a state array for {@link MaskingPipeline} validators. */
+        long[] states(int count) {
+            if (states.length < count) {
+                states = new long[count];
+            }
+            return states;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof MaskPattern other && pattern.equals(other.pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
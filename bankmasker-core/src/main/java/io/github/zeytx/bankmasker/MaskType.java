@@ -5,7 +5,8 @@ package io.github.zeytx.bankmasker;
  * Each type carries a {@link MaskingStrategy} that handles the transformation.
  *
  * <p>All built-in strategies respect {@link MaskingConfig#getDefaultMaskChar()},
- * so changing the global mask character will affect all types.
+ * so changing the global mask character will affect all types. When serializing through
+ * a {@link MaskingModule}, the mask character of the per-mapper configuration is used instead.
  *
  * <p>Examples (using default mask char {@code '*'}):
  * <ul>
@@ -20,8 +21,13 @@ package io.github.zeytx.bankmasker;
  *   <li>{@code BANK_ACCOUNT}: {@code 12345678901234 → **********1234}</li>
  *   <li>{@code IP_ADDRESS}: {@code 192.168.1.100 → ***.***.***.100}</li>
  *   <li>{@code TOTAL}: {@code anything → ********}</li>
+ *   <li>{@code AUTO}: any of {@code EMAIL}, {@code IBAN}, {@code CREDIT_CARD}, {@code PHONE}, detected per value</li>
+ *   <li>{@code PSEUDONYMIZE}: {@code C-1029 →} a 22-character keyed token, the same for every {@code C-1029}</li>
  * </ul>
  *
+ * <p>New constants are added after {@link #CUSTOM}, so the ordinals of existing constants never
+ * change.
+ *
  * @since 1.0.0
  */
 public enum MaskType {
@@ -30,8 +36,7 @@ public enum MaskType {
      * Masks a credit/debit card number, keeping only the last 4 digits.
      * Input is sanitized (non-digit characters removed) before masking.
      */
-    CREDIT_CARD(value -> {
-        char m = maskChar();
+    CREDIT_CARD((value, m) -> {
         String digits = value.replaceAll("\\D", "");
         if (digits.length() < 4) {
             return repeat(m, 4);
@@ -45,8 +50,7 @@ public enum MaskType {
      * Masks an email address keeping the first 2 characters and the domain.
      * Falls back to total mask if the format is invalid.
      */
-    EMAIL(value -> {
-        char m = maskChar();
+    EMAIL((value, m) -> {
         int atIndex = value.indexOf('@');
         if (atIndex <= 0) {
             return repeat(m, 8);
@@ -58,8 +62,7 @@ public enum MaskType {
     /**
      * Masks a phone number, keeping only the last 4 digits visible.
      */
-    PHONE(value -> {
-        char m = maskChar();
+    PHONE((value, m) -> {
         String digits = value.replaceAll("\\D", "");
         if (digits.length() < 4) {
             return repeat(m, 4);
@@ -70,8 +73,7 @@ public enum MaskType {
     /**
      * Masks a national ID / DNI, keeping only the last 4 characters.
      */
-    DNI(value -> {
-        char m = maskChar();
+    DNI((value, m) -> {
         if (value.length() <= 4) {
             return repeat(m, 4);
         }
@@ -82,8 +84,7 @@ public enum MaskType {
      * Masks an IBAN, keeping the country code (first 2 chars) and last 4 digits.
      * Example: {@code ES6621000418401234567891 → ES********************7891}
      */
-    IBAN(value -> {
-        char m = maskChar();
+    IBAN((value, m) -> {
         String clean = value.replaceAll("\\s", "");
         if (clean.length() <= 6) {
             return repeat(m, 4);
@@ -97,8 +98,7 @@ public enum MaskType {
      * Masks a US Social Security Number, keeping only the last 4 digits.
      * Example: {@code 123-45-6789 → ***-**-6789}
      */
-    SSN(value -> {
-        char m = maskChar();
+    SSN((value, m) -> {
         String digits = value.replaceAll("\\D", "");
         if (digits.length() < 4) {
             return repeat(m, 3) + "-" + repeat(m, 2) + "-" + repeat(m, 4);
@@ -110,8 +110,7 @@ public enum MaskType {
      * Masks a person's name, keeping only the first letter of each word.
      * Example: {@code John Doe → J*** D**}
      */
-    NAME(value -> {
-        char m = maskChar();
+    NAME((value, m) -> {
         String[] parts = value.split("\\s+");
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < parts.length; i++) {
@@ -134,8 +133,7 @@ public enum MaskType {
      *
      * @since 1.1.0
      */
-    PASSPORT(value -> {
-        char m = maskChar();
+    PASSPORT((value, m) -> {
         if (value.length() <= 5) {
             return repeat(m, 4);
         }
@@ -148,8 +146,7 @@ public enum MaskType {
      *
      * @since 1.1.0
      */
-    BANK_ACCOUNT(value -> {
-        char m = maskChar();
+    BANK_ACCOUNT((value, m) -> {
         String digits = value.replaceAll("\\D", "");
         if (digits.length() <= 4) {
             return repeat(m, 4);
@@ -164,8 +161,7 @@ public enum MaskType {
      *
      * @since 1.1.0
      */
-    IP_ADDRESS(value -> {
-        char m = maskChar();
+    IP_ADDRESS((value, m) -> {
         int lastDot = value.lastIndexOf('.');
         if (lastDot < 0) {
             return repeat(m, 8);
@@ -180,7 +176,7 @@ public enum MaskType {
     /**
      * Replaces the entire value with mask characters.
      */
-    TOTAL(value -> repeat(maskChar(), 8)),
+    TOTAL((value, m) -> repeat(m, 8)),
 
     /**
      * Placeholder for custom masking via {@link MaskData#maskChar()} and
@@ -188,14 +184,52 @@ public enum MaskType {
      * The default strategy masks everything; the serializer overrides this
      * when custom parameters are provided.
      */
-    CUSTOM(value -> repeat(maskChar(), 8));
+    CUSTOM((value, m) -> repeat(m, 8)),
+
+    /**
+     * Detects whether the value is an email, an IBAN (mod-97 valid), a card number (Luhn valid)
+     * or a phone number, in a single pass, and applies that type's masking. Anything else is
+     * masked like {@link #TOTAL}. Meant for legacy fields such as {@code reference} whose
+     * content varies per record.
+     *
+     * @since 1.1.0
+     * @see #detect(String)
+     */
+    AUTO((value, m) -> detect(value).mask(value, m)),
+
+    /**
+     * Replaces the value with a deterministic token: a truncated HMAC-SHA256 under the
+     * {@link MaskingConfig#setPseudonymizationKey(byte[]) configured key}, so equal values
+     * still match across records and exports. Masked like {@link #TOTAL} when no key is set.
+     *
+     * @since 1.1.0
+     * @see Pseudonymizer
+     */
+    PSEUDONYMIZE(Pseudonymizer::pseudonymize, Pseudonymizer.STRATEGY);
 
+    private final MaskFunction function;
     private final MaskingStrategy strategy;
 
-    MaskType(MaskingStrategy strategy) {
+    MaskType(MaskFunction function, MaskingStrategy strategy) {
+        this.function = function;
         this.strategy = strategy;
     }
 
+    MaskType(MaskFunction function) {
+        this.function = function;
+        this.strategy = new MaskingStrategy() {
+            @Override
+            public String mask(String value) {
+                return function.apply(value, maskChar());
+            }
+
+            @Override
+            public String mask(String value, MaskingConfig config) {
+                return function.apply(value, config.getDefaultMaskChar());
+            }
+        };
+    }
+
     /**
      * Returns the built-in masking strategy for this type.
      *
@@ -205,6 +239,28 @@ public enum MaskType {
         return strategy;
     }
 
+    /**
+     * Applies this type's masking with an explicit mask character.
+     *
+     * @param value    the value to mask
+     * @param maskChar the mask character
+     * @return the masked value
+     */
+    String mask(String value, char maskChar) {
+        return function.apply(value, maskChar);
+    }
+
+    /**
+     * Returns the type {@link #AUTO} masks the given value as.
+     *
+     * @param value the value to classify
+     * @return {@link #EMAIL}, {@link #IBAN}, {@link #CREDIT_CARD}, {@link #PHONE} or {@link #TOTAL}
+     * @since 1.1.0
+     */
+    public static MaskType detect(String value) {
+        return value == null || value.isEmpty() ? TOTAL : ValueClassifier.classify(value);
+    }
+
     /**
      * Returns the current default mask character from global configuration.
      *
@@ -224,4 +280,13 @@ public enum MaskType {
     static String repeat(char ch, int count) {
         return String.valueOf(ch).repeat(Math.max(0, count));
     }
-}
\ No newline at end of file
+
+    /**
+     * Built-in masking function receiving the mask character explicitly, so the same
+     * logic serves both the global configuration and per-mapper configurations.
+     */
+    @FunctionalInterface
+    private interface MaskFunction {
+        String apply(String value, char maskChar);
+    }
+}
@@ -70,6 +70,23 @@ public final class MaskUtils {
      * @return the masked string
      */
     static String applyCustomMask(String value, char maskChar, int visibleStart, int visibleEnd) {
+        return applyCustomMask(value, maskChar, visibleStart, visibleEnd,
+                MaskingConfig.getInstance().getDefaultMaskChar());
+    }
+
+    /**
+     * Applies a custom mask to a value, substituting {@code defaultMaskChar} when the
+     * caller uses the default annotation char {@code '*'}.
+     *
+     * @param value           the value to mask
+     * @param maskChar        the masking character
+     * @param visibleStart    visible characters from the start
+     * @param visibleEnd      visible characters from the end
+     * @param defaultMaskChar the configured default mask character
+     * @return the masked string
+     */
+    static String applyCustomMask(String value, char maskChar, int visibleStart, int visibleEnd,
+                                  char defaultMaskChar) {
         int len = value.length();
         int totalVisible = visibleStart + visibleEnd;
 
@@ -77,10 +94,8 @@ public final class MaskUtils {
             return value;
         }
 
-        // If the caller uses the default annotation char '*', respect the global config
-        char effectiveChar = (maskChar == '*')
-                ? MaskingConfig.getInstance().getDefaultMaskChar()
-                : maskChar;
+        // If the caller uses the default annotation char '*', respect the configured default
+        char effectiveChar = (maskChar == '*') ? defaultMaskChar : maskChar;
 
         String prefix = value.substring(0, visibleStart);
         String suffix = visibleEnd > 0 ? value.substring(len - visibleEnd) : "";
@@ -0,0 +1,176 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Objects;
+
+/**
+ * Immutable holder of a sensitive value that caches its masked form.
+ *
+ * <p>As a lazy log argument, it defers masking to {@link #toString()}, which SLF4J
+ * only calls when the message is actually formatted:
+ * <pre>{@code
+ * log.debug("Processing card {}", Masked.of(card, MaskType.CREDIT_CARD));
+ * }</pre>
+ *
+ * <p>As a field type, it carries its own {@link MaskType} and is serialized by
+ * {@link MaskedSerializer}, which writes the cached masked form instead of running
+ * the strategy on every serialization:
+ * <pre>{@code
+ * public class SessionDTO {
+ *     private Masked<String> iban = Masked.of("ES6621000418401234567891", MaskType.IBAN);
+ * }
+ * }</pre>
+ *
+ * <p>The masked form is computed on first use and cached for the
+ * {@link MaskingConfig#snapshot() snapshot} it was computed with, until the config
+ * {@link MaskingConfig#getVersion() changes}. Logging and serialization under the same
+ * config share the cached form.
+ * Masking respects the config's enabled flag and enabled types, like {@link MaskUtils}.
+ *
+ * <p>Equality and hash code are based on the raw value only. {@link #toString()} never
+ * exposes the raw value; use {@link #getValue()} to access it.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @param <T> the type of the raw value; its {@code toString()} is what gets masked
+ * @since 1.1.0
+ * @see MaskedSerializer
+ * @see MaskedDeserializer
+ */
+@JsonSerialize(using = MaskedSerializer.class)
+@JsonDeserialize(using = MaskedDeserializer.class)
+public final class Masked<T> {
+
+    private final T value;
+    private final MaskType type;
+
+    /** Last computed masked form; racy single-check is safe because {@link Cache} is immutable. */
+    private Cache cache;
+
+    private Masked(T value, MaskType type) {
+        this.value = value;
+        this.type = type;
+    }
+
+    /**
+     * Wraps a sensitive value to be masked lazily.
+     *
+     * @param value the sensitive value, may be {@code null}
+     * @param type  the mask type to apply
+     * @param <T>   the type of the raw value
+     * @return the masked holder
+     */
+    public static <T> Masked<T> of(T value, MaskType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("MaskType must not be null");
+        }
+        return new Masked<>(value, type);
+    }
+
+    /**
+     * Returns the raw, unmasked value.
+     *
+     * @return the raw value, may be {@code null}
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the mask type applied to the value.
+     *
+     * @return the mask type
+     */
+    public MaskType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the masked form for the given configuration, computing it only if it was
+     * not cached for the configuration's current snapshot.
+     *
+     * @param config the configuration to mask with
+     * @return the masked value, or {@code null} for a {@code null} value
+     */
+    public String masked(MaskingConfig config) {
+        Cache cached = cache;
+        // One snapshot for the enable flags and the strategy's mask character. A config and
+        // the read-only views of its snapshots return the same instance, so it is the key.
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        if (cached != null && cached.snapshot == snapshot) {
+            return cached.masked;
+        }
+        String masked = compute(snapshot);
+        cache = new Cache(snapshot, masked);
+        return masked;
+    }
+
+    /**
+     * Whether the value is actually masked (rather than written as-is) under the given config.
+     *
+     * @param config the configuration
+     * @return {@code true} if masking applies
+     */
+    boolean isMaskedUnder(MaskingConfig config) {
+        return value != null && !value.toString().isEmpty()
+                && config.isEnabled() && config.isTypeEnabled(type);
+    }
+
+    private String compute(MaskingConfig.Snapshot snapshot) {
+        if (value == null) {
+            return null;
+        }
+        String raw = value.toString();
+        if (raw.isEmpty() || !snapshot.isEnabled() || !snapshot.isTypeEnabled(type)) {
+            return raw;
+        }
+        return type.getStrategy().mask(raw, snapshot.asConfig());
+    }
+
+    /**
+     * Appends the masked value, per the global configuration, to the given builder.
+     *
+     * @param out the builder to append to
+     */
+    public void appendTo(StringBuilder out) {
+        out.append(toString());
+    }
+
+    /**
+     * Returns the masked value per the global configuration, computing it on first call.
+     *
+     * @return the masked value, or {@code "null"} for a {@code null} value
+     */
+    @Override
+    public String toString() {
+        return String.valueOf(masked(MaskingConfig.getInstance()));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Masked<?> other && Objects.equals(value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
+    }
+
+    /**
+     * Masked form computed for one configuration snapshot.
+     */
+    private static final class Cache {
+        final MaskingConfig.Snapshot snapshot;
+        final String masked;
+
+        Cache(MaskingConfig.Snapshot snapshot, String masked) {
+            this.snapshot = snapshot;
+            this.masked = masked;
+        }
+    }
+}
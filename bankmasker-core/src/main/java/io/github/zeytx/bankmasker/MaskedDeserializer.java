@@ -0,0 +1,67 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson deserializer for {@link Masked} values.
+ *
+ * <p>Reads the raw value as the declared type argument (e.g. {@code String} for
+ * {@code Masked<String>}) and wraps it. The {@link MaskType} is taken from a
+ * {@link MaskData} annotation on the property, defaulting to {@link MaskType#TOTAL}:
+ * <pre>{@code
+ * @MaskData(MaskType.IBAN)
+ * private Masked<String> iban;
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see Masked
+ */
+public class MaskedDeserializer extends StdDeserializer<Masked<?>> implements ContextualDeserializer {
+
+    private final JavaType valueType;
+    private final MaskType maskType;
+
+    /**
+     * Default no-arg constructor required by Jackson.
+     */
+    public MaskedDeserializer() {
+        super(Masked.class);
+        this.valueType = null;
+        this.maskType = MaskType.TOTAL;
+    }
+
+    private MaskedDeserializer(JavaType valueType, MaskType maskType) {
+        super(Masked.class);
+        this.valueType = valueType;
+        this.maskType = maskType;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        JavaType type = ctxt.getContextualType();
+        if (type == null && property != null) {
+            type = property.getType();
+        }
+        JavaType contentType = type != null ? type.containedTypeOrUnknown(0) : null;
+
+        MaskData annotation = property != null ? property.getAnnotation(MaskData.class) : null;
+        MaskType resolved = annotation != null ? annotation.value() : MaskType.TOTAL;
+        return new MaskedDeserializer(contentType, resolved);
+    }
+
+    @Override
+    public Masked<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Object value = valueType != null && !valueType.isJavaLangObject()
+                ? ctxt.readValue(p, valueType)
+                : p.getValueAsString();
+        return Masked.of(value, maskType);
+    }
+}
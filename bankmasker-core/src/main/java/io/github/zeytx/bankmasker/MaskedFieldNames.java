@@ -0,0 +1,126 @@
+package io.github.zeytx.bankmasker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable, compiled set of JSON field names whose string values must be masked,
+ * each mapped to the {@link MaskType} to apply.
+ *
+ * <p>Used by {@link MaskingJsonGenerator} for payloads that carry no {@link MaskData}
+ * annotations, such as {@code Map<String, Object>} responses and {@code JsonNode} trees.
+ * Lookups go through an open-addressing table keyed by {@link String#hashCode()}, which
+ * Java caches per string, so matching a field name never allocates.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * MaskedFieldNames names = MaskedFieldNames.builder()
+ *     .add("cardNumber", MaskType.CREDIT_CARD)
+ *     .add("iban", MaskType.IBAN)
+ *     .build();
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see MaskingJsonGenerator
+ */
+public final class MaskedFieldNames {
+
+    private final String[] keys;
+    private final MaskType[] types;
+    private final int size;
+
+    private MaskedFieldNames(Map<String, MaskType> names) {
+        int capacity = Integer.highestOneBit(Math.max(2, names.size()) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.types = new MaskType[capacity];
+        for (Map.Entry<String, MaskType> entry : names.entrySet()) {
+            int slot = slotOf(entry.getKey());
+            while (keys[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            keys[slot] = entry.getKey();
+            types[slot] = entry.getValue();
+        }
+        this.size = names.size();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the mask type for the given field name.
+     *
+     * @param fieldName the field name, may be {@code null}
+     * @return the mask type, or {@code null} if the field is not masked
+     */
+    public MaskType typeOf(String fieldName) {
+        if (fieldName == null) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        int slot = slotOf(fieldName);
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key.equals(fieldName)) {
+                return types[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of field names in the set.
+     *
+     * @return the number of field names
+     */
+    public int size() {
+        return size;
+    }
+
+    private int slotOf(String fieldName) {
+        int h = fieldName.hashCode();
+        return (h ^ (h >>> 16)) & (keys.length - 1);
+    }
+
+    /**
+     * Builder for {@link MaskedFieldNames}.
+     */
+    public static final class Builder {
+
+        private final Map<String, MaskType> names = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Masks string values of the given field with the given type.
+         *
+         * @param fieldName the exact JSON field name
+         * @param type      the mask type to apply
+         * @return this builder
+         */
+        public Builder add(String fieldName, MaskType type) {
+            if (fieldName == null || type == null) {
+                throw new IllegalArgumentException("fieldName and type must not be null");
+            }
+            names.put(fieldName, type);
+            return this;
+        }
+
+        /**
+         * Builds the immutable set.
+         *
+         * @return the compiled field names
+         */
+        public MaskedFieldNames build() {
+            return new MaskedFieldNames(names);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Jackson serializer for {@link Masked} values.
+ *
+ * <p>Writes the masked form cached in the {@link Masked} holder for the resolved
+ * {@link MaskingConfig}, so a value serialized many times is masked once per config
+ * version. Honors the per-call {@link MaskingPolicy}, audit logging and latency recording
+ * like {@link MaskingSerializer}.
+ *
+ * @since 1.1.0
+ * @see Masked
+ */
+public class MaskedSerializer extends StdSerializer<Masked<?>> {
+
+    /**
+     * Default no-arg constructor required by Jackson.
+     */
+    public MaskedSerializer() {
+        super(Masked.class, false);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Masked<?> value) {
+        return value == null || value.getValue() == null;
+    }
+
+    @Override
+    public void serialize(Masked<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Object raw = value.getValue();
+        if (raw == null) {
+            gen.writeNull();
+            return;
+        }
+
+        MaskingPolicy policy = MaskingModule.resolvePolicy(provider);
+        if (policy == MaskingPolicy.UNMASKED) {
+            MaskingJsonGenerator.writeMaskedString(gen, raw.toString());
+            return;
+        }
+
+        // One consistent view of the config for this field
+        MaskingConfig config = MaskingModule.resolveConfig(provider).snapshot().asConfig();
+        if (!value.isMaskedUnder(config)) {
+            MaskingJsonGenerator.writeMaskedString(gen, raw.toString());
+            return;
+        }
+
+        // Timed only when a recorder is attached
+        MaskingLatencyRecorder recorder = config.getLatencyRecorder();
+        String masked;
+        if (recorder == null) {
+            masked = mask(value, raw, policy, config);
+        } else {
+            long start = System.nanoTime();
+            masked = mask(value, raw, policy, config);
+            recorder.record(value.getType(), fieldName(gen), System.nanoTime() - start);
+        }
+        MaskingJsonGenerator.writeMaskedString(gen, masked);
+
+        MaskingAuditLogger logger = config.getAuditLogger();
+        if (logger != null) {
+            logger.onFieldMasked(fieldName(gen), value.getType());
+        }
+    }
+
+    private static String mask(Masked<?> value, Object raw, MaskingPolicy policy, MaskingConfig config) {
+        if (policy == MaskingPolicy.MASKED) {
+            return MaskType.TOTAL.getStrategy().mask(raw.toString(), config);
+        }
+        return value.masked(config);
+    }
+
+    private static String fieldName(JsonGenerator gen) {
+        String name = gen.getOutputContext().getCurrentName();
+        return name != null ? name : "unknown";
+    }
+}
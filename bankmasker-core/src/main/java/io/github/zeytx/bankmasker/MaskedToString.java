@@ -0,0 +1,227 @@
+package io.github.zeytx.bankmasker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Generates log-safe {@code toString()} output for domain objects, masking every
+ * field or record component annotated with {@link MaskData}.
+ *
+ * <p>Instead of hand-writing {@code toString()} with {@link MaskUtils#mask} calls
+ * (and forgetting a field), delegate to this class:
+ * <pre>{@code
+ * public class PaymentDTO {
+ *
+ *     @MaskData(MaskType.CREDIT_CARD)
+ *     private String cardNumber;
+ *
+ *     private BigDecimal amount;
+ *
+ *     @Override
+ *     public String toString() {
+ *         return MaskedToString.of(this);
+ *         // → PaymentDTO{cardNumber=****-****-****-1234, amount=10.00}
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Classes render as {@code Name{field=value, ...}} and records as
+ * {@code Name[component=value, ...]}, like {@link Record#toString()}.
+ *
+ * <p>Reflection happens once per class: the resulting plan of {@link MethodHandle}
+ * getters and resolved strategies is cached in a {@link ClassValue}, and output is
+ * rendered into a per-thread pooled {@link StringBuilder}, which strategies append to
+ * through {@link MaskingStrategy#maskTo(String, MaskingConfig, StringBuilder)}. Masking respects
+ * {@link MaskingConfig#getInstance()}, like {@link MaskUtils}.
+ *
+ * @since 1.1.0
+ * @see MaskUtils
+ */
+public final class MaskedToString {
+
+    /** Builders larger than this are not kept in the pool. */
+    private static final int MAX_POOLED_CAPACITY = 8 * 1024;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return Plan.of(type);
+        }
+    };
+
+    /** Per-thread builders; a stack so nested {@code toString()} calls don't share one. */
+    private static final ThreadLocal<Deque<StringBuilder>> BUILDERS =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private MaskedToString() {
+        // utility class
+    }
+
+    /**
+     * Renders the given object with its {@link MaskData} fields masked.
+     *
+     * @param object the object to render, may be {@code null}
+     * @return the masked string representation
+     */
+    public static String of(Object object) {
+        if (object == null) {
+            return "null";
+        }
+        Plan plan = PLANS.get(object.getClass());
+        Deque<StringBuilder> pool = BUILDERS.get();
+        StringBuilder sb = pool.poll();
+        if (sb == null) {
+            sb = new StringBuilder(128);
+        }
+        try {
+            // One consistent view of the config for the whole string
+            plan.render(object, sb, MaskingConfig.getInstance().snapshot().asConfig());
+            return sb.toString();
+        } finally {
+            if (sb.capacity() <= MAX_POOLED_CAPACITY) {
+                sb.setLength(0);
+                pool.push(sb);
+            }
+        }
+    }
+
+    /**
+     * Precomputed rendering plan for one class.
+     */
+    private static final class Plan {
+
+        private final String prefix;
+        private final char suffix;
+        private final String[] labels;
+        private final String[] names;
+        private final MethodHandle[] getters;
+        private final MaskingStrategy[] strategies;
+        private final MaskType[] types;
+
+        private Plan(String prefix, char suffix, List<String> labels, List<String> names,
+                     List<MethodHandle> getters, List<MaskData> annotations) {
+            int n = labels.size();
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.labels = labels.toArray(new String[0]);
+            this.names = names.toArray(new String[0]);
+            this.getters = getters.toArray(new MethodHandle[0]);
+            this.strategies = new MaskingStrategy[n];
+            this.types = new MaskType[n];
+            for (int i = 0; i < n; i++) {
+                MaskData annotation = annotations.get(i);
+                if (annotation != null) {
+                    strategies[i] = MaskingSerializer.resolveStrategy(annotation);
+                    types[i] = annotation.value();
+                }
+            }
+        }
+
+        static Plan of(Class<?> type) {
+            List<String> labels = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            List<MethodHandle> getters = new ArrayList<>();
+            List<MaskData> annotations = new ArrayList<>();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    MethodHandle getter = unreflect(lookup, component.getAccessor());
+                    if (getter != null) {
+                        addProperty(labels, names, getters, annotations, component.getName(), getter,
+                                component.getAnnotation(MaskData.class));
+                    }
+                }
+                return new Plan(type.getSimpleName() + '[', ']', labels, names, getters, annotations);
+            }
+
+            List<Class<?>> hierarchy = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                hierarchy.add(0, c);
+            }
+            for (Class<?> c : hierarchy) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                        continue;
+                    }
+                    MethodHandle getter = unreflect(lookup, field);
+                    if (getter != null) {
+                        addProperty(labels, names, getters, annotations, field.getName(), getter,
+                                field.getAnnotation(MaskData.class));
+                    }
+                }
+            }
+            return new Plan(type.getSimpleName() + '{', '}', labels, names, getters, annotations);
+        }
+
+        private static void addProperty(List<String> labels, List<String> names, List<MethodHandle> getters,
+                                        List<MaskData> annotations, String name,
+                                        MethodHandle getter, MaskData annotation) {
+            labels.add((labels.isEmpty() ? "" : ", ") + name + '=');
+            names.add(name);
+            getters.add(getter.asType(GETTER_TYPE));
+            annotations.add(annotation);
+        }
+
+        /**
+         * Returns a getter for the member, or {@code null} if it cannot be made accessible
+         * (the member is then left out rather than failing the whole {@code toString()}).
+         */
+        private static MethodHandle unreflect(MethodHandles.Lookup lookup, Member member) {
+            try {
+                if (member instanceof Field field) {
+                    return field.trySetAccessible() ? lookup.unreflectGetter(field) : null;
+                }
+                Method method = (Method) member;
+                return method.trySetAccessible() ? lookup.unreflect(method) : null;
+            } catch (IllegalAccessException | SecurityException e) {
+                return null;
+            }
+        }
+
+        void render(Object object, StringBuilder sb, MaskingConfig config) {
+            sb.append(prefix);
+            for (int i = 0; i < getters.length; i++) {
+                sb.append(labels[i]);
+                Object value;
+                try {
+                    value = getters[i].invokeExact(object);
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Cannot read " + labels[i] + " of " + prefix, t);
+                }
+                MaskingStrategy strategy = strategies[i];
+                if (value == null || strategy == null) {
+                    sb.append(value);
+                    continue;
+                }
+                String original = value.toString();
+                if (original.isEmpty() || !config.isEnabled() || !config.isTypeEnabled(types[i])) {
+                    sb.append(original);
+                    continue;
+                }
+                // Timed only when a recorder is attached
+                MaskingLatencyRecorder recorder = config.getLatencyRecorder();
+                if (recorder == null) {
+                    strategy.maskTo(original, config, sb);
+                } else {
+                    long start = System.nanoTime();
+                    strategy.maskTo(original, config, sb);
+                    recorder.record(types[i], names[i], System.nanoTime() - start);
+                }
+            }
+            sb.append(suffix);
+        }
+    }
+}
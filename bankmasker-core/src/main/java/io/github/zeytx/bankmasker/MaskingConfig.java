@@ -1,5 +1,11 @@
 package io.github.zeytx.bankmasker;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
 /**
  * Global configuration for the BankMasker library.
  *
@@ -25,6 +31,12 @@ package io.github.zeytx.bankmasker;
  * mapper.registerModule(new MaskingModule(perMapper));
  * }</pre>
  *
+ * <p>All settings live in one immutable {@link Snapshot}, published through a single atomic
+ * reference. Every change, including {@link #update(UnaryOperator)} of several settings at
+ * once, publishes a new snapshot with a higher version. A reader that takes a
+ * {@link #snapshot()} therefore never sees half of an update. The serializers and
+ * {@link MaskingJsonGenerator} take one snapshot per masked value.
+ *
  * <p>This class is thread-safe.
  *
  * @since 1.0.0
@@ -32,13 +44,27 @@ package io.github.zeytx.bankmasker;
  */
 public final class MaskingConfig {
 
+    private static final Set<MaskType> ALL_TYPES =
+            Collections.unmodifiableSet(EnumSet.allOf(MaskType.class));
+
+    private static final Snapshot DEFAULTS = new Snapshot(true, '*', null, ALL_TYPES, null, null, 0);
+
     private static final MaskingConfig INSTANCE = new MaskingConfig();
 
-    private volatile boolean enabled = true;
-    private volatile char defaultMaskChar = '*';
-    private volatile MaskingAuditLogger auditLogger = null;
+    /** Current settings of a live config; {@code null} for a snapshot view. */
+    private final AtomicReference<Snapshot> state;
+
+    /** Settings of a read-only view, see {@link Snapshot#asConfig()}; {@code null} otherwise. */
+    private final Snapshot fixed;
 
     private MaskingConfig() {
+        this.state = new AtomicReference<>(DEFAULTS);
+        this.fixed = null;
+    }
+
+    private MaskingConfig(Snapshot fixed) {
+        this.state = null;
+        this.fixed = fixed;
     }
 
     /**
@@ -62,6 +88,41 @@ public final class MaskingConfig {
         return new MaskingConfig();
     }
 
+    /**
+     * Returns the current settings as one consistent, immutable snapshot.
+     *
+     * @return the current snapshot
+     * @since 1.1.0
+     */
+    public Snapshot snapshot() {
+        return fixed != null ? fixed : state.get();
+    }
+
+    /**
+     * Atomically applies a change to the current settings and publishes the result as the
+     * next version. The change may be retried when another thread updates concurrently, so
+     * it must not have side effects.
+     * <pre>{@code
+     * config.update(s -> s.withEnabled(true).withDefaultMaskChar('#'));
+     * }</pre>
+     *
+     * @param change computes the new settings from the current ones
+     * @return this instance for chaining
+     * @since 1.1.0
+     */
+    public MaskingConfig update(UnaryOperator<Snapshot> change) {
+        if (fixed != null) {
+            throw new IllegalStateException("A MaskingConfig snapshot view is read-only");
+        }
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = state.get();
+            next = change.apply(current).withVersion(current.version + 1);
+        } while (!state.compareAndSet(current, next));
+        return this;
+    }
+
     /**
      * Whether masking is globally enabled.
      * When disabled, all fields are serialized with their original values.
@@ -69,7 +130,7 @@ public final class MaskingConfig {
      * @return {@code true} if masking is enabled (default)
      */
     public boolean isEnabled() {
-        return enabled;
+        return snapshot().enabled;
     }
 
     /**
@@ -79,8 +140,7 @@ public final class MaskingConfig {
      * @return this instance for chaining
      */
     public MaskingConfig setEnabled(boolean enabled) {
-        this.enabled = enabled;
-        return this;
+        return update(s -> s.withEnabled(enabled));
     }
 
     /**
@@ -89,7 +149,7 @@ public final class MaskingConfig {
      * @return the default mask character (default {@code '*'})
      */
     public char getDefaultMaskChar() {
-        return defaultMaskChar;
+        return snapshot().defaultMaskChar;
     }
 
     /**
@@ -99,8 +159,7 @@ public final class MaskingConfig {
      * @return this instance for chaining
      */
     public MaskingConfig setDefaultMaskChar(char defaultMaskChar) {
-        this.defaultMaskChar = defaultMaskChar;
-        return this;
+        return update(s -> s.withDefaultMaskChar(defaultMaskChar));
     }
 
     /**
@@ -109,7 +168,7 @@ public final class MaskingConfig {
      * @return the audit logger, or {@code null}
      */
     public MaskingAuditLogger getAuditLogger() {
-        return auditLogger;
+        return snapshot().auditLogger;
     }
 
     /**
@@ -119,8 +178,106 @@ public final class MaskingConfig {
      * @return this instance for chaining
      */
     public MaskingConfig setAuditLogger(MaskingAuditLogger auditLogger) {
-        this.auditLogger = auditLogger;
-        return this;
+        return update(s -> s.withAuditLogger(auditLogger));
+    }
+
+    /**
+     * Returns the attached latency recorder, or {@code null} if none is set.
+     *
+     * @return the latency recorder, or {@code null}
+     * @since 1.1.0
+     */
+    public MaskingLatencyRecorder getLatencyRecorder() {
+        return snapshot().latencyRecorder;
+    }
+
+    /**
+     * Attaches a recorder that times every masked value, per type and field. Without one,
+     * masking is not timed at all.
+     *
+     * @param latencyRecorder the recorder, or {@code null} to stop recording
+     * @return this instance for chaining
+     * @since 1.1.0
+     */
+    public MaskingConfig setLatencyRecorder(MaskingLatencyRecorder latencyRecorder) {
+        return update(s -> s.withLatencyRecorder(latencyRecorder));
+    }
+
+    /**
+     * Whether masking is enabled for the given type. All types are enabled by default;
+     * fields of a disabled type are serialized with their original values.
+     *
+     * @param type the mask type
+     * @return {@code true} if fields of this type are masked
+     * @since 1.1.0
+     */
+    public boolean isTypeEnabled(MaskType type) {
+        return snapshot().enabledTypes.contains(type);
+    }
+
+    /**
+     * Returns the mask types that are enabled.
+     *
+     * @return an unmodifiable view of the enabled types
+     * @since 1.1.0
+     */
+    public Set<MaskType> getEnabledTypes() {
+        return snapshot().enabledTypes;
+    }
+
+    /**
+     * Restricts masking to the given types. Fields of any other type are
+     * serialized with their original values.
+     *
+     * @param enabledTypes the types to mask
+     * @return this instance for chaining
+     * @since 1.1.0
+     */
+    public MaskingConfig setEnabledTypes(Set<MaskType> enabledTypes) {
+        Set<MaskType> types = copyTypes(enabledTypes);
+        return update(s -> s.withTypes(types));
+    }
+
+    /**
+     * Sets the secret key {@link MaskType#PSEUDONYMIZE} derives its HMAC-SHA256 tokens from.
+     * Values pseudonymized with the same key produce the same token, so they can be joined
+     * across datasets. Without a key, {@code PSEUDONYMIZE} fields are fully masked.
+     *
+     * @param key the secret key, at least 16 bytes, or {@code null} to remove it; it is copied
+     * @return this instance for chaining
+     * @since 1.1.0
+     */
+    public MaskingConfig setPseudonymizationKey(byte[] key) {
+        byte[] copy = copyKey(key);
+        return update(s -> s.withKey(copy));
+    }
+
+    /**
+     * Whether a pseudonymization key is set. The key itself is never exposed.
+     *
+     * @return {@code true} if {@link MaskType#PSEUDONYMIZE} produces tokens
+     * @since 1.1.0
+     */
+    public boolean hasPseudonymizationKey() {
+        return snapshot().pseudonymizationKey != null;
+    }
+
+    /**
+     * Returns the key without copying it; callers must not modify it.
+     */
+    byte[] pseudonymizationKey() {
+        return snapshot().pseudonymizationKey;
+    }
+
+    /**
+     * Returns a counter incremented on every change to this configuration.
+     * Lets callers such as {@link Masked} cache results computed from it.
+     *
+     * @return the current version
+     * @since 1.1.0
+     */
+    public long getVersion() {
+        return snapshot().version;
     }
 
     /**
@@ -129,10 +286,182 @@ public final class MaskingConfig {
      * @return this instance for chaining
      */
     public MaskingConfig reset() {
-        this.enabled = true;
-        this.defaultMaskChar = '*';
-        this.auditLogger = null;
-        return this;
+        return update(s -> DEFAULTS);
+    }
+
+    private static Set<MaskType> copyTypes(Set<MaskType> enabledTypes) {
+        if (enabledTypes == null) {
+            throw new IllegalArgumentException("enabledTypes must not be null");
+        }
+        return enabledTypes.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(enabledTypes));
+    }
+
+    private static byte[] copyKey(byte[] key) {
+        if (key != null && key.length < 16) {
+            throw new IllegalArgumentException("Pseudonymization key must be at least 16 bytes");
+        }
+        return key != null ? key.clone() : null;
     }
-}
 
+    /**
+     * Immutable set of all {@link MaskingConfig} settings at one version.
+     *
+     * <p>The {@code with} methods return modified copies for use in
+     * {@link MaskingConfig#update(UnaryOperator)}; the version is assigned when the copy
+     * is published.
+     *
+     * @since 1.1.0
+     */
+    public static final class Snapshot {
+
+        private final boolean enabled;
+        private final char defaultMaskChar;
+        private final MaskingAuditLogger auditLogger;
+        private final Set<MaskType> enabledTypes;
+        private final byte[] pseudonymizationKey;
+        private final MaskingLatencyRecorder latencyRecorder;
+        private final long version;
+        private final MaskingConfig view;
+
+        private Snapshot(boolean enabled, char defaultMaskChar, MaskingAuditLogger auditLogger,
+                         Set<MaskType> enabledTypes, byte[] pseudonymizationKey,
+                         MaskingLatencyRecorder latencyRecorder, long version) {
+            this.enabled = enabled;
+            this.defaultMaskChar = defaultMaskChar;
+            this.auditLogger = auditLogger;
+            this.enabledTypes = enabledTypes;
+            this.pseudonymizationKey = pseudonymizationKey;
+            this.latencyRecorder = latencyRecorder;
+            this.version = version;
+            this.view = new MaskingConfig(this);
+        }
+
+        /** @return whether masking is enabled */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /** @return the default mask character */
+        public char getDefaultMaskChar() {
+            return defaultMaskChar;
+        }
+
+        /** @return the audit logger, or {@code null} */
+        public MaskingAuditLogger getAuditLogger() {
+            return auditLogger;
+        }
+
+        /** @return the latency recorder, or {@code null} */
+        public MaskingLatencyRecorder getLatencyRecorder() {
+            return latencyRecorder;
+        }
+
+        /**
+         * @param type the mask type
+         * @return whether fields of this type are masked
+         */
+        public boolean isTypeEnabled(MaskType type) {
+            return enabledTypes.contains(type);
+        }
+
+        /** @return an unmodifiable view of the enabled types */
+        public Set<MaskType> getEnabledTypes() {
+            return enabledTypes;
+        }
+
+        /** @return whether a pseudonymization key is set */
+        public boolean hasPseudonymizationKey() {
+            return pseudonymizationKey != null;
+        }
+
+        byte[] pseudonymizationKey() {
+            return pseudonymizationKey;
+        }
+
+        /** @return the version this snapshot was published as */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Returns a read-only {@link MaskingConfig} fixed to this snapshot, which the serializers
+         * pass to the built-in strategies. Its getters read this snapshot; its setters throw
+         * {@link IllegalStateException}. Package-private so that no user code, strategies
+         * included, is ever handed a config it cannot change.
+         *
+         * @return the read-only view, always the same instance for this snapshot
+         */
+        MaskingConfig asConfig() {
+            return view;
+        }
+
+        /**
+         * @param enabled whether masking is enabled
+         * @return a copy with the given setting
+         */
+        public Snapshot withEnabled(boolean enabled) {
+            return new Snapshot(enabled, defaultMaskChar, auditLogger, enabledTypes,
+                    pseudonymizationKey, latencyRecorder, version);
+        }
+
+        /**
+         * @param defaultMaskChar the default mask character
+         * @return a copy with the given setting
+         */
+        public Snapshot withDefaultMaskChar(char defaultMaskChar) {
+            return new Snapshot(enabled, defaultMaskChar, auditLogger, enabledTypes,
+                    pseudonymizationKey, latencyRecorder, version);
+        }
+
+        /**
+         * @param auditLogger the audit logger, or {@code null}
+         * @return a copy with the given setting
+         */
+        public Snapshot withAuditLogger(MaskingAuditLogger auditLogger) {
+            return new Snapshot(enabled, defaultMaskChar, auditLogger, enabledTypes,
+                    pseudonymizationKey, latencyRecorder, version);
+        }
+
+        /**
+         * @param latencyRecorder the latency recorder, or {@code null}
+         * @return a copy with the given setting
+         */
+        public Snapshot withLatencyRecorder(MaskingLatencyRecorder latencyRecorder) {
+            return new Snapshot(enabled, defaultMaskChar, auditLogger, enabledTypes,
+                    pseudonymizationKey, latencyRecorder, version);
+        }
+
+        /**
+         * @param enabledTypes the types to mask
+         * @return a copy with the given setting
+         */
+        public Snapshot withEnabledTypes(Set<MaskType> enabledTypes) {
+            return withTypes(copyTypes(enabledTypes));
+        }
+
+        /**
+         * @param key the pseudonymization key, at least 16 bytes, or {@code null}; it is copied
+         * @return a copy with the given setting
+         */
+        public Snapshot withPseudonymizationKey(byte[] key) {
+            return withKey(copyKey(key));
+        }
+
+        private Snapshot withTypes(Set<MaskType> enabledTypes) {
+            return new Snapshot(enabled, defaultMaskChar, auditLogger, enabledTypes,
+                    pseudonymizationKey, latencyRecorder, version);
+        }
+
+        private Snapshot withKey(byte[] pseudonymizationKey) {
+            return new Snapshot(enabled, defaultMaskChar, auditLogger, enabledTypes,
+                    pseudonymizationKey, latencyRecorder, version);
+        }
+
+        private Snapshot withVersion(long version) {
+            return new Snapshot(enabled, defaultMaskChar, auditLogger, enabledTypes,
+                    pseudonymizationKey, latencyRecorder, version);
+        }
+    }
+}
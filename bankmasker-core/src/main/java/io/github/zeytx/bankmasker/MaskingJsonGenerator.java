@@ -0,0 +1,363 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDecorator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * {@link JsonGenerator} delegate that masks string values by field name.
+ *
+ * <p>{@link MaskData} only applies to annotated bean properties, so {@code Map<String, Object>}
+ * responses, {@code JsonNode} trees and other untyped payloads are written as-is. This
+ * generator masks every string value written under a field listed in {@link MaskedFieldNames},
+ * including the elements of an array written directly under such a field.
+ *
+ * <p>The current field name is read from the delegate's output context, which Jackson
+ * maintains anyway, so no per-token state or allocation is added for non-matching values.
+ * Only the field names of arrays are remembered, since the contexts of binary formats such
+ * as Smile forget them once the array starts.
+ *
+ * <p>Install it on a whole {@link com.fasterxml.jackson.core.JsonFactory}:
+ * <pre>{@code
+ * JsonFactory factory = JsonFactory.builder()
+ *     .addDecorator(MaskingJsonGenerator.decorator(names, MaskingConfig.getInstance()))
+ *     .build();
+ * ObjectMapper mapper = new ObjectMapper(factory);
+ * }</pre>
+ * or only for maps and trees, through {@link MaskingModule#MaskingModule(MaskingConfig, MaskedFieldNames)}.
+ *
+ * <p>Values written by {@link MaskingSerializer} and {@link MaskedSerializer} are not masked twice.
+ *
+ * @since 1.1.0
+ * @see MaskedFieldNames
+ */
+public class MaskingJsonGenerator extends JsonGeneratorDelegate {
+
+    private final MaskedFieldNames fieldNames;
+    private final MaskingConfig config;
+    private final MaskingPolicy policy;
+
+    /** Field names of the arrays started through this generator, innermost last. */
+    private String[] arrayNames;
+    private int arrayDepth;
+
+    /**
+     * Wraps a generator.
+     *
+     * @param delegate   the generator to write to
+     * @param fieldNames the field names to mask
+     * @param config     the configuration for enable flag, mask character and auditing
+     */
+    public MaskingJsonGenerator(JsonGenerator delegate, MaskedFieldNames fieldNames, MaskingConfig config) {
+        this(delegate, fieldNames, config, MaskingPolicy.PARTIAL);
+    }
+
+    /**
+     * Wraps a generator, masking under the given policy like {@link MaskingSerializer}:
+     * {@link MaskingPolicy#MASKED} masks listed fields fully, {@link MaskingPolicy#PARTIAL}
+     * with the field's {@link MaskType}, and {@link MaskingPolicy#UNMASKED} not at all.
+     *
+     * @param delegate   the generator to write to
+     * @param fieldNames the field names to mask
+     * @param config     the configuration for enable flag, mask character and auditing
+     * @param policy     the masking policy of the call
+     * @since 1.1.0
+     */
+    public MaskingJsonGenerator(JsonGenerator delegate, MaskedFieldNames fieldNames, MaskingConfig config,
+                                MaskingPolicy policy) {
+        super(delegate, false);
+        if (fieldNames == null || config == null || policy == null) {
+            throw new IllegalArgumentException("MaskedFieldNames, MaskingConfig and MaskingPolicy must not be null");
+        }
+        this.fieldNames = fieldNames;
+        this.config = config;
+        this.policy = policy;
+    }
+
+    /**
+     * Returns a decorator that wraps every generator created by a {@code JsonFactory}.
+     *
+     * @param fieldNames the field names to mask
+     * @param config     the configuration for enable flag, mask character and auditing
+     * @return the generator decorator
+     */
+    public static JsonGeneratorDecorator decorator(MaskedFieldNames fieldNames, MaskingConfig config) {
+        return (factory, generator) -> new MaskingJsonGenerator(generator, fieldNames, config);
+    }
+
+    /**
+     * Generators accepting UTF-8 bytes for string values without escaping or re-encoding:
+     * {@code SmileGenerator} and {@code CBORGenerator} of the Jackson dataformats. Text
+     * generators either escape the bytes again or do not support {@code writeUTF8String}
+     * at all. Matched by class name, since the dataformats are optional dependencies.
+     */
+    private static final Set<String> UTF8_NATIVE_GENERATORS = Set.of(
+            "com.fasterxml.jackson.dataformat.smile.SmileGenerator",
+            "com.fasterxml.jackson.dataformat.cbor.CBORGenerator");
+
+    /** Whether a generator class is, or extends, one of {@link #UTF8_NATIVE_GENERATORS}. */
+    private static final ClassValue<Boolean> UTF8_NATIVE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                if (UTF8_NATIVE_GENERATORS.contains(c.getName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    };
+
+    /** Longest value copied into the per-thread byte buffer; longer ones use {@code writeString}. */
+    private static final int MAX_UTF8_FAST_PATH = 1024;
+
+    private static final ThreadLocal<byte[]> UTF8_BUFFER = ThreadLocal.withInitial(() -> new byte[128]);
+
+    /**
+     * Writes a string value that has already been masked (or deliberately left unmasked)
+     * by a serializer, bypassing field-name matching.
+     *
+     * <p>On Smile and CBOR generators, ASCII values, which masked values nearly always are,
+     * are copied into a reused byte buffer and written with {@code writeUTF8String}, skipping
+     * the generator's char buffer and UTF-8 encoder.
+     *
+     * @param gen  the generator, possibly a {@link MaskingJsonGenerator}
+     * @param text the value to write
+     * @throws IOException if writing fails
+     */
+    static void writeMaskedString(JsonGenerator gen, String text) throws IOException {
+        JsonGenerator target = gen instanceof MaskingJsonGenerator masking ? masking.delegate : gen;
+        if (text != null && UTF8_NATIVE.get(target.getClass()) && writeAscii(target, text)) {
+            return;
+        }
+        target.writeString(text);
+    }
+
+    /**
+     * Writes the value as UTF-8 bytes if it is short and ASCII.
+     *
+     * @return {@code false}, having written nothing, otherwise
+     */
+    private static boolean writeAscii(JsonGenerator gen, String text) throws IOException {
+        int length = text.length();
+        if (length > MAX_UTF8_FAST_PATH) {
+            return false;
+        }
+        byte[] buffer = UTF8_BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+            UTF8_BUFFER.set(buffer);
+        }
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                return false;
+            }
+            buffer[i] = (byte) c;
+        }
+        gen.writeUTF8String(buffer, 0, length);
+        return true;
+    }
+
+    @Override
+    public void writeString(String text) throws IOException {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        String name = text != null ? maskedFieldName(snapshot) : null;
+        if (name == null) {
+            delegate.writeString(text);
+        } else {
+            writeMaskedString(delegate, mask(snapshot, name, text));
+        }
+    }
+
+    @Override
+    public void writeString(char[] text, int offset, int len) throws IOException {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        String name = maskedFieldName(snapshot);
+        if (name == null) {
+            delegate.writeString(text, offset, len);
+        } else {
+            writeMaskedString(delegate, mask(snapshot, name, new String(text, offset, len)));
+        }
+    }
+
+    /**
+     * Masks a value streamed from a reader. When the field is masked, the reader is read
+     * up front, {@code len} characters or to its end if {@code len} is negative, since
+     * strategies work on whole values.
+     */
+    @Override
+    public void writeString(Reader reader, int len) throws IOException {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        String name = reader != null ? maskedFieldName(snapshot) : null;
+        if (name == null) {
+            delegate.writeString(reader, len);
+        } else {
+            writeMaskedString(delegate, mask(snapshot, name, read(reader, len)));
+        }
+    }
+
+    private String read(Reader reader, int len) throws IOException {
+        StringBuilder text = new StringBuilder(len >= 0 ? len : 64);
+        char[] buffer = new char[len >= 0 ? Math.min(len, 1024) : 1024];
+        int remaining = len >= 0 ? len : Integer.MAX_VALUE;
+        while (remaining > 0) {
+            int read = reader.read(buffer, 0, Math.min(buffer.length, remaining));
+            if (read < 0) {
+                break;
+            }
+            text.append(buffer, 0, read);
+            remaining -= read;
+        }
+        if (len >= 0 && remaining > 0) {
+            _reportError("Didn't read enough from reader");
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void writeString(SerializableString text) throws IOException {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        String name = maskedFieldName(snapshot);
+        if (name == null) {
+            delegate.writeString(text);
+        } else {
+            writeMaskedString(delegate, mask(snapshot, name, text.getValue()));
+        }
+    }
+
+    @Override
+    public void writeUTF8String(byte[] text, int offset, int length) throws IOException {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        String name = maskedFieldName(snapshot);
+        if (name == null) {
+            delegate.writeUTF8String(text, offset, length);
+        } else {
+            writeMaskedString(delegate, mask(snapshot, name, new String(text, offset, length, StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Override
+    public void writeRawUTF8String(byte[] text, int offset, int length) throws IOException {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        String name = maskedFieldName(snapshot);
+        if (name == null) {
+            delegate.writeRawUTF8String(text, offset, length);
+        } else {
+            writeMaskedString(delegate, mask(snapshot, name, new String(text, offset, length, StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        pushArray();
+        delegate.writeStartArray();
+    }
+
+    @Override
+    @Deprecated
+    public void writeStartArray(int size) throws IOException {
+        pushArray();
+        delegate.writeStartArray(size);
+    }
+
+    @Override
+    public void writeStartArray(Object forValue) throws IOException {
+        pushArray();
+        delegate.writeStartArray(forValue);
+    }
+
+    @Override
+    public void writeStartArray(Object forValue, int size) throws IOException {
+        pushArray();
+        delegate.writeStartArray(forValue, size);
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        if (arrayDepth > 0) {
+            arrayNames[--arrayDepth] = null;
+        }
+        delegate.writeEndArray();
+    }
+
+    @Override
+    public void writeArray(String[] array, int offset, int length) throws IOException {
+        writeStartArray(array, length);
+        for (int i = offset, end = offset + length; i < end; i++) {
+            writeString(array[i]);
+        }
+        writeEndArray();
+    }
+
+    /**
+     * Returns the name of the field the next value belongs to if it must be masked,
+     * or {@code null}. Values in an array inherit the field name of the array.
+     *
+     * <p>Each value is checked and masked against one snapshot of the config, taken when it
+     * is written, so a change to the config also applies to a long-lived generator, such as
+     * the one behind a {@link MaskingSequenceWriter}, from its next value on.
+     */
+    private String maskedFieldName(MaskingConfig.Snapshot config) {
+        if (policy == MaskingPolicy.UNMASKED || !config.isEnabled()) {
+            return null;
+        }
+        JsonStreamContext ctx = delegate.getOutputContext();
+        String name = ctx.getCurrentName();
+        if (name == null && ctx.inArray()) {
+            if (arrayDepth > 0) {
+                name = arrayNames[arrayDepth - 1];
+            } else {
+                // Array started before this generator wrapped the output
+                JsonStreamContext parent = ctx.getParent();
+                name = parent != null ? parent.getCurrentName() : null;
+            }
+        }
+        MaskType type = fieldNames.typeOf(name);
+        return type != null && config.isTypeEnabled(type) ? name : null;
+    }
+
+    /**
+     * Remembers the field name of the array about to start; {@code null} for an array in an array.
+     */
+    private void pushArray() {
+        JsonStreamContext ctx = delegate.getOutputContext();
+        String name = ctx.inObject() ? ctx.getCurrentName() : null;
+        if (arrayNames == null) {
+            arrayNames = new String[4];
+        } else if (arrayDepth == arrayNames.length) {
+            arrayNames = Arrays.copyOf(arrayNames, arrayDepth * 2);
+        }
+        arrayNames[arrayDepth++] = name;
+    }
+
+    private String mask(MaskingConfig.Snapshot config, String fieldName, String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        MaskType type = fieldNames.typeOf(fieldName);
+        MaskingStrategy strategy = policy == MaskingPolicy.MASKED ? MaskType.TOTAL.getStrategy() : type.getStrategy();
+        MaskingLatencyRecorder recorder = config.getLatencyRecorder();
+        String masked;
+        if (recorder == null) {
+            masked = strategy.mask(value, config.asConfig());
+        } else {
+            long start = System.nanoTime();
+            masked = strategy.mask(value, config.asConfig());
+            recorder.record(type, fieldName, System.nanoTime() - start);
+        }
+        MaskingAuditLogger logger = config.getAuditLogger();
+        if (logger != null) {
+            logger.onFieldMasked(fieldName, type);
+        }
+        return masked;
+    }
+}
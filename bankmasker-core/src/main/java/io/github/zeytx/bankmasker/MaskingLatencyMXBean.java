@@ -0,0 +1,35 @@
+package io.github.zeytx.bankmasker;
+
+import java.util.List;
+
+/**
+ * JMX view of a {@link MaskingLatencyRecorder}, registered with
+ * {@link MaskingLatencyRecorder#registerMBean()}.
+ *
+ * <p>Snapshots appear as composite data with the type, field, count, mean, max, p50, p99 and
+ * p99.9 latency in nanoseconds, so JConsole, VisualVM or a JMX exporter can read them without
+ * BankMasker on their classpath.
+ *
+ * @since 1.1.0
+ */
+public interface MaskingLatencyMXBean {
+
+    /**
+     * Returns the latencies recorded so far, one snapshot per mask type and field.
+     *
+     * @return the snapshots
+     */
+    List<MaskingLatencyRecorder.Snapshot> getSnapshots();
+
+    /**
+     * Returns the number of masking calls recorded so far, across all types and fields.
+     *
+     * @return the total count
+     */
+    long getTotalCount();
+
+    /**
+     * Discards everything recorded so far.
+     */
+    void reset();
+}
@@ -0,0 +1,404 @@
+package io.github.zeytx.bankmasker;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records how long masking takes, per {@link MaskType} and field, without Spring or Micrometer.
+ *
+ * <p>Attach it to a {@link MaskingConfig}; every value masked under that config is then timed
+ * by {@link MaskingSerializer} ({@link MaskData} fields), {@link MaskedSerializer}
+ * ({@link Masked} values), {@link MaskingJsonGenerator} (field names, including maps and trees
+ * of a {@link MaskingModule} with {@link MaskedFieldNames}), {@link JsonTreeMasker} and
+ * {@link MaskedToString}. {@link MaskUtils} calls have no field and are not timed.
+ * <pre>{@code
+ * MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+ * MaskingConfig.getInstance().setLatencyRecorder(recorder);
+ * recorder.registerMBean();   // optional, see MaskingLatencyMXBean
+ *
+ * for (MaskingLatencyRecorder.Snapshot s : recorder.snapshotAndReset()) {
+ *     log.info("{} {} p99={}ns", s.getType(), s.getField(), s.getP99Nanos());
+ * }
+ * }</pre>
+ *
+ * <p>Latencies go into log-linear histograms in the style of HdrHistogram: 16 buckets per
+ * power of two, so a reported value is within 6.25% of the recorded one, up to about 68
+ * seconds. Each histogram is split into stripes chosen by thread, and every update is a
+ * lock-free atomic increment, so threads masking concurrently rarely touch the same counter.
+ *
+ * <p>Without a recorder the masking paths pay a single null check. With one, each masked value
+ * costs two {@link System#nanoTime()} calls, a lookup in a per-type map and four atomic updates;
+ * see {@code LatencyRecorderBenchmark}.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 1.1.0
+ * @see MaskingConfig#setLatencyRecorder(MaskingLatencyRecorder)
+ * @see MaskingLatencyMXBean
+ */
+public final class MaskingLatencyRecorder implements MaskingLatencyMXBean {
+
+    /** Default JMX name used by {@link #registerMBean()}. */
+    public static final String DEFAULT_OBJECT_NAME = "io.github.zeytx.bankmasker:type=MaskingLatency";
+
+    private static final MaskType[] TYPES = MaskType.values();
+
+    /** Histograms by field name, indexed by {@link MaskType#ordinal()}. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Map<String, StripedHistogram>[] histograms = new Map[TYPES.length];
+    private final int stripes;
+    private volatile ObjectName registeredName;
+
+    /**
+     * Creates a recorder with one stripe per available processor, up to 16.
+     */
+    public MaskingLatencyRecorder() {
+        this(Math.min(16, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Creates a recorder with the given number of stripes per histogram. More stripes mean
+     * less contention between threads and more memory: each stripe takes about 4.4 KB per
+     * type and field.
+     *
+     * @param stripes the stripes per histogram, between 1 and 256; rounded up to a power of two
+     */
+    public MaskingLatencyRecorder(int stripes) {
+        if (stripes < 1 || stripes > 256) {
+            throw new IllegalArgumentException("stripes must be between 1 and 256");
+        }
+        this.stripes = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Records one masking call.
+     *
+     * @param type  the mask type
+     * @param field the field name, or {@code null}
+     * @param nanos the duration in nanoseconds; negative values are recorded as 0
+     */
+    public void record(MaskType type, String field, long nanos) {
+        Map<String, StripedHistogram> byField = histograms[type.ordinal()];
+        String key = field != null ? field : "";
+        StripedHistogram histogram = byField.get(key);
+        if (histogram == null) {
+            histogram = byField.computeIfAbsent(key, k -> new StripedHistogram(stripes));
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Returns the latencies recorded so far, one snapshot per type and field.
+     *
+     * @return the snapshots, ordered by type, then by first use of the field
+     */
+    public List<Snapshot> snapshot() {
+        return collect(false);
+    }
+
+    /**
+     * Returns the latencies recorded since the last reset and starts a new interval.
+     * Every recorded value ends up in exactly one interval, even under concurrent recording.
+     *
+     * @return the snapshots, ordered by type, then by first use of the field
+     */
+    public List<Snapshot> snapshotAndReset() {
+        return collect(true);
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    @Override
+    public void reset() {
+        collect(true);
+    }
+
+    @Override
+    public List<Snapshot> getSnapshots() {
+        return snapshot();
+    }
+
+    @Override
+    public long getTotalCount() {
+        long total = 0;
+        for (Map<String, StripedHistogram> byField : histograms) {
+            for (StripedHistogram histogram : byField.values()) {
+                total += histogram.count();
+            }
+        }
+        return total;
+    }
+
+    private List<Snapshot> collect(boolean reset) {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (MaskType type : TYPES) {
+            for (Map.Entry<String, StripedHistogram> entry : histograms[type.ordinal()].entrySet()) {
+                snapshots.add(entry.getValue().snapshot(type, entry.getKey(), reset));
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Registers this recorder with the platform MBean server under {@link #DEFAULT_OBJECT_NAME}.
+     *
+     * @return the name it was registered under
+     * @throws IllegalStateException if another MBean is registered under that name
+     */
+    public ObjectName registerMBean() {
+        return registerMBean(DEFAULT_OBJECT_NAME);
+    }
+
+    /**
+     * Registers this recorder with the platform MBean server, e.g. under
+     * {@code "io.github.zeytx.bankmasker:type=MaskingLatency,name=payments"} when several
+     * configs have their own recorder.
+     *
+     * @param objectName the JMX object name
+     * @return the name it was registered under
+     * @throws IllegalArgumentException if the name is malformed
+     * @throws IllegalStateException    if another MBean is registered under that name
+     */
+    public ObjectName registerMBean(String objectName) {
+        try {
+            ObjectName name = new ObjectName(objectName);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            registeredName = name;
+            return name;
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid JMX object name: " + objectName, e);
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("An MBean is already registered as " + objectName, e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register MBean " + objectName, e);
+        }
+    }
+
+    /**
+     * Unregisters this recorder from the platform MBean server, if registered.
+     */
+    public void unregisterMBean() {
+        ObjectName name = registeredName;
+        if (name == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(name);
+        } catch (InstanceNotFoundException e) {
+            // Already gone
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister MBean " + name, e);
+        }
+        registeredName = null;
+    }
+
+    /**
+     * Latency distribution of one mask type and field. Values are in nanoseconds and, except
+     * for the maximum, within 6.25% of the recorded ones.
+     *
+     * <p>The getters make snapshots readable as composite data over JMX.
+     */
+    public static final class Snapshot {
+
+        private final MaskType type;
+        private final String field;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] buckets;
+
+        Snapshot(MaskType type, String field, long count, long totalNanos, long maxNanos, long[] buckets) {
+            this.type = type;
+            this.field = field;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        /** @return the mask type */
+        public MaskType getType() {
+            return type;
+        }
+
+        /** @return the field name, or an empty string if none was known */
+        public String getField() {
+            return field;
+        }
+
+        /** @return the number of recorded calls */
+        public long getCount() {
+            return count;
+        }
+
+        /** @return the mean latency, or 0 if nothing was recorded */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /** @return the highest recorded latency, exact */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /** @return the median latency */
+        public long getP50Nanos() {
+            return getValueAtPercentile(50);
+        }
+
+        /** @return the 99th percentile latency */
+        public long getP99Nanos() {
+            return getValueAtPercentile(99);
+        }
+
+        /** @return the 99.9th percentile latency */
+        public long getP999Nanos() {
+            return getValueAtPercentile(99.9);
+        }
+
+        /**
+         * Returns the latency at or below which the given percentage of calls fall.
+         *
+         * @param percentile between 0 and 100
+         * @return the latency in nanoseconds, or 0 if nothing was recorded
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(StripedHistogram.highestValueOf(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + field + ": count=" + count + ", p50=" + getP50Nanos() + "ns, p99="
+                    + getP99Nanos() + "ns, p99.9=" + getP999Nanos() + "ns, max=" + maxNanos + "ns";
+        }
+    }
+
+    /**
+     * Log-linear histogram split into stripes. Each stripe is a row of an
+     * {@link AtomicLongArray}: the buckets, then the count, total and maximum.
+     */
+    private static final class StripedHistogram {
+
+        /** Bucket index bits below the leading one: 16 sub-buckets per power of two. */
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        /** Values are clamped to 2^36 - 1 ns, about 68 seconds. */
+        private static final long MAX_VALUE = (1L << 36) - 1;
+        private static final int BUCKETS = indexOf(MAX_VALUE) + 1;
+
+        private static final int COUNT = BUCKETS;
+        private static final int TOTAL = BUCKETS + 1;
+        private static final int MAX = BUCKETS + 2;
+        /** Row length, padded to a multiple of 8 longs so stripes start on separate cache lines. */
+        private static final int ROW = (BUCKETS + 3 + 7) & ~7;
+
+        private final AtomicLongArray cells;
+        private final int mask;
+
+        StripedHistogram(int stripes) {
+            this.cells = new AtomicLongArray(stripes * ROW);
+            this.mask = stripes - 1;
+        }
+
+        static int indexOf(long value) {
+            if (value < 2 * SUB_BUCKETS) {
+                return (int) value;
+            }
+            int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+            return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+        }
+
+        /** Highest value that maps to the given bucket. */
+        static long highestValueOf(int index) {
+            if (index < 2 * SUB_BUCKETS) {
+                return index;
+            }
+            int shift = index / SUB_BUCKETS - 1;
+            long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+            return ((subBucket + 1) << shift) - 1;
+        }
+
+        void record(long nanos) {
+            long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+            int row = stripe() * ROW;
+            cells.getAndIncrement(row + indexOf(value));
+            cells.getAndIncrement(row + COUNT);
+            cells.getAndAdd(row + TOTAL, value);
+            long max;
+            while (value > (max = cells.get(row + MAX))) {
+                if (cells.compareAndSet(row + MAX, max, value)) {
+                    break;
+                }
+            }
+        }
+
+        private int stripe() {
+            if (mask == 0) {
+                return 0;
+            }
+            long id = Thread.currentThread().getId();
+            // Spread sequential thread ids over the stripes
+            return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        }
+
+        long count() {
+            long count = 0;
+            for (int row = 0; row < cells.length(); row += ROW) {
+                count += cells.get(row + COUNT);
+            }
+            return count;
+        }
+
+        Snapshot snapshot(MaskType type, String field, boolean reset) {
+            long[] buckets = new long[BUCKETS];
+            long total = 0;
+            long max = 0;
+            for (int row = 0; row < cells.length(); row += ROW) {
+                for (int i = 0; i < BUCKETS; i++) {
+                    buckets[i] += reset ? cells.getAndSet(row + i, 0) : cells.get(row + i);
+                }
+                if (reset) {
+                    cells.getAndSet(row + COUNT, 0);
+                }
+                total += reset ? cells.getAndSet(row + TOTAL, 0) : cells.get(row + TOTAL);
+                max = Math.max(max, reset ? cells.getAndSet(row + MAX, 0) : cells.get(row + MAX));
+            }
+            // Buckets and the count cell are updated separately; the buckets are what percentiles use
+            long count = 0;
+            for (long bucket : buckets) {
+                count += bucket;
+            }
+            return new Snapshot(type, field, count, total, max, buckets);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package io.github.zeytx.bankmasker;
 
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.type.MapType;
 
 /**
  * Jackson module that allows per-{@link ObjectMapper} masking configuration.
@@ -26,6 +32,21 @@ import com.fasterxml.jackson.databind.cfg.ContextAttributes;
  * <p>If no {@link MaskingModule} is registered, the serializer falls back to the
  * global {@link MaskingConfig#getInstance()} singleton.
  *
+ * <p>Given {@link MaskedFieldNames}, the module also masks {@code Map} and {@code JsonNode}
+ * payloads by field name, through a {@link MaskingJsonGenerator}:
+ * <pre>{@code
+ * mapper.registerModule(new MaskingModule(config, MaskedFieldNames.builder()
+ *     .add("cardNumber", MaskType.CREDIT_CARD)
+ *     .build()));
+ * }</pre>
+ *
+ * <p>Both the config and the {@link MaskingPolicy} can also be chosen per call,
+ * without touching shared state, by deriving an {@link ObjectWriter}:
+ * <pre>{@code
+ * ObjectWriter backOffice = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED);
+ * String json = backOffice.writeValueAsString(payment);
+ * }</pre>
+ *
  * @since 1.1.0
  * @see MaskingConfig
  * @see MaskingSerializer
@@ -37,7 +58,13 @@ public class MaskingModule extends Module {
      */
     static final Object CONFIG_KEY = MaskingModule.class.getName() + ".config";
 
+    /**
+     * Attribute key for the per-call {@link MaskingPolicy}.
+     */
+    static final Object POLICY_KEY = MaskingModule.class.getName() + ".policy";
+
     private final MaskingConfig config;
+    private final MaskedFieldNames fieldNames;
 
     /**
      * Creates a module with a specific masking configuration.
@@ -45,10 +72,23 @@ public class MaskingModule extends Module {
      * @param config the per-mapper configuration
      */
     public MaskingModule(MaskingConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * Creates a module with a specific masking configuration that also masks
+     * {@code Map} and {@code JsonNode} values by field name.
+     *
+     * @param config     the per-mapper configuration
+     * @param fieldNames the field names to mask in maps and trees, or {@code null} for none
+     * @since 1.1.0
+     */
+    public MaskingModule(MaskingConfig config, MaskedFieldNames fieldNames) {
         if (config == null) {
             throw new IllegalArgumentException("MaskingConfig must not be null");
         }
         this.config = config;
+        this.fieldNames = fieldNames;
     }
 
     @Override
@@ -63,11 +103,17 @@ public class MaskingModule extends Module {
 
     @Override
     public void setupModule(SetupContext context) {
-        // Store the per-mapper config as a default attribute on the ObjectMapper
+        // Store the per-mapper config as a shared default attribute on the ObjectMapper.
+        // Shared (not per-call) so that ObjectWriter.withAttribute(...) keeps it when
+        // copying the attributes, and so that concurrent calls never mutate it.
         Object owner = context.getOwner();
         if (owner instanceof ObjectMapper mapper) {
-            mapper.setDefaultAttributes(
-                    ContextAttributes.getEmpty().withPerCallAttribute(CONFIG_KEY, config));
+            mapper.setDefaultAttributes(mapper.getSerializationConfig().getAttributes()
+                    .withSharedAttribute(CONFIG_KEY, config));
+        }
+
+        if (fieldNames != null) {
+            context.addBeanSerializerModifier(new FieldNameMaskingModifier(fieldNames));
         }
     }
 
@@ -80,6 +126,16 @@ public class MaskingModule extends Module {
         return config;
     }
 
+    /**
+     * Returns the field names masked in maps and trees, if any.
+     *
+     * @return the field names, or {@code null}
+     * @since 1.1.0
+     */
+    public MaskedFieldNames getFieldNames() {
+        return fieldNames;
+    }
+
     /**
      * Resolves the {@link MaskingConfig} from the per-ObjectMapper context,
      * falling back to the global singleton.
@@ -96,5 +152,81 @@ public class MaskingModule extends Module {
         }
         return MaskingConfig.getInstance();
     }
-}
 
+    /**
+     * Resolves the {@link MaskingPolicy} set for the current call,
+     * defaulting to {@link MaskingPolicy#PARTIAL}.
+     *
+     * @param provider the serializer provider
+     * @return the resolved policy
+     */
+    static MaskingPolicy resolvePolicy(SerializerProvider provider) {
+        if (provider != null) {
+            Object attr = provider.getAttribute(POLICY_KEY);
+            if (attr instanceof MaskingPolicy policy) {
+                return policy;
+            }
+        }
+        return MaskingPolicy.PARTIAL;
+    }
+
+    /**
+     * Returns a writer that serializes with the given masking policy.
+     * The returned writer is immutable and can be cached and shared between threads.
+     *
+     * @param writer the base writer
+     * @param policy the policy to apply to every call made through the returned writer
+     * @return a writer bound to the policy
+     * @since 1.1.0
+     */
+    public static ObjectWriter withPolicy(ObjectWriter writer, MaskingPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("MaskingPolicy must not be null");
+        }
+        return writer.withAttribute(POLICY_KEY, policy);
+    }
+
+    /**
+     * Returns a writer that serializes with the given masking configuration,
+     * overriding the one registered on the mapper (or the global singleton).
+     * The returned writer is immutable and can be cached and shared between threads.
+     *
+     * @param writer the base writer
+     * @param config the configuration to use for every call made through the returned writer
+     * @return a writer bound to the configuration
+     * @since 1.1.0
+     */
+    public static ObjectWriter withConfig(ObjectWriter writer, MaskingConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("MaskingConfig must not be null");
+        }
+        return writer.withAttribute(CONFIG_KEY, config);
+    }
+
+    /**
+     * Routes map and tree serializers through a {@link MaskingJsonGenerator}.
+     */
+    private static final class FieldNameMaskingModifier extends BeanSerializerModifier {
+
+        private final MaskedFieldNames fieldNames;
+
+        FieldNameMaskingModifier(MaskedFieldNames fieldNames) {
+            this.fieldNames = fieldNames;
+        }
+
+        @Override
+        public JsonSerializer<?> modifyMapSerializer(SerializationConfig config, MapType valueType,
+                                                     BeanDescription beanDesc, JsonSerializer<?> serializer) {
+            return new FieldNameMaskingSerializer(serializer, fieldNames);
+        }
+
+        @Override
+        public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                  JsonSerializer<?> serializer) {
+            if (JsonNode.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                return new FieldNameMaskingSerializer(serializer, fieldNames);
+            }
+            return serializer;
+        }
+    }
+}
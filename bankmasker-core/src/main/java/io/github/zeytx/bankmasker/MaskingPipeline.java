@@ -0,0 +1,352 @@
+package io.github.zeytx.bankmasker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link MaskingStrategy} built from normalize, validate and mask stages fused into a
+ * single pass over the input.
+ *
+ * <p>Each input character goes through the {@link Normalizer} and, if kept, straight into a
+ * reused per-thread buffer while every {@link Validator} updates its running state. The mask
+ * stage, a {@link MaskPattern}, then runs over that buffer. No intermediate strings are
+ * created between stages; the only allocation is the result.
+ *
+ * <p>Values rejected by a validator are fully masked like {@link MaskType#TOTAL}, so garbage
+ * is never partially revealed:
+ * <pre>{@code
+ * MaskingStrategy card = MaskingPipeline.builder()
+ *     .normalize(Normalizer.DIGITS)
+ *     .validate(Validator.LUHN)
+ *     .mask("*+####")
+ *     .build();
+ *
+ * card.mask("4111 1111 1111 1111");  // ************1111
+ * card.mask("4111 1111 1111 1112");  // ********
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @since 1.1.0
+ * @see MaskPattern
+ */
+public final class MaskingPipeline implements MaskingStrategy {
+
+    /**
+     * Normalize stage: maps one input character, or drops it.
+     */
+    @FunctionalInterface
+    public interface Normalizer {
+
+        /** Keeps every character unchanged. */
+        Normalizer NONE = c -> c;
+
+        /** Keeps ASCII digits only. */
+        Normalizer DIGITS = c -> c >= '0' && c <= '9' ? c : -1;
+
+        /** Keeps ASCII letters and digits, upper-casing letters. */
+        Normalizer ALPHANUMERIC_UPPER = c -> {
+            if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) {
+                return c;
+            }
+            return c >= 'a' && c <= 'z' ? c - ('a' - 'A') : -1;
+        };
+
+        /**
+         * Normalizes one character.
+         *
+         * @param c the input character
+         * @return the normalized character, or {@code -1} to drop it
+         */
+        int normalize(char c);
+    }
+
+    /**
+     * Validate stage: consumes the normalized characters one at a time, threading its
+     * state through a {@code long} so that validation allocates nothing.
+     */
+    public interface Validator {
+
+        /**
+         * Luhn checksum over digits, as used by payment card numbers.
+         * Non-digits make the value invalid.
+         */
+        Validator LUHN = new Validator() {
+            @Override
+            public long update(long state, char c, int index) {
+                if (state < 0 || c < '0' || c > '9') {
+                    return -1;
+                }
+                int digit = c - '0';
+                int doubled = digit * 2 > 9 ? digit * 2 - 9 : digit * 2;
+                // Low half: sum if the first digit is doubled; high half: if it is not
+                long evenSum = (state & 0xFFFF_FFFFL) + (index % 2 == 0 ? doubled : digit);
+                long oddSum = (state >>> 32) + (index % 2 == 0 ? digit : doubled);
+                return (oddSum << 32) | evenSum;
+            }
+
+            @Override
+            public boolean isValid(long state, char[] normalized, int length) {
+                if (state < 0 || length < 2) {
+                    return false;
+                }
+                // The rightmost digit is never doubled, so the first one is iff the length is even
+                long sum = length % 2 == 0 ? state & 0xFFFF_FFFFL : state >>> 32;
+                return sum % 10 == 0;
+            }
+        };
+
+        /**
+         * ISO 13616 IBAN check: two letters, two check digits, up to 30 alphanumerics,
+         * 15 to 34 characters in total, and the mod-97 checksum. Expects upper-case input,
+         * e.g. from {@link Normalizer#ALPHANUMERIC_UPPER}.
+         */
+        Validator IBAN = new Validator() {
+            @Override
+            public long update(long state, char c, int index) {
+                if (state < 0) {
+                    return -1;
+                }
+                boolean digit = c >= '0' && c <= '9';
+                boolean letter = c >= 'A' && c <= 'Z';
+                if (index < 2 ? !letter : index < 4 ? !digit : !(digit || letter)) {
+                    return -1;
+                }
+                // The first four characters are moved to the end; they are added in isValid
+                return index < 4 ? state : mod97(state, c);
+            }
+
+            @Override
+            public boolean isValid(long state, char[] normalized, int length) {
+                if (state < 0 || length < 15 || length > 34) {
+                    return false;
+                }
+                for (int i = 0; i < 4; i++) {
+                    state = mod97(state, normalized[i]);
+                }
+                return state == 1;
+            }
+
+            private long mod97(long remainder, char c) {
+                return c <= '9' ? (remainder * 10 + (c - '0')) % 97 : (remainder * 100 + (c - 'A' + 10)) % 97;
+            }
+        };
+
+        /**
+         * Requires the normalized length to be within the given bounds.
+         *
+         * @param min the minimum length, inclusive
+         * @param max the maximum length, inclusive
+         * @return the validator
+         */
+        static Validator length(int min, int max) {
+            return (state, normalized, length) -> length >= min && length <= max;
+        }
+
+        /**
+         * Returns the initial state.
+         *
+         * @return the initial state
+         */
+        default long initialState() {
+            return 0;
+        }
+
+        /**
+         * Folds one normalized character into the state.
+         *
+         * @param state the current state
+         * @param c     the normalized character
+         * @param index its position in the normalized value
+         * @return the new state
+         */
+        default long update(long state, char c, int index) {
+            return state;
+        }
+
+        /**
+         * Decides whether the value is valid once all characters have been seen.
+         *
+         * @param state      the final state
+         * @param normalized the normalized characters
+         * @param length     the number of normalized characters
+         * @return {@code true} to mask the value with the pattern, {@code false} to mask it fully
+         */
+        boolean isValid(long state, char[] normalized, int length);
+    }
+
+    private final Normalizer normalizer;
+    private final Validator[] validators;
+    private final MaskPattern pattern;
+
+    private MaskingPipeline(Normalizer normalizer, Validator[] validators, MaskPattern pattern) {
+        this.normalizer = normalizer;
+        this.validators = validators;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String mask(String value) {
+        return mask(value, MaskingConfig.getInstance().getDefaultMaskChar());
+    }
+
+    @Override
+    public String mask(String value, MaskingConfig config) {
+        return mask(value, config.getDefaultMaskChar());
+    }
+
+    /**
+     * Masks the value with the given mask character.
+     *
+     * @param value    the value to mask
+     * @param maskChar the mask character
+     * @return the masked value, or {@code null} for a {@code null} value
+     */
+    public String mask(String value, char maskChar) {
+        if (value == null) {
+            return null;
+        }
+        MaskPattern.Buffers buffers = MaskPattern.Buffers.ensure(value.length(),
+                pattern.maxOutputLength(value.length()));
+        int len = run(value, maskChar, buffers);
+        return len >= 0 ? new String(buffers.out, 0, len) : MaskType.TOTAL.mask(value, maskChar);
+    }
+
+    @Override
+    public void maskTo(String value, MaskingConfig config, StringBuilder out) {
+        if (value == null) {
+            out.append((String) null);
+            return;
+        }
+        char maskChar = config.getDefaultMaskChar();
+        MaskPattern.Buffers buffers = MaskPattern.Buffers.ensure(value.length(),
+                pattern.maxOutputLength(value.length()));
+        int len = run(value, maskChar, buffers);
+        if (len >= 0) {
+            out.append(buffers.out, 0, len);
+        } else {
+            MaskPattern.appendTotal(maskChar, out);
+        }
+    }
+
+    /**
+     * Normalizes and validates in one pass into {@code buffers.in}, then masks into {@code buffers.out}.
+     *
+     * @return the output length, or {@code -1} if the value is invalid
+     */
+    private int run(String value, char maskChar, MaskPattern.Buffers buffers) {
+        char[] normalized = buffers.in;
+        Validator[] validators = this.validators;
+        long[] states = buffers.states(validators.length);
+        for (int v = 0; v < validators.length; v++) {
+            states[v] = validators[v].initialState();
+        }
+
+        int n = 0;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            int c = normalizer.normalize(value.charAt(i));
+            if (c < 0) {
+                continue;
+            }
+            char ch = (char) c;
+            for (int v = 0; v < validators.length; v++) {
+                states[v] = validators[v].update(states[v], ch, n);
+            }
+            normalized[n++] = ch;
+        }
+
+        for (int v = 0; v < validators.length; v++) {
+            if (!validators[v].isValid(states[v], normalized, n)) {
+                return -1;
+            }
+        }
+        return pattern.run(normalized, n, maskChar, buffers.out);
+    }
+
+    /**
+     * Builder for {@link MaskingPipeline}.
+     */
+    public static final class Builder {
+
+        private Normalizer normalizer = Normalizer.NONE;
+        private final List<Validator> validators = new ArrayList<>();
+        private MaskPattern pattern;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the normalize stage. Defaults to {@link Normalizer#NONE}.
+         *
+         * @param normalizer the normalizer
+         * @return this builder
+         */
+        public Builder normalize(Normalizer normalizer) {
+            if (normalizer == null) {
+                throw new IllegalArgumentException("Normalizer must not be null");
+            }
+            this.normalizer = normalizer;
+            return this;
+        }
+
+        /**
+         * Adds a validator; all of them must accept the value for it to be partially masked.
+         *
+         * @param validator the validator
+         * @return this builder
+         */
+        public Builder validate(Validator validator) {
+            if (validator == null) {
+                throw new IllegalArgumentException("Validator must not be null");
+            }
+            validators.add(validator);
+            return this;
+        }
+
+        /**
+         * Sets the mask stage.
+         *
+         * @param pattern the pattern applied to the normalized value
+         * @return this builder
+         */
+        public Builder mask(MaskPattern pattern) {
+            if (pattern == null) {
+                throw new IllegalArgumentException("MaskPattern must not be null");
+            }
+            this.pattern = pattern;
+            return this;
+        }
+
+        /**
+         * Sets the mask stage from a template.
+         *
+         * @param pattern the template, see {@link MaskPattern}
+         * @return this builder
+         */
+        public Builder mask(String pattern) {
+            return mask(MaskPattern.compile(pattern));
+        }
+
+        /**
+         * Builds the pipeline.
+         *
+         * @return the pipeline
+         * @throws IllegalStateException if no mask stage was set
+         */
+        public MaskingPipeline build() {
+            if (pattern == null) {
+                throw new IllegalStateException("A mask stage is required");
+            }
+            return new MaskingPipeline(normalizer, validators.toArray(new Validator[0]), pattern);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.zeytx.bankmasker;
+
+/**
+ * Per-call masking policy, selected for a single serialization through
+ * {@link MaskingModule#withPolicy(com.fasterxml.jackson.databind.ObjectWriter, MaskingPolicy)}.
+ *
+ * <p>Policies are ordered from the most restrictive to the most permissive, so
+ * callers resolving a policy from several roles can simply keep the one with the
+ * highest {@link #ordinal()}.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * ObjectWriter backOffice = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED);
+ * ObjectWriter publicApi  = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.MASKED);
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see MaskingModule
+ * @see MaskingSerializer
+ */
+public enum MaskingPolicy {
+
+    /**
+     * Every annotated field is fully replaced with mask characters,
+     * regardless of its {@link MaskType}.
+     */
+    MASKED,
+
+    /**
+     * Every annotated field is masked with the strategy of its {@link MaskType}.
+     * This is the default when no policy is set.
+     */
+    PARTIAL,
+
+    /**
+     * Annotated fields are written with their original values.
+     */
+    UNMASKED
+}
@@ -0,0 +1,298 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+/**
+ * Streams masked records into a single JSON array with bounded memory.
+ *
+ * <p>Built on Jackson's {@link SequenceWriter}: each record is serialized straight into the
+ * generator's fixed-size buffer, so memory stays flat no matter how many records are written.
+ * When the record type is given, its serializer is resolved once up front and reused for
+ * every record. Instead of flushing after every value (Jackson's default for sequences),
+ * the output is flushed once per batch.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * try (MaskingSequenceWriter out = MaskingSequenceWriter.builder(mapper.writer())
+ *         .type(PaymentDTO.class)
+ *         .batchSize(10_000)
+ *         .progressListener(w -> log.info("{} records, {} rec/s",
+ *                 w.getRecordsWritten(), w.getRecordsPerSecond()))
+ *         .open(outputStream)) {
+ *     payments.forEach(out::writeUnchecked);
+ * }
+ * }</pre>
+ *
+ * <p>Masking follows the writer's {@link MaskingModule} config and {@link MaskingPolicy}, if any.
+ * Closing the writer closes the array and, unless disabled on the writer's factory
+ * ({@code JsonGenerator.Feature.AUTO_CLOSE_TARGET}), the target.
+ *
+ * <p>Instances are not thread-safe, but the counters may be read from any thread.
+ *
+ * @since 1.1.0
+ */
+public final class MaskingSequenceWriter implements Closeable, Flushable {
+
+    private final SequenceWriter sequence;
+    private final CountingOutputStream target;
+    private final int batchSize;
+    private final Consumer<MaskingSequenceWriter> progressListener;
+    private final long startNanos;
+
+    private volatile long recordsWritten;
+    private volatile long batchesFlushed;
+    private int pending;
+    private boolean closed;
+
+    private MaskingSequenceWriter(Builder builder, OutputStream out) throws IOException {
+        ObjectWriter writer = builder.writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (builder.type != null) {
+            writer = writer.forType(builder.type);
+        }
+        this.target = new CountingOutputStream(out);
+        this.sequence = writer.writeValuesAsArray(target);
+        this.batchSize = builder.batchSize;
+        this.progressListener = builder.progressListener;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a builder writing with the given writer.
+     *
+     * @param writer the writer to serialize records with, e.g. from a mapper with a {@link MaskingModule}
+     * @return a new builder
+     */
+    public static Builder builder(ObjectWriter writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("ObjectWriter must not be null");
+        }
+        return new Builder(writer);
+    }
+
+    /**
+     * Writes one record, flushing if a batch is complete.
+     *
+     * @param record the record, may be {@code null}
+     * @return this writer
+     * @throws IOException if writing fails
+     */
+    public MaskingSequenceWriter write(Object record) throws IOException {
+        sequence.write(record);
+        recordsWritten++;
+        if (++pending >= batchSize) {
+            flushBatch();
+        }
+        return this;
+    }
+
+    /**
+     * Like {@link #write(Object)}, wrapping {@link IOException} in an
+     * {@link UncheckedIOException} for use in lambdas.
+     *
+     * @param record the record, may be {@code null}
+     */
+    public void writeUnchecked(Object record) {
+        try {
+            write(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes the records written since the last batch.
+     *
+     * @throws IOException if flushing fails
+     */
+    @Override
+    public void flush() throws IOException {
+        if (pending > 0) {
+            flushBatch();
+        }
+    }
+
+    /**
+     * Closes the JSON array, flushes the last batch and closes the target.
+     *
+     * @throws IOException if writing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        sequence.close();
+        if (pending > 0) {
+            pending = 0;
+            batchesFlushed++;
+            notifyProgress();
+        }
+    }
+
+    private void flushBatch() throws IOException {
+        sequence.flush();
+        pending = 0;
+        batchesFlushed++;
+        notifyProgress();
+    }
+
+    private void notifyProgress() {
+        if (progressListener != null) {
+            progressListener.accept(this);
+        }
+    }
+
+    /**
+     * Returns the number of records written so far.
+     *
+     * @return the record count
+     */
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    /**
+     * Returns the number of bytes that reached the target so far. Bytes still
+     * buffered in the generator are only counted once flushed.
+     *
+     * @return the byte count
+     */
+    public long getBytesWritten() {
+        return target.count;
+    }
+
+    /**
+     * Returns the number of batches flushed so far.
+     *
+     * @return the batch count
+     */
+    public long getBatchesFlushed() {
+        return batchesFlushed;
+    }
+
+    /**
+     * Returns the average throughput since the writer was opened.
+     *
+     * @return records per second
+     */
+    public double getRecordsPerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed > 0 ? recordsWritten * 1_000_000_000.0 / elapsed : 0.0;
+    }
+
+    /**
+     * Counts bytes without the byte-by-byte copying of {@link FilterOutputStream}.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        volatile long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Builder for {@link MaskingSequenceWriter}.
+     */
+    public static final class Builder {
+
+        private final ObjectWriter writer;
+        private Class<?> type;
+        private int batchSize = 1000;
+        private Consumer<MaskingSequenceWriter> progressListener;
+
+        private Builder(ObjectWriter writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * Sets the record type, so its serializer is resolved once and reused.
+         *
+         * @param type the record type
+         * @return this builder
+         */
+        public Builder type(Class<?> type) {
+            this.type = type;
+            return this;
+        }
+
+        /**
+         * Sets how many records are written between flushes. Defaults to 1000.
+         *
+         * @param batchSize the batch size, at least 1
+         * @return this builder
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be at least 1");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets a listener called on the writing thread after every flushed batch.
+         *
+         * @param progressListener the listener, or {@code null} for none
+         * @return this builder
+         */
+        public Builder progressListener(Consumer<MaskingSequenceWriter> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        /**
+         * Starts the JSON array on the given stream.
+         *
+         * @param out the target stream
+         * @return the sequence writer
+         * @throws IOException if writing fails
+         */
+        public MaskingSequenceWriter open(OutputStream out) throws IOException {
+            if (out == null) {
+                throw new IllegalArgumentException("OutputStream must not be null");
+            }
+            return new MaskingSequenceWriter(this, out);
+        }
+
+        /**
+         * Starts the JSON array on the given channel.
+         *
+         * @param channel the target channel
+         * @return the sequence writer
+         * @throws IOException if writing fails
+         */
+        public MaskingSequenceWriter open(WritableByteChannel channel) throws IOException {
+            if (channel == null) {
+                throw new IllegalArgumentException("WritableByteChannel must not be null");
+            }
+            return new MaskingSequenceWriter(this, Channels.newOutputStream(channel));
+        }
+    }
+}
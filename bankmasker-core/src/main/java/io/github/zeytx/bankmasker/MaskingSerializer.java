@@ -16,13 +16,17 @@ import java.io.IOException;
  * <p>This serializer delegates masking to the strategy defined in {@link MaskType} or
  * applies a custom mask when {@link MaskType#CUSTOM} is used.
  *
- * <p>Respects {@link MaskingConfig} for global enable/disable and audit logging.
+ * <p>Respects {@link MaskingConfig} for global enable/disable and audit logging, and the
+ * per-call {@link MaskingPolicy} set through {@link MaskingModule#withPolicy}. The strategy
+ * for every policy is precomputed when the serializer is contextualized, so choosing one
+ * per call costs a single attribute lookup.
  *
  * @since 1.0.0
  * @see MaskData
  * @see MaskType
  * @see MaskingStrategy
  * @see MaskingConfig
+ * @see MaskingPolicy
  */
 public class MaskingSerializer extends StdSerializer<Object> implements ContextualSerializer {
 
@@ -30,6 +34,12 @@ public class MaskingSerializer extends StdSerializer<Object> implements Contextu
     private final MaskType maskType;
     private final String fieldName;
 
+    /**
+     * Strategy per {@link MaskingPolicy}, indexed by ordinal.
+     * A {@code null} entry means the original value is written.
+     */
+    private final MaskingStrategy[] policyStrategies;
+
     /**
      * Default no-arg constructor required by Jackson.
      */
@@ -38,6 +48,7 @@ public class MaskingSerializer extends StdSerializer<Object> implements Contextu
         this.strategy = MaskType.TOTAL.getStrategy();
         this.maskType = MaskType.TOTAL;
         this.fieldName = "unknown";
+        this.policyStrategies = policyStrategies(strategy);
     }
 
     /**
@@ -52,6 +63,18 @@ public class MaskingSerializer extends StdSerializer<Object> implements Contextu
         this.strategy = strategy;
         this.maskType = maskType;
         this.fieldName = fieldName;
+        this.policyStrategies = policyStrategies(strategy);
+    }
+
+    /**
+     * Precomputes the strategy applied under each {@link MaskingPolicy}.
+     */
+    private static MaskingStrategy[] policyStrategies(MaskingStrategy partial) {
+        MaskingStrategy[] strategies = new MaskingStrategy[MaskingPolicy.values().length];
+        strategies[MaskingPolicy.MASKED.ordinal()] = MaskType.TOTAL.getStrategy();
+        strategies[MaskingPolicy.PARTIAL.ordinal()] = partial;
+        strategies[MaskingPolicy.UNMASKED.ordinal()] = null;
+        return strategies;
     }
 
     @Override
@@ -63,20 +86,37 @@ public class MaskingSerializer extends StdSerializer<Object> implements Contextu
 
         String original = value.toString();
         if (original.isEmpty()) {
-            gen.writeString(original);
+            MaskingJsonGenerator.writeMaskedString(gen, original);
+            return;
+        }
+
+        // Per-call policy, e.g. UNMASKED for back-office writers
+        MaskingStrategy selected = policyStrategies[MaskingModule.resolvePolicy(provider).ordinal()];
+        if (selected == null) {
+            MaskingJsonGenerator.writeMaskedString(gen, original);
             return;
         }
 
-        MaskingConfig config = resolveConfig(provider);
+        // One consistent view of the config for this field
+        MaskingConfig.Snapshot config = resolveConfig(provider).snapshot();
 
-        // If masking is globally disabled, write the original value
-        if (!config.isEnabled()) {
-            gen.writeString(original);
+        // If masking is globally disabled, or disabled for this type, write the original value
+        if (!config.isEnabled() || !config.isTypeEnabled(maskType)) {
+            MaskingJsonGenerator.writeMaskedString(gen, original);
             return;
         }
 
-        String masked = strategy.mask(original);
-        gen.writeString(masked);
+        // Timed only when a recorder is attached
+        MaskingLatencyRecorder recorder = config.getLatencyRecorder();
+        String masked;
+        if (recorder == null) {
+            masked = selected.mask(original, config.asConfig());
+        } else {
+            long start = System.nanoTime();
+            masked = selected.mask(original, config.asConfig());
+            recorder.record(maskType, fieldName, System.nanoTime() - start);
+        }
+        MaskingJsonGenerator.writeMaskedString(gen, masked);
 
         // Audit logging
         MaskingAuditLogger logger = config.getAuditLogger();
@@ -110,24 +150,67 @@ public class MaskingSerializer extends StdSerializer<Object> implements Contextu
             return prov.findValueSerializer(property.getType(), property);
         }
 
+        // Masked holders carry their own type and cache; @MaskData only drives their deserialization
+        if (Masked.class.isAssignableFrom(property.getType().getRawClass())) {
+            return new MaskedSerializer();
+        }
+
         String name = property.getName();
         MaskType type = annotation.value();
-        MaskingStrategy resolved = resolveStrategy(annotation);
+        MaskingStrategy resolved;
+        try {
+            resolved = resolveStrategy(annotation);
+        } catch (IllegalArgumentException e) {
+            throw JsonMappingException.from(prov, "Invalid @MaskData on '" + name + "': " + e.getMessage(), e);
+        }
         return new MaskingSerializer(resolved, type, name);
     }
 
     /**
      * Resolves the masking strategy from the annotation parameters.
-     * When the type is CUSTOM, it builds a strategy using maskChar, visibleStart and visibleEnd.
+     * A pattern is compiled into a {@link MaskPattern}; otherwise, when the type is CUSTOM,
+     * it builds a strategy using maskChar, visibleStart and visibleEnd.
+     *
+     * @throws IllegalArgumentException if the pattern is malformed
      */
-    private static MaskingStrategy resolveStrategy(MaskData annotation) {
+    static MaskingStrategy resolveStrategy(MaskData annotation) {
         MaskType type = annotation.value();
 
+        if (!annotation.pattern().isEmpty()) {
+            MaskPattern pattern = MaskPattern.compile(annotation.pattern());
+            char maskChar = annotation.maskChar();
+            if (maskChar == '*') {
+                return pattern;
+            }
+            return new MaskingStrategy() {
+                @Override
+                public String mask(String value) {
+                    return pattern.mask(value, maskChar);
+                }
+
+                @Override
+                public void maskTo(String value, MaskingConfig config, StringBuilder out) {
+                    pattern.maskTo(value, maskChar, out);
+                }
+            };
+        }
+
         if (type == MaskType.CUSTOM) {
             char maskChar = annotation.maskChar();
             int visibleStart = Math.max(0, annotation.visibleStart());
             int visibleEnd = Math.max(0, annotation.visibleEnd());
-            return value -> MaskUtils.applyCustomMask(value, maskChar, visibleStart, visibleEnd);
+            return new MaskingStrategy() {
+                @Override
+                public String mask(String value) {
+                    return MaskUtils.applyCustomMask(value, maskChar, visibleStart, visibleEnd);
+                }
+
+                @Override
+                public String mask(String value, MaskingConfig config) {
+                    return MaskUtils.applyCustomMask(value, maskChar, visibleStart, visibleEnd,
+                            config.getDefaultMaskChar());
+                }
+            };
         }
 
         return type.getStrategy();
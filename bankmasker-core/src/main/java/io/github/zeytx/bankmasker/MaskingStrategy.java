@@ -16,5 +16,42 @@ public interface MaskingStrategy {
      * @return the masked value
      */
     String mask(String value);
+
+    /**
+     * Applies a masking transformation using the given configuration, e.g. its
+     * {@link MaskingConfig#getDefaultMaskChar() mask character}, instead of the
+     * global singleton. Used by {@link MaskingSerializer} with the config resolved
+     * for the current mapper or call.
+     *
+     * <p>The default implementation ignores the configuration and delegates to
+     * {@link #mask(String)}.
+     *
+     * <p>The serializers pass the built-in strategies a read-only config fixed to one
+     * {@link MaskingConfig#snapshot() snapshot}; implementations should only read it.
+     *
+     * @param value  the original sensitive value
+     * @param config the configuration resolved for the current call
+     * @return the masked value
+     * @since 1.1.0
+     */
+    default String mask(String value, MaskingConfig config) {
+        return mask(value);
+    }
+
+    /**
+     * Appends the masked form of the value, using the given configuration, to the given
+     * builder. Used by {@link MaskedToString}, which renders into a pooled builder, so
+     * strategies writing their output directly save the intermediate string.
+     *
+     * <p>The default implementation appends the result of {@link #mask(String, MaskingConfig)}.
+     *
+     * @param value  the original sensitive value
+     * @param config the configuration resolved for the current call
+     * @param out    the builder to append the masked value to
+     * @since 1.1.0
+     */
+    default void maskTo(String value, MaskingConfig config, StringBuilder out) {
+        out.append(mask(value, config));
+    }
 }
 
@@ -0,0 +1,326 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Serializes large lists as a JSON array on several threads, masking as usual.
+ *
+ * <p>Jackson serializes a collection on the calling thread only. This writer partitions the
+ * list into chunks, serializes each chunk into a pooled byte buffer on an {@link Executor},
+ * and writes the chunks to the channel in list order, combining consecutive finished chunks
+ * into one gathering write. The output is byte-for-byte what the same {@link ObjectWriter}
+ * would produce for the whole list (without a pretty printer).
+ *
+ * <p>At most {@link Builder#maxInFlight(int) maxInFlight} chunks are serialized or waiting to
+ * be written at any time, which bounds memory to that many chunk buffers.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * ParallelMaskingWriter parallel = ParallelMaskingWriter.builder(mapper.writer())
+ *     .type(TransactionDTO.class)
+ *     .chunkSize(4096)
+ *     .build();
+ *
+ * try (FileChannel channel = FileChannel.open(path, WRITE, CREATE)) {
+ *     parallel.writeArray(transactions, channel);
+ * }
+ * }</pre>
+ *
+ * <p>Instances are thread-safe and should be reused, so their buffers are.
+ *
+ * @since 1.1.0
+ * @see MaskingSequenceWriter
+ */
+public final class ParallelMaskingWriter {
+
+    private static final byte[] OPEN = {'['};
+    private static final byte[] CLOSE = {']'};
+    private static final byte[] COMMA = {','};
+
+    private final ObjectWriter writer;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final Executor executor;
+    private final BlockingQueue<ChunkBuffer> buffers;
+
+    private ParallelMaskingWriter(Builder builder) {
+        ObjectWriter base = builder.writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.writer = builder.type != null ? base.forType(builder.type) : base;
+        this.chunkSize = builder.chunkSize;
+        this.maxInFlight = builder.maxInFlight;
+        this.executor = builder.executor;
+        this.buffers = new ArrayBlockingQueue<>(builder.maxInFlight);
+    }
+
+    /**
+     * Creates a builder writing with the given writer.
+     *
+     * @param writer the writer to serialize elements with, e.g. from a mapper with a {@link MaskingModule}
+     * @return a new builder
+     */
+    public static Builder builder(ObjectWriter writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("ObjectWriter must not be null");
+        }
+        return new Builder(writer);
+    }
+
+    /**
+     * Writes the list as a JSON array to the given stream. The stream is not closed.
+     *
+     * @param elements the elements to write
+     * @param out      the target stream
+     * @return the number of bytes written
+     * @throws IOException if serializing or writing fails
+     */
+    public long writeArray(List<?> elements, OutputStream out) throws IOException {
+        return writeArray(elements, Channels.newChannel(out));
+    }
+
+    /**
+     * Writes the list as a JSON array to the given channel. The channel is not closed.
+     *
+     * @param elements the elements to write
+     * @param channel  the target channel; gathering writes are used if it is a {@link GatheringByteChannel}
+     * @return the number of bytes written
+     * @throws IOException if serializing or writing fails
+     */
+    public long writeArray(List<?> elements, WritableByteChannel channel) throws IOException {
+        if (elements == null || channel == null) {
+            throw new IllegalArgumentException("elements and channel must not be null");
+        }
+        int chunks = (elements.size() + chunkSize - 1) / chunkSize;
+        ArrayDeque<CompletableFuture<ChunkBuffer>> inFlight = new ArrayDeque<>(maxInFlight);
+        ByteBuffer[] batch = new ByteBuffer[maxInFlight * 2 + 1];
+        ChunkBuffer[] written = new ChunkBuffer[maxInFlight];
+        long bytes = 0;
+        int submitted = 0;
+        try {
+            bytes += write(channel, new ByteBuffer[]{ByteBuffer.wrap(OPEN)}, 1);
+            for (int next = 0; next < chunks; ) {
+                while (submitted < chunks && inFlight.size() < maxInFlight) {
+                    inFlight.add(submit(elements, submitted++));
+                }
+                // Wait for the next chunk in order, then take every consecutive chunk already done.
+                int count = 0;
+                int taken = 0;
+                do {
+                    ChunkBuffer chunk = join(inFlight.poll());
+                    if (next > 0) {
+                        batch[count++] = ByteBuffer.wrap(COMMA);
+                    }
+                    batch[count++] = chunk.toByteBuffer();
+                    written[taken++] = chunk;
+                    next++;
+                } while (!inFlight.isEmpty() && inFlight.peek().isDone());
+                bytes += write(channel, batch, count);
+                for (int i = 0; i < taken; i++) {
+                    release(written[i]);
+                    written[i] = null;
+                }
+            }
+            bytes += write(channel, new ByteBuffer[]{ByteBuffer.wrap(CLOSE)}, 1);
+            return bytes;
+        } finally {
+            for (CompletableFuture<ChunkBuffer> pending : inFlight) {
+                pending.cancel(false);
+            }
+            Arrays.fill(batch, null);
+        }
+    }
+
+    private CompletableFuture<ChunkBuffer> submit(List<?> elements, int chunk) {
+        int from = chunk * chunkSize;
+        int to = Math.min(from + chunkSize, elements.size());
+        return CompletableFuture.supplyAsync(() -> serialize(elements, from, to), executor);
+    }
+
+    private ChunkBuffer serialize(List<?> elements, int from, int to) {
+        ChunkBuffer buffer = acquire();
+        try (JsonGenerator gen = writer.createGenerator(buffer)) {
+            gen.setRootValueSeparator(null);
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    gen.writeRaw(',');
+                }
+                writer.writeValue(gen, elements.get(i));
+            }
+        } catch (IOException e) {
+            release(buffer);
+            throw new UncheckedIOException(e);
+        }
+        return buffer;
+    }
+
+    private static ChunkBuffer join(CompletableFuture<ChunkBuffer> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static long write(WritableByteChannel channel, ByteBuffer[] buffers, int count) throws IOException {
+        long bytes = 0;
+        if (channel instanceof GatheringByteChannel gathering) {
+            ByteBuffer last = buffers[count - 1];
+            while (last.hasRemaining()) {
+                bytes += gathering.write(buffers, 0, count);
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                while (buffers[i].hasRemaining()) {
+                    bytes += channel.write(buffers[i]);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private ChunkBuffer acquire() {
+        ChunkBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : new ChunkBuffer();
+    }
+
+    private void release(ChunkBuffer buffer) {
+        buffer.reset();
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Growable in-memory buffer for one serialized chunk, reused across chunks.
+     */
+    private static final class ChunkBuffer extends OutputStream {
+
+        private byte[] buf = new byte[64 * 1024];
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(capacity, buf.length * 2));
+            }
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+
+        void reset() {
+            count = 0;
+        }
+    }
+
+    /**
+     * Builder for {@link ParallelMaskingWriter}.
+     */
+    public static final class Builder {
+
+        private final ObjectWriter writer;
+        private Class<?> type;
+        private int chunkSize = 4096;
+        private int maxInFlight = Runtime.getRuntime().availableProcessors() * 2;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder(ObjectWriter writer) {
+            this.writer = writer;
+        }
+
+        /**
+         * Sets the element type, so its serializer is resolved once and reused.
+         *
+         * @param type the element type
+         * @return this builder
+         */
+        public Builder type(Class<?> type) {
+            this.type = type;
+            return this;
+        }
+
+        /**
+         * Sets how many elements each task serializes. Defaults to 4096.
+         *
+         * @param chunkSize the chunk size, at least 1
+         * @return this builder
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize < 1) {
+                throw new IllegalArgumentException("chunkSize must be at least 1");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets how many chunks may be in flight, which bounds memory use.
+         * Defaults to twice the number of available processors.
+         *
+         * @param maxInFlight the maximum number of chunks in flight, at least 1
+         * @return this builder
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight must be at least 1");
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Sets the executor chunks are serialized on. Defaults to the common pool.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("Executor must not be null");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds the writer.
+         *
+         * @return the parallel writer
+         */
+        public ParallelMaskingWriter build() {
+            return new ParallelMaskingWriter(this);
+        }
+    }
+}
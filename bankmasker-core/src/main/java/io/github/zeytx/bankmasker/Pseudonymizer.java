@@ -0,0 +1,175 @@
+package io.github.zeytx.bankmasker;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic, keyed pseudonymization behind {@link MaskType#PSEUDONYMIZE}.
+ *
+ * <p>A value is replaced by the first 128 bits of its HMAC-SHA256 under the
+ * {@link MaskingConfig#setPseudonymizationKey(byte[]) configured key}, encoded as 22
+ * URL-safe Base64 characters. The same value and key always give the same token, so
+ * pseudonymized datasets can still be joined, while the value cannot be recovered
+ * without the key. Without a key, values are fully masked like {@link MaskType#TOTAL}.
+ *
+ * <p>Each thread keeps one initialized {@link Mac}, re-keyed only when a different key
+ * is used, so {@code Mac.getInstance} and key setup are not paid per value. For large
+ * exports, {@link #pseudonymizeAll(List, MaskingConfig)} also hoists the key and
+ * thread-local lookups out of the loop.
+ *
+ * <pre>{@code
+ * MaskingConfig.getInstance().setPseudonymizationKey(secret);
+ *
+ * @MaskData(MaskType.PSEUDONYMIZE)
+ * private String customerId;     // "C-1029" → 22-character token, stable for this key
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+public final class Pseudonymizer {
+
+    /** Number of HMAC bytes kept in a token. */
+    public static final int TOKEN_BYTES = 16;
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final char[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final ThreadLocal<ThreadMac> MACS = ThreadLocal.withInitial(ThreadMac::new);
+
+    /** Strategy registered as {@link MaskType#PSEUDONYMIZE}. */
+    static final MaskingStrategy STRATEGY = new MaskingStrategy() {
+        @Override
+        public String mask(String value) {
+            return mask(value, MaskingConfig.getInstance());
+        }
+
+        @Override
+        public String mask(String value, MaskingConfig config) {
+            return pseudonymize(value, config);
+        }
+    };
+
+    private Pseudonymizer() {
+    }
+
+    /**
+     * Pseudonymizes one value.
+     *
+     * @param value  the value
+     * @param config the configuration holding the key and mask character
+     * @return the token, a total mask if no key is set, or {@code null} for a {@code null} value
+     */
+    public static String pseudonymize(String value, MaskingConfig config) {
+        if (value == null) {
+            return null;
+        }
+        byte[] key = config.pseudonymizationKey();
+        if (key == null) {
+            return MaskType.TOTAL.mask(value, config.getDefaultMaskChar());
+        }
+        return MACS.get().token(key, value);
+    }
+
+    /**
+     * Pseudonymizes one value with the global key, falling back to the given mask character.
+     */
+    static String pseudonymize(String value, char maskChar) {
+        if (value == null) {
+            return null;
+        }
+        byte[] key = MaskingConfig.getInstance().pseudonymizationKey();
+        return key == null ? MaskType.TOTAL.mask(value, maskChar) : MACS.get().token(key, value);
+    }
+
+    /**
+     * Pseudonymizes many values with the global configuration.
+     *
+     * @param values the values; {@code null} elements stay {@code null}
+     * @return the tokens, in the same order
+     */
+    public static List<String> pseudonymizeAll(List<String> values) {
+        return pseudonymizeAll(values, MaskingConfig.getInstance());
+    }
+
+    /**
+     * Pseudonymizes many values, reading the key and initializing this thread's
+     * {@link Mac} once for the whole batch.
+     *
+     * @param values the values; {@code null} elements stay {@code null}
+     * @param config the configuration holding the key and mask character
+     * @return the tokens, in the same order
+     */
+    public static List<String> pseudonymizeAll(List<String> values, MaskingConfig config) {
+        List<String> tokens = new ArrayList<>(values.size());
+        byte[] key = config.pseudonymizationKey();
+        if (key == null) {
+            char maskChar = config.getDefaultMaskChar();
+            for (String value : values) {
+                tokens.add(value == null ? null : MaskType.TOTAL.mask(value, maskChar));
+            }
+            return tokens;
+        }
+        ThreadMac mac = MACS.get();
+        for (String value : values) {
+            tokens.add(value == null ? null : mac.token(key, value));
+        }
+        return tokens;
+    }
+
+    /**
+     * One thread's {@link Mac}, keyed with the last key it was used with.
+     */
+    private static final class ThreadMac {
+
+        private final Mac mac;
+        private final byte[] digest;
+        private final char[] chars = new char[(TOKEN_BYTES * 4 + 2) / 3];
+        private byte[] key;
+
+        ThreadMac() {
+            try {
+                this.mac = Mac.getInstance(ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                // Every Java platform is required to support HmacSHA256
+                throw new IllegalStateException(ALGORITHM + " not available", e);
+            }
+            this.digest = new byte[mac.getMacLength()];
+        }
+
+        String token(byte[] key, String value) {
+            try {
+                if (this.key != key) {
+                    mac.init(new SecretKeySpec(key, ALGORITHM));
+                    this.key = key;
+                }
+                mac.update(value.getBytes(StandardCharsets.UTF_8));
+                mac.doFinal(digest, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot compute " + ALGORITHM, e);
+            }
+            return encode(digest);
+        }
+
+        /** URL-safe Base64 without padding of the first {@link #TOKEN_BYTES} bytes. */
+        private String encode(byte[] bytes) {
+            int o = 0;
+            int i = 0;
+            for (; i + 3 <= TOKEN_BYTES; i += 3) {
+                int bits = (bytes[i] & 0xFF) << 16 | (bytes[i + 1] & 0xFF) << 8 | (bytes[i + 2] & 0xFF);
+                chars[o++] = BASE64_URL[bits >>> 18];
+                chars[o++] = BASE64_URL[(bits >>> 12) & 0x3F];
+                chars[o++] = BASE64_URL[(bits >>> 6) & 0x3F];
+                chars[o++] = BASE64_URL[bits & 0x3F];
+            }
+            // TOKEN_BYTES % 3 == 1: one byte left, two characters
+            int bits = (bytes[i] & 0xFF) << 16;
+            chars[o++] = BASE64_URL[bits >>> 18];
+            chars[o++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            return new String(chars, 0, o);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package io.github.zeytx.bankmasker;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable tenant-to-{@link MaskingConfig} table for multi-tenant applications.
+ *
+ * <p>Instead of registering one {@link MaskingModule} (and thus one {@code ObjectMapper}
+ * with its own serializer cache) per tenant, build a table once and select the config
+ * per call on a single shared mapper, e.g. with {@link TenantMaskingWriters}.
+ *
+ * <p>The table is compact: tenants declared with the same mask character and enabled
+ * types share a single {@link MaskingConfig}, and lookups go through an open-addressing
+ * array without allocating.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * TenantMaskingConfigs tenants = TenantMaskingConfigs.builder()
+ *     .defaultConfig(MaskingConfig.create())
+ *     .tenant("acme", '#', EnumSet.of(MaskType.CREDIT_CARD, MaskType.IBAN))
+ *     .tenant("globex", globexConfig)
+ *     .build();
+ *
+ * MaskingConfig config = tenants.configFor("acme");
+ * }</pre>
+ *
+ * <p>Configs handed out by this table are shared between tenants and should be
+ * treated as read-only.
+ *
+ * @since 1.1.0
+ * @see TenantMaskingWriters
+ * @see MaskingModule#withConfig
+ */
+public final class TenantMaskingConfigs {
+
+    private final String[] keys;
+    private final int[] slots;
+    private final MaskingConfig[] configs;
+    private final MaskingConfig defaultConfig;
+    private final int size;
+
+    private TenantMaskingConfigs(Map<String, MaskingConfig> tenants, MaskingConfig defaultConfig) {
+        Map<MaskingConfig, Integer> indexes = new IdentityHashMap<>();
+        List<MaskingConfig> distinct = new ArrayList<>();
+        indexes.put(defaultConfig, 0);
+        distinct.add(defaultConfig);
+
+        int capacity = Integer.highestOneBit(Math.max(2, tenants.size()) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.slots = new int[capacity];
+        for (Map.Entry<String, MaskingConfig> entry : tenants.entrySet()) {
+            Integer index = indexes.get(entry.getValue());
+            if (index == null) {
+                index = distinct.size();
+                indexes.put(entry.getValue(), index);
+                distinct.add(entry.getValue());
+            }
+            int slot = slotOf(entry.getKey());
+            while (keys[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            keys[slot] = entry.getKey();
+            slots[slot] = index;
+        }
+        this.configs = distinct.toArray(new MaskingConfig[0]);
+        this.defaultConfig = defaultConfig;
+        this.size = tenants.size();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the configuration for the given tenant, or the default configuration
+     * if the tenant is unknown or {@code null}.
+     *
+     * @param tenantId the tenant identifier
+     * @return the tenant's configuration, never {@code null}
+     */
+    public MaskingConfig configFor(String tenantId) {
+        return configs[indexOf(tenantId)];
+    }
+
+    /**
+     * Returns the configuration used for unknown tenants.
+     *
+     * @return the default configuration
+     */
+    public MaskingConfig getDefaultConfig() {
+        return defaultConfig;
+    }
+
+    /**
+     * Returns the number of tenants in the table.
+     *
+     * @return the tenant count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the distinct configurations referenced by the table, the default
+     * configuration first.
+     *
+     * @return the distinct configurations
+     */
+    public List<MaskingConfig> distinctConfigs() {
+        return List.of(configs);
+    }
+
+    /**
+     * Returns the position of the tenant's configuration in {@link #distinctConfigs()}.
+     *
+     * @param tenantId the tenant identifier
+     * @return the config index, {@code 0} for unknown tenants
+     */
+    int indexOf(String tenantId) {
+        if (tenantId == null) {
+            return 0;
+        }
+        int mask = keys.length - 1;
+        int slot = slotOf(tenantId);
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key.equals(tenantId)) {
+                return slots[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    private int slotOf(String tenantId) {
+        int h = tenantId.hashCode();
+        return (h ^ (h >>> 16)) & (keys.length - 1);
+    }
+
+    /**
+     * Builder for {@link TenantMaskingConfigs}.
+     */
+    public static final class Builder {
+
+        /** Tenant to {@link MaskingConfig}, or to the {@link Settings} resolved in {@link #build()}. */
+        private final Map<String, Object> tenants = new LinkedHashMap<>();
+        private MaskingConfig defaultConfig = MaskingConfig.getInstance();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the configuration used for unknown tenants, and as the template for
+         * tenants declared with {@link #tenant(String, char, Set)}, whichever order the
+         * calls come in. Defaults to the global singleton.
+         *
+         * @param defaultConfig the default configuration
+         * @return this builder
+         */
+        public Builder defaultConfig(MaskingConfig defaultConfig) {
+            if (defaultConfig == null) {
+                throw new IllegalArgumentException("MaskingConfig must not be null");
+            }
+            this.defaultConfig = defaultConfig;
+            return this;
+        }
+
+        /**
+         * Maps a tenant to an existing configuration instance.
+         *
+         * @param tenantId the tenant identifier
+         * @param config   the tenant's configuration
+         * @return this builder
+         */
+        public Builder tenant(String tenantId, MaskingConfig config) {
+            if (config == null) {
+                throw new IllegalArgumentException("MaskingConfig must not be null");
+            }
+            return put(tenantId, config);
+        }
+
+        /**
+         * Maps a tenant to a configuration with the given mask character and enabled types.
+         * Tenants declared with equal settings share one configuration instance; the
+         * remaining settings (enabled flag, audit logger, pseudonymization key, latency
+         * recorder) are copied from the default config as it is when {@link #build()} runs.
+         *
+         * @param tenantId     the tenant identifier
+         * @param maskChar     the tenant's mask character
+         * @param enabledTypes the types masked for the tenant
+         * @return this builder
+         */
+        public Builder tenant(String tenantId, char maskChar, Set<MaskType> enabledTypes) {
+            if (enabledTypes == null) {
+                throw new IllegalArgumentException("enabledTypes must not be null");
+            }
+            Set<MaskType> types = enabledTypes.isEmpty()
+                    ? EnumSet.noneOf(MaskType.class)
+                    : EnumSet.copyOf(enabledTypes);
+            return put(tenantId, new Settings(maskChar, types));
+        }
+
+        private Builder put(String tenantId, Object config) {
+            if (tenantId == null) {
+                throw new IllegalArgumentException("tenantId must not be null");
+            }
+            tenants.put(tenantId, config);
+            return this;
+        }
+
+        /**
+         * Builds the immutable table.
+         *
+         * @return the tenant table
+         */
+        public TenantMaskingConfigs build() {
+            MaskingConfig.Snapshot defaults = defaultConfig.snapshot();
+            Map<Settings, MaskingConfig> interned = new HashMap<>();
+            Map<String, MaskingConfig> resolved = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : tenants.entrySet()) {
+                MaskingConfig config = entry.getValue() instanceof Settings settings
+                        ? interned.computeIfAbsent(settings, k -> MaskingConfig.create().update(s -> defaults
+                                .withDefaultMaskChar(k.maskChar())
+                                .withEnabledTypes(k.enabledTypes())))
+                        : (MaskingConfig) entry.getValue();
+                resolved.put(entry.getKey(), config);
+            }
+            return new TenantMaskingConfigs(resolved, defaultConfig);
+        }
+
+        /** Mask character and enabled types of a tenant declared without a config. */
+        private record Settings(char maskChar, Set<MaskType> enabledTypes) {
+        }
+    }
+}
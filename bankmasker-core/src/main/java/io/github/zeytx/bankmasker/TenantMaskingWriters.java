@@ -0,0 +1,66 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.List;
+
+/**
+ * Pre-built {@link ObjectWriter}s for every distinct configuration of a
+ * {@link TenantMaskingConfigs} table, all derived from one base writer.
+ *
+ * <p>All writers share the base mapper's serializer cache, so serving thousands of
+ * tenants costs one small writer per distinct configuration rather than one
+ * {@code ObjectMapper} per tenant. Selecting a writer per call is a table lookup.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * TenantMaskingWriters writers = new TenantMaskingWriters(mapper.writer(), tenants);
+ * String json = writers.writerFor(tenantId).writeValueAsString(payment);
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see TenantMaskingConfigs
+ */
+public final class TenantMaskingWriters {
+
+    private final TenantMaskingConfigs configs;
+    private final ObjectWriter[] writers;
+
+    /**
+     * Creates one writer per distinct tenant configuration.
+     *
+     * @param base    the writer to derive from; its attributes (e.g. a {@link MaskingPolicy}) are kept
+     * @param configs the tenant table
+     */
+    public TenantMaskingWriters(ObjectWriter base, TenantMaskingConfigs configs) {
+        if (base == null || configs == null) {
+            throw new IllegalArgumentException("ObjectWriter and TenantMaskingConfigs must not be null");
+        }
+        List<MaskingConfig> distinct = configs.distinctConfigs();
+        this.writers = new ObjectWriter[distinct.size()];
+        for (int i = 0; i < writers.length; i++) {
+            writers[i] = MaskingModule.withConfig(base, distinct.get(i));
+        }
+        this.configs = configs;
+    }
+
+    /**
+     * Returns the writer for the given tenant, or the default configuration's writer
+     * if the tenant is unknown.
+     *
+     * @param tenantId the tenant identifier
+     * @return the cached writer
+     */
+    public ObjectWriter writerFor(String tenantId) {
+        return writers[configs.indexOf(tenantId)];
+    }
+
+    /**
+     * Returns the underlying tenant table.
+     *
+     * @return the tenant table
+     */
+    public TenantMaskingConfigs getConfigs() {
+        return configs;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.zeytx.bankmasker;
+
+/**
+ * Single-pass detector behind {@link MaskType#AUTO}.
+ *
+ * <p>One scan over the value tracks its character classes, the position of {@code @} and
+ * {@code .}, the Luhn sums of its digits for both parities and the IBAN mod-97 remainder,
+ * so every candidate type is decided, checksum included, without re-reading the input.
+ */
+final class ValueClassifier {
+
+    private ValueClassifier() {
+    }
+
+    /**
+     * Classifies a value as {@link MaskType#EMAIL}, {@link MaskType#IBAN},
+     * {@link MaskType#CREDIT_CARD} or {@link MaskType#PHONE}, falling back to {@link MaskType#TOTAL}.
+     */
+    static MaskType classify(String value) {
+        int length = value.length();
+        int digits = 0;
+        int letters = 0;
+        int at = -1;
+        int ats = 0;
+        int dotAfterAt = -1;
+        int spaces = 0;
+        int dashes = 0;
+        int phonePunctuation = 0;
+        int other = 0;
+        boolean leadingPlus = false;
+
+        // Luhn: sum if the first digit is doubled / if it is not
+        int luhnFirstDoubled = 0;
+        int luhnFirstKept = 0;
+
+        // IBAN over alphanumerics: first four characters are checked at the end
+        int alnum = 0;
+        long ibanRemainder = 0;
+        boolean ibanShape = true;
+        char c0 = 0;
+        char c1 = 0;
+        char c2 = 0;
+        char c3 = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int d = c - '0';
+                int doubled = d * 2 > 9 ? d * 2 - 9 : d * 2;
+                if (digits % 2 == 0) {
+                    luhnFirstDoubled += doubled;
+                    luhnFirstKept += d;
+                } else {
+                    luhnFirstDoubled += d;
+                    luhnFirstKept += doubled;
+                }
+                digits++;
+            } else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                letters++;
+            } else if (c == '@') {
+                ats++;
+                at = i;
+                dotAfterAt = -1;
+            } else if (c == '.') {
+                if (at >= 0) {
+                    dotAfterAt = i;
+                }
+                phonePunctuation++;
+            } else if (c == ' ') {
+                spaces++;
+            } else if (c == '-') {
+                dashes++;
+            } else if (c == '(' || c == ')') {
+                phonePunctuation++;
+            } else if (c == '+' && i == 0) {
+                leadingPlus = true;
+            } else if (c != '_' && c != '%') {
+                other++;
+            }
+
+            boolean isDigit = c >= '0' && c <= '9';
+            char upper = c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+            if (isDigit || (upper >= 'A' && upper <= 'Z')) {
+                switch (alnum) {
+                    case 0 -> c0 = upper;
+                    case 1 -> c1 = upper;
+                    case 2 -> c2 = upper;
+                    case 3 -> c3 = upper;
+                    default -> ibanRemainder = mod97(ibanRemainder, upper);
+                }
+                if ((alnum < 2 && isDigit) || (alnum >= 2 && alnum < 4 && !isDigit)) {
+                    ibanShape = false;
+                }
+                alnum++;
+            } else if (c != ' ') {
+                ibanShape = false;
+            }
+        }
+
+        if (ats == 1 && at > 0 && dotAfterAt > at + 1 && dotAfterAt < length - 1 && spaces == 0) {
+            return MaskType.EMAIL;
+        }
+        if (ats > 0 || other > 0) {
+            return MaskType.TOTAL;
+        }
+        if (ibanShape && letters >= 2 && alnum >= 15 && alnum <= 34) {
+            long remainder = ibanRemainder;
+            remainder = mod97(remainder, c0);
+            remainder = mod97(remainder, c1);
+            remainder = mod97(remainder, c2);
+            remainder = mod97(remainder, c3);
+            if (remainder == 1) {
+                return MaskType.IBAN;
+            }
+        }
+        if (letters > 0) {
+            return MaskType.TOTAL;
+        }
+        int luhn = digits % 2 == 0 ? luhnFirstDoubled : luhnFirstKept;
+        if (!leadingPlus && phonePunctuation == 0 && digits >= 12 && digits <= 19 && luhn % 10 == 0) {
+            return MaskType.CREDIT_CARD;
+        }
+        // Bare digit runs shorter than a national number are more likely ids than phones
+        boolean formatted = leadingPlus || phonePunctuation > 0 || spaces > 0 || dashes > 0;
+        if (digits <= 15 && digits >= (formatted ? 7 : 10)) {
+            return MaskType.PHONE;
+        }
+        return MaskType.TOTAL;
+    }
+
+    private static long mod97(long remainder, char c) {
+        return c <= '9' ? (remainder * 10 + (c - '0')) % 97 : (remainder * 100 + (c - 'A' + 10)) % 97;
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnJre;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets for the masking hot paths.
+ *
+ * <p>Each check warms the operation up until the JIT has compiled it, then reads the current
+ * thread's allocated bytes ({@code com.sun.management.ThreadMXBean}) around a batch of calls
+ * and asserts the bytes per call stay within a budget. Budgets sit about 15% above the
+ * allocation measured on JDK 17 with the JaCoCo agent attached. That absorbs JIT differences
+ * but fails on a change that adds a buffer, a regex pass or a copy of a long value. When an
+ * intended change lowers allocation, lower the budget with it.
+ *
+ * <p>Other JDKs allocate differently, so the budgets only hold on the JDK they were measured
+ * on: the class runs in the normal test run on JDK 17 and is skipped on other versions.
+ * Re-measure the budgets before enabling it for another JDK.
+ */
+@EnabledOnJre(JRE.JAVA_17)
+@DisplayName("Allocation budgets")
+class AllocationBudgetTest {
+
+    private static final int WARMUP = 30_000;
+    private static final int ITERATIONS = 20_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    /** Keeps results alive so the JIT cannot drop the calls being measured. */
+    private static long sink;
+
+    @BeforeAll
+    static void checkSupport() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "ThreadMXBean without allocation counters");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "thread allocation counters unsupported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    /** Bytes allocated by the current thread per call of {@code operation}, once warmed up. */
+    private static double bytesPerCall(Supplier<?> operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += operation.get().hashCode();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += operation.get().hashCode();
+        }
+        long after = threads.getCurrentThreadAllocatedBytes();
+        return (double) (after - before) / ITERATIONS;
+    }
+
+    private static void assertWithinBudget(String what, double bytes, int budget) {
+        assertTrue(bytes <= budget,
+                () -> String.format("%s allocates %.1f B per call, over its budget of %d B", what, bytes, budget));
+    }
+
+    @Nested
+    @DisplayName("MaskType strategies")
+    class Strategies {
+
+        static Stream<Arguments> budgets() {
+            return Stream.of(
+                    Arguments.of(MaskType.CREDIT_CARD, "4111111111111111", 1008),
+                    Arguments.of(MaskType.EMAIL, "john.doe@example.com", 280),
+                    Arguments.of(MaskType.PHONE, "+525512345678", 1192),
+                    Arguments.of(MaskType.DNI, "12345678Z", 208),
+                    Arguments.of(MaskType.IBAN, "ES6621000418401234567891", 1064),
+                    Arguments.of(MaskType.SSN, "123-45-6789", 1336),
+                    Arguments.of(MaskType.NAME, "John Michael Doe", 1520),
+                    Arguments.of(MaskType.PASSPORT, "AB1234567", 264),
+                    Arguments.of(MaskType.BANK_ACCOUNT, "12345678901234", 1008),
+                    Arguments.of(MaskType.IP_ADDRESS, "192.168.1.100", 1760),
+                    Arguments.of(MaskType.AUTO, "4111111111111111", 976),
+                    Arguments.of(MaskType.PSEUDONYMIZE, "C-1029-ACME", 168),
+                    Arguments.of(MaskType.TOTAL, "C-1029-ACME", 88));
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @MethodSource("budgets")
+        @DisplayName("stay within their allocation budget")
+        void withinBudget(MaskType type, String value, int budget) {
+            MaskingConfig.getInstance().setPseudonymizationKey(
+                    "allocation-test-pseudonym-key!!!".getBytes(StandardCharsets.US_ASCII));
+            assertWithinBudget(type.name(), bytesPerCall(() -> MaskUtils.mask(value, type)), budget);
+        }
+    }
+
+    @Nested
+    @DisplayName("MaskingSerializer")
+    class Serializer {
+
+        static class MaskedDTO {
+            @MaskData(MaskType.CREDIT_CARD)
+            public String cardNumber = "4111111111111111";
+
+            @MaskData(MaskType.EMAIL)
+            public String email = "john.doe@example.com";
+
+            @MaskData(MaskType.IBAN)
+            public String iban = "ES6621000418401234567891";
+
+            @MaskData(MaskType.NAME)
+            public String name = "John Doe";
+
+            public String reference = "this is not masked";
+        }
+
+        static class PlainDTO {
+            public String cardNumber = "4111111111111111";
+            public String email = "john.doe@example.com";
+            public String iban = "ES6621000418401234567891";
+            public String name = "John Doe";
+            public String reference = "this is not masked";
+        }
+
+        private final ObjectWriter writer = new ObjectMapper().writer();
+        private final MaskedDTO masked = new MaskedDTO();
+        private final PlainDTO plain = new PlainDTO();
+
+        /** Serializes into a discarding stream so only Jackson and masking allocate. */
+        private Supplier<Object> serialize(Object value) {
+            return () -> {
+                try {
+                    writer.writeValue(OutputStream.nullOutputStream(), value);
+                    return value;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("masking adds a bounded amount per masked field")
+        void maskingOverhead() {
+            double plainBytes = bytesPerCall(serialize(plain));
+            double maskedBytes = bytesPerCall(serialize(masked));
+            assertWithinBudget("MaskingSerializer, 4 masked fields", maskedBytes - plainBytes, 3840);
+        }
+
+        @Test
+        @DisplayName("disabled masking adds nothing")
+        void disabledOverhead() {
+            MaskingConfig.getInstance().setEnabled(false);
+            double plainBytes = bytesPerCall(serialize(plain));
+            double maskedBytes = bytesPerCall(serialize(masked));
+            assertWithinBudget("MaskingSerializer, masking disabled", maskedBytes - plainBytes, 16);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Binary formats — Smile and CBOR")
+class BinaryFormatsTest {
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+    };
+
+    static class CustomerDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber = "4111111111111111";
+
+        @MaskData(MaskType.IBAN)
+        public String iban = "ES6621000418401234567891";
+
+        @MaskData(value = MaskType.CUSTOM, visibleStart = 2)
+        public String nickname = "Ñandú";
+
+        @MaskData(MaskType.EMAIL)
+        public String email = "";
+
+        @MaskData(MaskType.PHONE)
+        public String phone = null;
+
+        public String city = "Córdoba";
+    }
+
+    static Stream<Arguments> formats() {
+        return Stream.of(
+                Arguments.of("Smile", (Supplier<JsonFactory>) SmileFactory::new),
+                Arguments.of("CBOR", (Supplier<JsonFactory>) CBORFactory::new));
+    }
+
+    /** Records the values written with {@code writeString(String)}, which the fast path skips. */
+    interface StringRecorder {
+        List<String> strings();
+    }
+
+    static final class RecordingSmileGenerator extends SmileGenerator implements StringRecorder {
+        private final List<String> strings = new ArrayList<>();
+
+        RecordingSmileGenerator(IOContext ctxt, int features, int smileFeatures, ObjectCodec codec, OutputStream out) {
+            super(ctxt, features, smileFeatures, codec, out);
+        }
+
+        @Override
+        public void writeString(String text) throws IOException {
+            strings.add(text);
+            super.writeString(text);
+        }
+
+        @Override
+        public List<String> strings() {
+            return strings;
+        }
+    }
+
+    static final class RecordingCborGenerator extends CBORGenerator implements StringRecorder {
+        private final List<String> strings = new ArrayList<>();
+
+        RecordingCborGenerator(IOContext ctxt, int features, int cborFeatures, ObjectCodec codec, OutputStream out) {
+            super(ctxt, features, cborFeatures, codec, out);
+        }
+
+        @Override
+        public void writeString(String text) throws IOException {
+            strings.add(text);
+            super.writeString(text);
+        }
+
+        @Override
+        public List<String> strings() {
+            return strings;
+        }
+    }
+
+    static Stream<Arguments> recordingGenerators() {
+        return Stream.of(
+                Arguments.of("Smile", new SmileFactory() {
+                    @Override
+                    public SmileGenerator createGenerator(OutputStream out, JsonEncoding enc) throws IOException {
+                        RecordingSmileGenerator gen = new RecordingSmileGenerator(
+                                _createContext(_createContentReference(out), false),
+                                _generatorFeatures, _smileGeneratorFeatures, _objectCodec, out);
+                        gen.writeHeader();
+                        return gen;
+                    }
+                }),
+                Arguments.of("CBOR", new CBORFactory() {
+                    @Override
+                    public CBORGenerator createGenerator(OutputStream out, JsonEncoding enc) {
+                        return new RecordingCborGenerator(_createContext(_createContentReference(out), false),
+                                _generatorFeatures, _formatGeneratorFeatures, _objectCodec, out);
+                    }
+                }));
+    }
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    private static Map<String, Object> roundTrip(ObjectMapper mapper, Object value) throws Exception {
+        return mapper.readValue(mapper.writeValueAsBytes(value), MAP);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("formats")
+    @DisplayName("writes the same masked values as JSON")
+    void matchesJson(String name, Supplier<JsonFactory> factory) throws Exception {
+        Map<String, Object> json = roundTrip(new ObjectMapper(), new CustomerDTO());
+        Map<String, Object> binary = roundTrip(new ObjectMapper(factory.get()), new CustomerDTO());
+
+        assertEquals(json, binary);
+        assertEquals("****-****-****-1111", binary.get("cardNumber"));
+        assertEquals("Ña***", binary.get("nickname"));
+        assertEquals("", binary.get("email"));
+        assertNull(binary.get("phone"));
+        assertEquals("Córdoba", binary.get("city"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("recordingGenerators")
+    @DisplayName("writes masked ASCII values with writeUTF8String, generator subclasses included")
+    void takesUtf8FastPath(String name, JsonFactory factory) throws Exception {
+        ObjectMapper mapper = new ObjectMapper(factory);
+        List<String> strings = new ArrayList<>();
+        try (JsonGenerator gen = mapper.createGenerator(OutputStream.nullOutputStream())) {
+            mapper.writeValue(gen, new CustomerDTO());
+            strings.addAll(((StringRecorder) gen).strings());
+        }
+
+        assertFalse(strings.contains("****-****-****-1111"), strings::toString);
+        assertFalse(strings.contains("ES******************7891"), strings::toString);
+        assertTrue(strings.contains("Ña***"), "non-ASCII values take writeString");
+        assertEquals(roundTrip(new ObjectMapper(), new CustomerDTO()), roundTrip(mapper, new CustomerDTO()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("formats")
+    @DisplayName("writes unmasked and long values unchanged")
+    void writesUnmaskedValues(String name, Supplier<JsonFactory> factory) throws Exception {
+        ObjectMapper mapper = new ObjectMapper(factory.get()).registerModule(new MaskingModule(MaskingConfig.create()));
+        CustomerDTO dto = new CustomerDTO();
+        dto.iban = "ES66" + "0".repeat(2000);
+
+        Map<String, Object> unmasked = mapper.readValue(
+                MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED).writeValueAsBytes(dto), MAP);
+
+        assertEquals("4111111111111111", unmasked.get("cardNumber"));
+        assertEquals(dto.iban, unmasked.get("iban"));
+        assertEquals("Ñandú", unmasked.get("nickname"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("formats")
+    @DisplayName("masks maps by field name")
+    void masksMapsByFieldName(String name, Supplier<JsonFactory> factory) throws Exception {
+        MaskedFieldNames names = MaskedFieldNames.builder()
+                .add("cardNumber", MaskType.CREDIT_CARD)
+                .add("phones", MaskType.PHONE)
+                .build();
+        ObjectMapper mapper = new ObjectMapper(factory.get())
+                .registerModule(new MaskingModule(MaskingConfig.create().setDefaultMaskChar('#'), names));
+
+        Map<String, Object> payload = Map.of(
+                "cardNumber", "4111111111111111",
+                "phones", List.of("+525512345678"),
+                "note", "cardNumber");
+
+        assertEquals(Map.of(
+                "cardNumber", "####-####-####-1111",
+                "phones", List.of("########5678"),
+                "note", "cardNumber"), roundTrip(mapper, payload));
+    }
+}
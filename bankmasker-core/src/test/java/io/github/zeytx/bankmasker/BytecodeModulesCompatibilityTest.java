@@ -0,0 +1,146 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Blackbird / Afterburner compatibility")
+class BytecodeModulesCompatibilityTest {
+
+    private static final String MASKED_JSON = "{\"id\":42,\"holder\":\"John Doe\",\"active\":true,"
+            + "\"cardNumber\":\"****-****-****-1111\",\"email\":\"jo****@example.com\"}";
+
+    public static class AccountDTO {
+        private final long id = 42;
+        private final String holder = "John Doe";
+        private final boolean active = true;
+
+        @MaskData(MaskType.CREDIT_CARD)
+        private final String cardNumber = "4111111111111111";
+
+        @MaskData(MaskType.EMAIL)
+        private final String email = "john@example.com";
+
+        public long getId() {
+            return id;
+        }
+
+        public String getHolder() {
+            return holder;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public String getCardNumber() {
+            return cardNumber;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+
+    static Stream<Arguments> modules() {
+        return Stream.of(
+                Arguments.of("Blackbird", (Supplier<Module>) BlackbirdModule::new, "blackbird"),
+                Arguments.of("Afterburner", (Supplier<Module>) AfterburnerModule::new, "afterburner"));
+    }
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    private static Map<String, String> writerPackages(ObjectMapper mapper) throws Exception {
+        JsonSerializer<Object> serializer = mapper.getSerializerProviderInstance().findValueSerializer(AccountDTO.class);
+        Map<String, String> packages = new HashMap<>();
+        for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+            PropertyWriter writer = it.next();
+            packages.put(writer.getName(), writer.getClass().getPackageName());
+        }
+        return packages;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modules")
+    @DisplayName("masks annotated properties")
+    void masks(String name, Supplier<Module> module, String pkg) throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(module.get());
+        assertEquals(MASKED_JSON, mapper.writeValueAsString(new AccountDTO()));
+        // Second call goes through the cached, optimized serializer
+        assertEquals(MASKED_JSON, mapper.writeValueAsString(new AccountDTO()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modules")
+    @DisplayName("keeps optimized writers for plain properties only")
+    void optimizesPlainProperties(String name, Supplier<Module> module, String pkg) throws Exception {
+        Map<String, String> packages = writerPackages(new ObjectMapper().registerModule(module.get()));
+        assertTrue(packages.get("id").contains(pkg), packages.toString());
+        assertTrue(packages.get("holder").contains(pkg), packages.toString());
+        assertTrue(packages.get("active").contains(pkg), packages.toString());
+        assertFalse(packages.get("cardNumber").contains(pkg), packages.toString());
+        assertFalse(packages.get("email").contains(pkg), packages.toString());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modules")
+    @DisplayName("works with MaskingModule registered before or after")
+    void worksWithMaskingModule(String name, Supplier<Module> module, String pkg) throws Exception {
+        MaskingConfig config = MaskingConfig.create().setDefaultMaskChar('#');
+        String expected = MASKED_JSON.replace('*', '#');
+
+        ObjectMapper before = new ObjectMapper()
+                .registerModule(new MaskingModule(config, MaskedFieldNames.builder().add("iban", MaskType.IBAN).build()))
+                .registerModule(module.get());
+        ObjectMapper after = new ObjectMapper()
+                .registerModule(module.get())
+                .registerModule(new MaskingModule(config));
+
+        assertEquals(expected, before.writeValueAsString(new AccountDTO()));
+        assertEquals(expected, after.writeValueAsString(new AccountDTO()));
+        assertTrue(writerPackages(before).get("holder").contains(pkg));
+        assertTrue(writerPackages(after).get("holder").contains(pkg));
+        assertEquals("{\"iban\":\"ES##################7891\"}",
+                before.writeValueAsString(Map.of("iban", "ES6621000418401234567891")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modules")
+    @DisplayName("honours per-call policies")
+    void honoursPolicies(String name, Supplier<Module> module, String pkg) throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(module.get()).registerModule(new MaskingModule(MaskingConfig.create()));
+        String unmasked = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED)
+                .writeValueAsString(new AccountDTO());
+        String masked = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.MASKED)
+                .writeValueAsString(new AccountDTO());
+
+        assertTrue(unmasked.contains("\"cardNumber\":\"4111111111111111\""));
+        assertTrue(masked.contains("\"cardNumber\":\"********\""));
+        assertTrue(masked.contains("\"holder\":\"John Doe\""));
+    }
+}
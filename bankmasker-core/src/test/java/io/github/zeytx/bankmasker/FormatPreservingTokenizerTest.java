@@ -0,0 +1,210 @@
+package io.github.zeytx.bankmasker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FormatPreservingTokenizer — FF1 and FF3-1 tokens")
+class FormatPreservingTokenizerTest {
+
+    private static final byte[] KEY = HexFormat.of().parseHex("EF4359D8D580AA4F7F036D6F04FC6A94");
+
+    private static final FormatPreservingTokenizer DIGITS = FormatPreservingTokenizer.builder()
+            .key(KEY)
+            .tweak(HexFormat.of().parseHex("D8E7920AFA330A"))
+            .build();
+
+    private static final FormatPreservingTokenizer FF3_DIGITS = FormatPreservingTokenizer.builder()
+            .key(KEY)
+            .algorithm(FormatPreservingTokenizer.Algorithm.FF3_1)
+            .tweak(HexFormat.of().parseHex("D8E7920AFA330A"))
+            .build();
+
+    private static final FormatPreservingTokenizer CARDS = FormatPreservingTokenizer.builder()
+            .key(KEY)
+            .preserveLast(4)
+            .luhn(true)
+            .build();
+
+    private static final FormatPreservingTokenizer FF3_CARDS = FormatPreservingTokenizer.builder()
+            .key(KEY)
+            .algorithm(FormatPreservingTokenizer.Algorithm.FF3_1)
+            .preserveLast(4)
+            .luhn(true)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    private static boolean luhnValid(String value) {
+        String digits = value.replaceAll("\\D", "");
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int d = digits.charAt(digits.length() - 1 - i) - '0';
+            sum += i % 2 == 0 ? d : (d * 2 > 9 ? d * 2 - 9 : d * 2);
+        }
+        return sum % 10 == 0;
+    }
+
+    @Nested
+    @DisplayName("Cipher")
+    class CipherTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "2B7E151628AED2A6ABF7158809CF4F3C, '', 2433477484",
+                "2B7E151628AED2A6ABF7158809CF4F3C, 39383736353433323130, 6124200773",
+                "2B7E151628AED2A6ABF7158809CF4F3CEF4359D8D580AA4F, '', 2830668132",
+                "2B7E151628AED2A6ABF7158809CF4F3CEF4359D8D580AA4F, 39383736353433323130, 2496655549",
+                "2B7E151628AED2A6ABF7158809CF4F3CEF4359D8D580AA4F7F036D6F04FC6A94, '', 6657667009",
+                "2B7E151628AED2A6ABF7158809CF4F3CEF4359D8D580AA4F7F036D6F04FC6A94, 39383736353433323130, 1001623463"
+        })
+        @DisplayName("matches the NIST FF1 radix-10 samples")
+        void matchesNistFf1Samples(String key, String tweak, String ciphertext) {
+            FormatPreservingTokenizer ff1 = FormatPreservingTokenizer.builder()
+                    .key(HexFormat.of().parseHex(key))
+                    .tweak(HexFormat.of().parseHex(tweak))
+                    .build();
+            assertEquals(FormatPreservingTokenizer.Algorithm.FF1, ff1.getAlgorithm());
+            assertEquals(ciphertext, ff1.tokenize("0123456789"));
+            assertEquals("0123456789", ff1.detokenize(ciphertext));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "D8E7920AFA330A73, 890121234567890000, 750918814058654607",
+                "9A768A92F60E12D8, 890121234567890000, 018989839189395384",
+                "0000000000000000, 89012123456789000000789000000, 34695224821734535122613701434"
+        })
+        @DisplayName("matches the NIST FF3 AES-128 samples, which share the FF3-1 rounds")
+        void matchesNistSamples(String tweak, String plaintext, String ciphertext) {
+            FormatPreservingTokenizer ff3 = FormatPreservingTokenizer.builder()
+                    .key(KEY)
+                    .ff3Tweak(HexFormat.of().parseHex(tweak))
+                    .build();
+            assertEquals(ciphertext, ff3.tokenize(plaintext));
+            assertEquals(plaintext, ff3.detokenize(ciphertext));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"123456", "0000000000", "12345678901234567890123456789012", "2100 0418 45 0200051332"})
+        @DisplayName("round-trips and preserves the format")
+        void roundTrips(String value) {
+            for (FormatPreservingTokenizer tokenizer : new FormatPreservingTokenizer[] {DIGITS, FF3_DIGITS}) {
+                String token = tokenizer.tokenize(value);
+                assertEquals(value.length(), token.length());
+                assertEquals(value.replaceAll("\\d", "0"), token.replaceAll("\\d", "0"));
+                assertNotEquals(value, token);
+                assertEquals(value, tokenizer.detokenize(token));
+            }
+        }
+
+        @Test
+        @DisplayName("gives different tokens per algorithm")
+        void dependsOnAlgorithm() {
+            assertNotEquals(DIGITS.tokenize("890121234567890000"), FF3_DIGITS.tokenize("890121234567890000"));
+        }
+
+        @Test
+        @DisplayName("depends on the tweak")
+        void dependsOnTweak() {
+            FormatPreservingTokenizer other = FormatPreservingTokenizer.builder()
+                    .key(KEY)
+                    .tweak(new byte[7])
+                    .build();
+            assertNotEquals(DIGITS.tokenize("890121234567890000"), other.tokenize("890121234567890000"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"12345", "123456789012345678901234567890123", "ES6621000418401234567891", ""})
+        @DisplayName("rejects values outside the supported digit layout")
+        void rejectsInvalidValues(String value) {
+            assertThrows(IllegalArgumentException.class, () -> DIGITS.tokenize(value));
+        }
+    }
+
+    @Nested
+    @DisplayName("Card numbers")
+    class CardTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"4111111111111111", "4111 1111 1111 1111", "5500-0000-0000-0004", "378282246310005"})
+        @DisplayName("keep the last four digits and a valid Luhn check digit")
+        void keepLastFourAndLuhn(String card) {
+            for (FormatPreservingTokenizer tokenizer : new FormatPreservingTokenizer[] {CARDS, FF3_CARDS}) {
+                String token = tokenizer.tokenize(card);
+                assertEquals(card.substring(card.length() - 4), token.substring(token.length() - 4));
+                assertTrue(luhnValid(token), token);
+                assertNotEquals(card, token);
+                assertEquals(card, tokenizer.detokenize(token));
+            }
+        }
+
+        @Test
+        @DisplayName("reject numbers failing the Luhn check")
+        void rejectInvalidLuhn() {
+            assertThrows(IllegalArgumentException.class, () -> CARDS.tokenize("4111111111111112"));
+        }
+    }
+
+    @Nested
+    @DisplayName("MaskingStrategy")
+    class StrategyTests {
+
+        @Test
+        @DisplayName("tokenizes values and fully masks the rest")
+        void masks() {
+            assertEquals(CARDS.tokenize("4111111111111111"), CARDS.mask("4111111111111111"));
+            MaskingConfig.getInstance().setDefaultMaskChar('#');
+            assertEquals("########", CARDS.mask("4111111111111112"));
+            assertNull(CARDS.mask(null));
+
+            StringBuilder out = new StringBuilder("card=");
+            CARDS.maskTo("4111111111111111", MaskingConfig.getInstance(), out);
+            assertEquals("card=" + CARDS.tokenize("4111111111111111"), out.toString());
+        }
+
+        @Test
+        @DisplayName("requires a valid AES key")
+        void requiresKey() {
+            assertThrows(IllegalStateException.class, () -> FormatPreservingTokenizer.builder().build());
+            assertThrows(IllegalArgumentException.class, () -> FormatPreservingTokenizer.builder().key(new byte[15]));
+        }
+
+        @Test
+        @DisplayName("checks the tweak length for the algorithm")
+        void checksTweak() {
+            FormatPreservingTokenizer.Builder ff3 = FormatPreservingTokenizer.builder()
+                    .algorithm(FormatPreservingTokenizer.Algorithm.FF3_1);
+            assertThrows(IllegalArgumentException.class, () -> ff3.tweak(new byte[8]));
+            assertThrows(IllegalArgumentException.class,
+                    () -> FormatPreservingTokenizer.builder().tweak(new byte[8])
+                            .algorithm(FormatPreservingTokenizer.Algorithm.FF3_1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> FormatPreservingTokenizer.builder().tweak(new byte[FormatPreservingTokenizer.MAX_FF1_TWEAK + 1]));
+            assertThrows(IllegalArgumentException.class, () -> FormatPreservingTokenizer.builder().algorithm(null));
+
+            FormatPreservingTokenizer longTweak = FormatPreservingTokenizer.builder()
+                    .key(KEY)
+                    .tweak(new byte[FormatPreservingTokenizer.MAX_FF1_TWEAK])
+                    .build();
+            assertEquals("0123456789", longTweak.detokenize(longTweak.tokenize("0123456789")));
+        }
+    }
+}
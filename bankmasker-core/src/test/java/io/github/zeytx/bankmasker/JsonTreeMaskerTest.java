@@ -0,0 +1,168 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonTreeMasker — in-place tree masking")
+class JsonTreeMaskerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static final String STATEMENT = "{\"account\":{\"iban\":\"ES6621000418401234567891\",\"holder\":\"John Doe\"},"
+            + "\"transactions\":[{\"cardNumber\":\"4111111111111111\",\"payee\":{\"email\":\"john.doe@example.com\"}},"
+            + "{\"cardNumber\":4111111111111111,\"amount\":10}],"
+            + "\"phones\":[\"+525512345678\"],"
+            + "\"iban\":\"ES6621000418401234567891\"}";
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    private static JsonTreeMasker.Builder rules() {
+        return JsonTreeMasker.builder()
+                .rule("account.iban", MaskType.IBAN)
+                .rule("transactions[*].cardNumber", MaskType.CREDIT_CARD)
+                .rule("$.transactions[*].*.email", MaskType.EMAIL)
+                .rule("phones[*]", MaskType.PHONE);
+    }
+
+    @Test
+    @DisplayName("masks matching paths in place and leaves others untouched")
+    void masksInPlace() throws Exception {
+        JsonNode tree = mapper.readTree(STATEMENT);
+
+        assertSame(tree, rules().build().mask(tree));
+
+        assertEquals("ES******************7891", tree.at("/account/iban").asText());
+        assertEquals("John Doe", tree.at("/account/holder").asText());
+        assertEquals("****-****-****-1111", tree.at("/transactions/0/cardNumber").asText());
+        assertEquals("****-****-****-1111", tree.at("/transactions/1/cardNumber").asText());
+        assertEquals("jo****@example.com", tree.at("/transactions/0/payee/email").asText());
+        assertEquals(10, tree.at("/transactions/1/amount").asInt());
+        assertEquals("********5678", tree.at("/phones/0").asText());
+        assertEquals("ES6621000418401234567891", tree.at("/iban").asText());
+    }
+
+    @Test
+    @DisplayName("explicit fields also follow wildcard rules")
+    void mergesWildcardRules() throws Exception {
+        JsonNode tree = mapper.readTree("{\"a\":{\"card\":\"4111111111111111\",\"iban\":\"ES6621000418401234567891\"}}");
+
+        JsonTreeMasker.builder()
+                .rule("*.card", MaskType.CREDIT_CARD)
+                .rule("a.iban", MaskType.IBAN)
+                .build()
+                .mask(tree);
+
+        assertEquals("****-****-****-1111", tree.at("/a/card").asText());
+        assertEquals("ES******************7891", tree.at("/a/iban").asText());
+    }
+
+    @Test
+    @DisplayName("masks large arrays in parallel")
+    void masksLargeArraysInParallel() {
+        ObjectNode tree = mapper.createObjectNode();
+        ArrayNode transactions = tree.putArray("transactions");
+        for (int i = 0; i < 10_000; i++) {
+            transactions.addObject().put("id", i).put("cardNumber", "4111111111111111");
+        }
+        AtomicInteger audited = new AtomicInteger();
+        MaskingConfig config = MaskingConfig.create().setAuditLogger((field, type) -> audited.incrementAndGet());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            rules().config(config).pool(pool).parallelThreshold(100).build().mask(tree);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals("****-****-****-1111", transactions.get(i).get("cardNumber").asText());
+            assertEquals(i, transactions.get(i).get("id").asInt());
+        }
+        assertEquals(10_000, audited.get());
+    }
+
+    @Test
+    @DisplayName("masks the elements of a root array, sequentially and in parallel")
+    void masksRootArray() throws Exception {
+        JsonNode tree = mapper.readTree("[{\"id\":1,\"cardNumber\":\"4111111111111111\"},"
+                + "{\"id\":2,\"iban\":\"ES6621000418401234567891\"}]");
+        JsonTreeMasker.builder()
+                .rule("[*].cardNumber", MaskType.CREDIT_CARD)
+                .rule("$[*].iban", MaskType.IBAN)
+                .build()
+                .mask(tree);
+        assertEquals("****-****-****-1111", tree.at("/0/cardNumber").asText());
+        assertEquals("ES******************7891", tree.at("/1/iban").asText());
+        assertEquals(2, tree.at("/1/id").asInt());
+
+        JsonNode phones = mapper.readTree("[[\"+525512345678\"]]");
+        JsonTreeMasker.builder().rule("$[*][*]", MaskType.PHONE).build().mask(phones);
+        assertEquals("********5678", phones.at("/0/0").asText());
+
+        ArrayNode records = mapper.createArrayNode();
+        for (int i = 0; i < 10_000; i++) {
+            records.addObject().put("id", i).put("cardNumber", "4111111111111111");
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            JsonTreeMasker.builder().rule("[*].cardNumber", MaskType.CREDIT_CARD)
+                    .pool(pool).parallelThreshold(100).build().mask(records);
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals("****-****-****-1111", records.get(i).get("cardNumber").asText());
+            assertEquals(i, records.get(i).get("id").asInt());
+        }
+    }
+
+    @Test
+    @DisplayName("respects disabled config and enabled types")
+    void respectsConfig() throws Exception {
+        JsonNode tree = mapper.readTree(STATEMENT);
+        MaskingConfig config = MaskingConfig.create().setEnabledTypes(EnumSet.of(MaskType.IBAN));
+        rules().config(config).build().mask(tree);
+        assertEquals("ES******************7891", tree.at("/account/iban").asText());
+        assertEquals("4111111111111111", tree.at("/transactions/0/cardNumber").asText());
+
+        JsonNode untouched = mapper.readTree(STATEMENT);
+        rules().config(MaskingConfig.create().setEnabled(false)).build().mask(untouched);
+        assertEquals(mapper.readTree(STATEMENT), untouched);
+    }
+
+    @Test
+    @DisplayName("rejects malformed paths")
+    void rejectsMalformedPaths() {
+        assertThrows(IllegalArgumentException.class, () -> JsonTreeMasker.builder().rule("a..b", MaskType.TOTAL));
+        assertThrows(IllegalArgumentException.class, () -> JsonTreeMasker.builder().rule("a[0]", MaskType.TOTAL));
+        assertThrows(IllegalArgumentException.class, () -> JsonTreeMasker.builder().rule(null, MaskType.TOTAL));
+        assertThrows(IllegalArgumentException.class, () -> JsonTreeMasker.builder().rule("[*]card", MaskType.TOTAL));
+        assertThrows(IllegalArgumentException.class, () -> JsonTreeMasker.builder().rule("$.", MaskType.TOTAL));
+        assertThrows(IllegalArgumentException.class, () -> JsonTreeMasker.builder().parallelThreshold(0));
+    }
+
+    @Test
+    @DisplayName("null tree is returned as-is")
+    void handlesNull() {
+        assertNull(rules().build().mask(null));
+    }
+}
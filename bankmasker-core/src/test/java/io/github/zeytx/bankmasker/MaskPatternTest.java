@@ -0,0 +1,146 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaskPattern — compiled mask templates")
+class MaskPatternTest {
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @Nested
+    @DisplayName("Templates")
+    class TemplateTests {
+
+        @ParameterizedTest(name = "{0} on {1} → {2}")
+        @CsvSource(delimiter = '|', value = {
+                "####-****-****-####     | 4111111111111111        | 4111-****-****-1111",
+                "(?s)####-****-****-#### | 4111 1111 1111 1111     | 4111-****-****-1111",
+                "(?k)*+####              | 4111-1111-1111-1111     | ****-****-****-1111",
+                "(?k)*+####              | +52 55 1234 5678        | +** ** **** 5678",
+                "##*+####                | ES6621000418401234567891 | ES******************7891",
+                "#+**                    | AB                      | **",
+                "\\#**                   | 12                      | #**",
+                "(?s)###.***.***-##      | 123.456.789-09          | 123.***.***-09",
+        })
+        void masksWithTemplate(String pattern, String value, String expected) {
+            assertEquals(expected, MaskPattern.compile(pattern).mask(value));
+        }
+
+        @Test
+        @DisplayName("falls back to a total mask when the value does not fit")
+        void fallsBackToTotal() {
+            MaskPattern pattern = MaskPattern.compile("####-****-****-####");
+            assertEquals("********", pattern.mask("411111111111"));
+            assertEquals("********", pattern.mask("41111111111111112222"));
+            assertEquals("********", MaskPattern.compile("##*+####").mask("ES12"));
+        }
+
+        @Test
+        @DisplayName("uses the given or configured mask character")
+        void usesMaskChar() {
+            MaskPattern pattern = MaskPattern.compile("##*+##");
+            assertEquals("AB##EF", pattern.mask("ABCDEF", '#'));
+            assertEquals("ABxxEF", pattern.mask("ABCDEF", MaskingConfig.create().setDefaultMaskChar('x')));
+
+            MaskingConfig.getInstance().setDefaultMaskChar('?');
+            assertEquals("AB??EF", pattern.mask("ABCDEF"));
+        }
+
+        @Test
+        @DisplayName("appends to a builder")
+        void appendsToBuilder() {
+            StringBuilder sb = new StringBuilder("card=");
+            MaskPattern.compile("*+####").maskTo("4111111111111111", MaskingConfig.create(), sb);
+            assertEquals("card=************1111", sb.toString());
+        }
+
+        @Test
+        @DisplayName("handles null values")
+        void handlesNull() {
+            assertNull(MaskPattern.compile("##").mask(null));
+        }
+
+        @Test
+        @DisplayName("rejects malformed templates")
+        void rejectsMalformed() {
+            assertThrows(IllegalArgumentException.class, () -> MaskPattern.compile(null));
+            assertThrows(IllegalArgumentException.class, () -> MaskPattern.compile(""));
+            assertThrows(IllegalArgumentException.class, () -> MaskPattern.compile("#+*+"));
+            assertThrows(IllegalArgumentException.class, () -> MaskPattern.compile("+##"));
+            assertThrows(IllegalArgumentException.class, () -> MaskPattern.compile("##\\"));
+        }
+
+        @Test
+        @DisplayName("equality is based on the template")
+        void equality() {
+            assertEquals(MaskPattern.compile("##*+"), MaskPattern.compile("##*+"));
+            assertEquals("##*+", MaskPattern.compile("##*+").toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("@MaskData(pattern)")
+    class AnnotationTests {
+
+        private final ObjectMapper mapper = new ObjectMapper();
+
+        static class CardDTO {
+            @MaskData(value = MaskType.CREDIT_CARD, pattern = "(?s)######-**-****-####")
+            public String pan = "4111 1111 1111 1111";
+
+            @MaskData(value = MaskType.IBAN, pattern = "##*+####", maskChar = '#')
+            public String iban = "ES6621000418401234567891";
+        }
+
+        static class InvalidDTO {
+            @MaskData(pattern = "*+#+")
+            public String value = "x";
+        }
+
+        @Test
+        @DisplayName("serializes with the compiled pattern")
+        void serializesWithPattern() throws Exception {
+            assertEquals("{\"pan\":\"411111-**-****-1111\",\"iban\":\"ES##################7891\"}",
+                    mapper.writeValueAsString(new CardDTO()));
+        }
+
+        @Test
+        @DisplayName("reports malformed patterns as mapping errors")
+        void reportsMalformedPatterns() {
+            JsonMappingException e = assertThrows(JsonMappingException.class,
+                    () -> mapper.writeValueAsString(new InvalidDTO()));
+            assertTrue(e.getMessage().contains("'value'"));
+        }
+
+        @Test
+        @DisplayName("respects enabled types of the field's MaskType")
+        void respectsEnabledTypes() throws Exception {
+            MaskingConfig.getInstance().setEnabledTypes(java.util.EnumSet.of(MaskType.IBAN));
+            assertTrue(mapper.writeValueAsString(new CardDTO()).contains("\"pan\":\"4111 1111 1111 1111\""));
+        }
+
+        @Test
+        @DisplayName("is used by MaskedToString")
+        void usedByMaskedToString() {
+            assertTrue(MaskedToString.of(new CardDTO()).contains("pan=411111-**-****-1111"));
+        }
+    }
+}
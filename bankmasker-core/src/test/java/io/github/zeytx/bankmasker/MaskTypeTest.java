@@ -170,5 +170,52 @@ class MaskTypeTest {
         MaskingConfig.getInstance().setDefaultMaskChar('#');
         assertEquals("###-##-6789", MaskType.SSN.getStrategy().mask("123-45-6789"));
     }
-}
 
+    @ParameterizedTest
+    @DisplayName("detect classifies values for AUTO")
+    @CsvSource({
+            "john.doe@example.com, EMAIL",
+            "ES6621000418401234567891, IBAN",
+            "'de89 3704 0044 0532 0130 00', IBAN",
+            "ES6721000418401234567891, TOTAL",
+            "4111111111111111, CREDIT_CARD",
+            "4111-1111-1111-1111, CREDIT_CARD",
+            "4111111111111112, TOTAL",
+            "5551234567, PHONE",
+            "+525512345678, PHONE",
+            "(555) 123-4567, PHONE",
+            "INV-2024-0001, TOTAL",
+            "123, TOTAL",
+            "a@b, TOTAL",
+            "'', TOTAL"
+    })
+    void detect(String input, MaskType expected) {
+        assertEquals(expected, MaskType.detect(input));
+    }
+
+    @ParameterizedTest
+    @DisplayName("AUTO masks with the detected type")
+    @CsvSource({
+            "john.doe@example.com, jo****@example.com",
+            "ES6621000418401234567891, ES******************7891",
+            "4111111111111111, ****-****-****-1111",
+            "+525512345678, ********5678",
+            "INV-2024-0001, ********"
+    })
+    void auto(String input, String expected) {
+        assertEquals(expected, MaskType.AUTO.getStrategy().mask(input));
+    }
+
+    @Test
+    @DisplayName("Constants of 1.0.0 keep their ordinals")
+    void ordinalsAreStable() {
+        MaskType[] released = {
+                MaskType.CREDIT_CARD, MaskType.EMAIL, MaskType.PHONE, MaskType.DNI, MaskType.IBAN,
+                MaskType.SSN, MaskType.NAME, MaskType.PASSPORT, MaskType.BANK_ACCOUNT, MaskType.IP_ADDRESS,
+                MaskType.TOTAL, MaskType.CUSTOM
+        };
+        for (int i = 0; i < released.length; i++) {
+            assertEquals(i, released[i].ordinal(), released[i].name());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Masked — lazy masked values")
+class MaskedTest {
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper();
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    static class SessionDTO {
+        public Masked<String> iban;
+        public String plain = "visible";
+
+        SessionDTO() {
+        }
+
+        SessionDTO(String iban) {
+            this.iban = Masked.of(iban, MaskType.IBAN);
+        }
+    }
+
+    static class AnnotatedSessionDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public Masked<String> card;
+    }
+
+    @Nested
+    @DisplayName("Log arguments")
+    class LogArgumentTests {
+
+        @Test
+        @DisplayName("toString masks the value")
+        void masksOnToString() {
+            assertEquals("****-****-****-1111", Masked.of("4111111111111111", MaskType.CREDIT_CARD).toString());
+        }
+
+        @Test
+        @DisplayName("masked form is computed once and cached")
+        void cachesMaskedForm() {
+            Masked<String> masked = Masked.of("4111111111111111", MaskType.CREDIT_CARD);
+            assertSame(masked.toString(), masked.toString());
+        }
+
+        @Test
+        @DisplayName("logging and serialization share the cached form")
+        void sharesCacheWithSerializer() {
+            Masked<String> masked = Masked.of("4111111111111111", MaskType.CREDIT_CARD);
+            String logged = masked.toString();
+            // MaskedSerializer masks with the read-only view of the current snapshot
+            MaskingConfig view = MaskingConfig.getInstance().snapshot().asConfig();
+            assertSame(logged, masked.masked(view));
+            assertSame(logged, masked.toString());
+            assertSame(logged, masked.masked(view));
+        }
+
+        @Test
+        @DisplayName("cache is invalidated when the config changes")
+        void invalidatesOnConfigChange() {
+            Masked<String> masked = Masked.of("4111111111111111", MaskType.CREDIT_CARD);
+            assertEquals("****-****-****-1111", masked.toString());
+
+            MaskingConfig.getInstance().setDefaultMaskChar('#');
+            assertEquals("####-####-####-1111", masked.toString());
+        }
+
+        @Test
+        @DisplayName("appendTo writes the masked value into the builder")
+        void appendsToBuilder() {
+            StringBuilder sb = new StringBuilder("card=");
+            Masked.of("john@mail.com", MaskType.EMAIL).appendTo(sb);
+            assertEquals("card=jo****@mail.com", sb.toString());
+        }
+
+        @Test
+        @DisplayName("null and empty values are passed through")
+        void handlesNullAndEmpty() {
+            assertEquals("null", Masked.of(null, MaskType.CREDIT_CARD).toString());
+            assertEquals("", Masked.of("", MaskType.CREDIT_CARD).toString());
+        }
+
+        @Test
+        @DisplayName("respects disabled global config")
+        void respectsDisabledConfig() {
+            MaskingConfig.getInstance().setEnabled(false);
+            assertEquals("4111111111111111", Masked.of("4111111111111111", MaskType.CREDIT_CARD).toString());
+        }
+
+        @Test
+        @DisplayName("default maskTo appends the strategy output")
+        void defaultMaskTo() {
+            AtomicInteger calls = new AtomicInteger();
+            MaskingStrategy counting = value -> {
+                calls.incrementAndGet();
+                return "***";
+            };
+            StringBuilder sb = new StringBuilder();
+            counting.maskTo("secret", MaskingConfig.create(), sb);
+            assertEquals("***", sb.toString());
+            assertEquals(1, calls.get());
+        }
+
+        @Test
+        @DisplayName("rejects null type")
+        void rejectsNullType() {
+            assertThrows(IllegalArgumentException.class, () -> Masked.of("x", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Value semantics")
+    class ValueTests {
+
+        @Test
+        @DisplayName("equals and hashCode use the raw value")
+        void equalityOnRawValue() {
+            Masked<String> a = Masked.of("ES6621000418401234567891", MaskType.IBAN);
+            Masked<String> b = Masked.of("ES6621000418401234567891", MaskType.TOTAL);
+            assertEquals(a, b);
+            assertEquals(a.hashCode(), b.hashCode());
+            assertNotEquals(a, Masked.of("ES0000000000000000000000", MaskType.IBAN));
+        }
+
+        @Test
+        @DisplayName("exposes raw value and type")
+        void exposesRawValue() {
+            Masked<Long> masked = Masked.of(12345678901234L, MaskType.BANK_ACCOUNT);
+            assertEquals(12345678901234L, masked.getValue());
+            assertEquals(MaskType.BANK_ACCOUNT, masked.getType());
+            assertEquals("**********1234", masked.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Jackson")
+    class JacksonTests {
+
+        @Test
+        @DisplayName("serializes the cached masked form")
+        void serializesMaskedForm() throws JsonProcessingException {
+            String json = mapper.writeValueAsString(new SessionDTO("ES6621000418401234567891"));
+            assertEquals("{\"iban\":\"ES******************7891\",\"plain\":\"visible\"}", json);
+        }
+
+        @Test
+        @DisplayName("uses the per-mapper config and per-call policy")
+        void usesMapperConfigAndPolicy() throws JsonProcessingException {
+            mapper.registerModule(new MaskingModule(MaskingConfig.create().setDefaultMaskChar('#')));
+            SessionDTO dto = new SessionDTO("ES6621000418401234567891");
+
+            assertTrue(mapper.writeValueAsString(dto).contains("ES##################7891"));
+            assertTrue(MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED)
+                    .writeValueAsString(dto).contains("ES6621000418401234567891"));
+            assertTrue(MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.MASKED)
+                    .writeValueAsString(dto).contains("\"########\""));
+        }
+
+        @Test
+        @DisplayName("audits masked fields")
+        void auditsMaskedFields() throws JsonProcessingException {
+            List<String> auditLog = new ArrayList<>();
+            MaskingConfig.getInstance().setAuditLogger((field, type) -> auditLog.add(field + ":" + type));
+
+            mapper.writeValueAsString(new SessionDTO("ES6621000418401234567891"));
+
+            assertEquals(List.of("iban:IBAN"), auditLog);
+        }
+
+        @Test
+        @DisplayName("writes null for null raw values")
+        void writesNull() throws JsonProcessingException {
+            SessionDTO dto = new SessionDTO();
+            dto.iban = Masked.of(null, MaskType.IBAN);
+            assertTrue(mapper.writeValueAsString(dto).contains("\"iban\":null"));
+        }
+
+        @Test
+        @DisplayName("deserializes raw values")
+        void deserializesRawValues() throws JsonProcessingException {
+            SessionDTO dto = mapper.readValue("{\"iban\":\"ES6621000418401234567891\"}", SessionDTO.class);
+            assertEquals("ES6621000418401234567891", dto.iban.getValue());
+            assertEquals(MaskType.TOTAL, dto.iban.getType());
+        }
+
+        @Test
+        @DisplayName("@MaskData sets the type on deserialization and is not applied twice")
+        void annotatedMaskedField() throws JsonProcessingException {
+            AnnotatedSessionDTO dto = mapper.readValue("{\"card\":\"4111111111111111\"}", AnnotatedSessionDTO.class);
+            assertEquals(MaskType.CREDIT_CARD, dto.card.getType());
+            assertEquals("{\"card\":\"****-****-****-1111\"}", mapper.writeValueAsString(dto));
+        }
+    }
+}
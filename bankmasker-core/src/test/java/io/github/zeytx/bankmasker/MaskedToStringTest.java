@@ -0,0 +1,116 @@
+package io.github.zeytx.bankmasker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaskedToString — log-safe toString()")
+class MaskedToStringTest {
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    static class BaseEntity {
+        private final long id = 42;
+    }
+
+    static class PaymentEntity extends BaseEntity {
+        static final String IGNORED = "static";
+
+        @MaskData(MaskType.CREDIT_CARD)
+        private final String cardNumber;
+
+        @MaskData(value = MaskType.CUSTOM, maskChar = '#', visibleStart = 2, visibleEnd = 3)
+        private final String accountId = "ABCDEFGHIJK";
+
+        private final String currency = "EUR";
+
+        @MaskData(MaskType.EMAIL)
+        private final String email = null;
+
+        PaymentEntity(String cardNumber) {
+            this.cardNumber = cardNumber;
+        }
+
+        @Override
+        public String toString() {
+            return MaskedToString.of(this);
+        }
+    }
+
+    record CustomerRecord(
+            @MaskData(MaskType.NAME) String name,
+            @MaskData(MaskType.IBAN) String iban,
+            int age
+    ) {}
+
+    record PatternRecord(
+            @MaskData(pattern = "*+####") String card,
+            @MaskData(pattern = "##*+####", maskChar = '#') String iban
+    ) {}
+
+    static class Wrapper {
+        @MaskData(MaskType.DNI)
+        private final String dni = "ABCD123456";
+        private final PaymentEntity payment = new PaymentEntity("4111111111111111");
+    }
+
+    @Test
+    @DisplayName("masks annotated fields, including superclass fields, skipping statics")
+    void masksClassFields() {
+        assertEquals("PaymentEntity{id=42, cardNumber=****-****-****-1111, accountId=AB######IJK, "
+                        + "currency=EUR, email=null}",
+                new PaymentEntity("4111111111111111").toString());
+    }
+
+    @Test
+    @DisplayName("masks record components with record-style output")
+    void masksRecordComponents() {
+        assertEquals("CustomerRecord[name=J*** D**, iban=ES******************7891, age=30]",
+                MaskedToString.of(new CustomerRecord("John Doe", "ES6621000418401234567891", 30)));
+    }
+
+    @Test
+    @DisplayName("nested toString calls render correctly")
+    void rendersNestedObjects() {
+        assertEquals("Wrapper{dni=******3456, payment=PaymentEntity{id=42, cardNumber=****-****-****-1111, "
+                        + "accountId=AB######IJK, currency=EUR, email=null}}",
+                MaskedToString.of(new Wrapper()));
+    }
+
+    @Test
+    @DisplayName("appends pattern fields with the configured mask character")
+    void appendsPatterns() {
+        PatternRecord record = new PatternRecord("4111111111111111", "ES6621000418401234567891");
+        assertEquals("PatternRecord[card=************1111, iban=ES##################7891]", MaskedToString.of(record));
+
+        MaskingConfig.getInstance().setDefaultMaskChar('x');
+        assertEquals("PatternRecord[card=xxxxxxxxxxxx1111, iban=ES##################7891]", MaskedToString.of(record));
+    }
+
+    @Test
+    @DisplayName("respects global config")
+    void respectsGlobalConfig() {
+        MaskingConfig.getInstance().setDefaultMaskChar('#');
+        assertTrue(MaskedToString.of(new PaymentEntity("4111111111111111")).contains("####-####-####-1111"));
+
+        MaskingConfig.getInstance().setEnabled(false);
+        assertTrue(MaskedToString.of(new PaymentEntity("4111111111111111")).contains("4111111111111111"));
+    }
+
+    @Test
+    @DisplayName("renders null as \"null\"")
+    void rendersNull() {
+        assertEquals("null", MaskedToString.of(null));
+    }
+}
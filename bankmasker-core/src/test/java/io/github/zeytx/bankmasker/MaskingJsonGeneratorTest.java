@@ -0,0 +1,226 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaskingJsonGenerator — masking by field name")
+class MaskingJsonGeneratorTest {
+
+    private static final MaskedFieldNames NAMES = MaskedFieldNames.builder()
+            .add("cardNumber", MaskType.CREDIT_CARD)
+            .add("iban", MaskType.IBAN)
+            .add("phones", MaskType.PHONE)
+            .build();
+
+    private static final String PAYLOAD = "{\"cardNumber\":\"4111111111111111\","
+            + "\"nested\":{\"iban\":\"ES6621000418401234567891\",\"note\":\"iban\"},"
+            + "\"phones\":[\"+525512345678\"],"
+            + "\"other\":\"4111111111111111\"}";
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+    };
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper();
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    static class CardDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber = "4111111111111111";
+    }
+
+    private static void assertMasked(String json) {
+        assertTrue(json.contains("\"cardNumber\":\"****-****-****-1111\""), json);
+        assertTrue(json.contains("\"iban\":\"ES******************7891\""), json);
+        assertTrue(json.contains("\"note\":\"iban\""), json);
+        assertTrue(json.contains("\"phones\":[\"********5678\"]"), json);
+        assertTrue(json.contains("\"other\":\"4111111111111111\""), json);
+    }
+
+    @Nested
+    @DisplayName("MaskedFieldNames")
+    class FieldNamesTests {
+
+        @Test
+        @DisplayName("looks up compiled field names")
+        void looksUpNames() {
+            assertEquals(MaskType.IBAN, NAMES.typeOf("iban"));
+            assertNull(NAMES.typeOf("IBAN"));
+            assertNull(NAMES.typeOf(null));
+            assertEquals(3, NAMES.size());
+        }
+
+        @Test
+        @DisplayName("rejects null entries")
+        void rejectsNulls() {
+            assertThrows(IllegalArgumentException.class, () -> MaskedFieldNames.builder().add(null, MaskType.TOTAL));
+            assertThrows(IllegalArgumentException.class, () -> MaskedFieldNames.builder().add("x", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Through MaskingModule")
+    class ModuleTests {
+
+        @BeforeEach
+        void registerModule() {
+            mapper.registerModule(new MaskingModule(MaskingConfig.create(), NAMES));
+        }
+
+        @Test
+        @DisplayName("masks Map payloads")
+        void masksMaps() throws JsonProcessingException {
+            Map<String, Object> payload = mapper.readValue(PAYLOAD, MAP);
+            assertMasked(mapper.writeValueAsString(payload));
+        }
+
+        @Test
+        @DisplayName("masks JsonNode trees")
+        void masksTrees() throws JsonProcessingException {
+            JsonNode tree = mapper.readTree(PAYLOAD);
+            assertMasked(mapper.writeValueAsString(tree));
+        }
+
+        @Test
+        @DisplayName("does not mask annotated bean fields twice")
+        void doesNotMaskTwice() throws JsonProcessingException {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("card", new CardDTO());
+            MaskingConfig config = MaskingConfig.create();
+            List<String> audit = new ArrayList<>();
+            config.setAuditLogger((field, type) -> audit.add(field));
+            ObjectMapper audited = new ObjectMapper().registerModule(new MaskingModule(config, NAMES));
+
+            String json = audited.writeValueAsString(payload);
+
+            assertEquals("{\"card\":{\"cardNumber\":\"****-****-****-1111\"}}", json);
+            assertEquals(List.of("cardNumber"), audit);
+        }
+
+        @Test
+        @DisplayName("MASKED policy fully masks listed fields")
+        void maskedPolicy() throws JsonProcessingException {
+            Map<String, Object> payload = mapper.readValue(PAYLOAD, MAP);
+            String json = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.MASKED)
+                    .writeValueAsString(payload);
+            assertTrue(json.contains("\"cardNumber\":\"********\""), json);
+            assertTrue(json.contains("\"iban\":\"********\""), json);
+            assertTrue(json.contains("\"phones\":[\"********\"]"), json);
+            assertTrue(json.contains("\"other\":\"4111111111111111\""), json);
+
+            JsonNode tree = mapper.readTree(PAYLOAD);
+            assertEquals(json, MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.MASKED)
+                    .writeValueAsString(tree));
+        }
+
+        @Test
+        @DisplayName("UNMASKED policy writes original values")
+        void unmaskedPolicy() throws JsonProcessingException {
+            Map<String, Object> payload = mapper.readValue(PAYLOAD, MAP);
+            String json = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED)
+                    .writeValueAsString(payload);
+            assertTrue(json.contains("\"cardNumber\":\"4111111111111111\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Through a JsonFactory decorator")
+    class DecoratorTests {
+
+        @Test
+        @DisplayName("masks every generator of the factory")
+        void masksWithDecorator() throws JsonProcessingException {
+            JsonFactory factory = JsonFactory.builder()
+                    .addDecorator(MaskingJsonGenerator.decorator(NAMES, MaskingConfig.getInstance()))
+                    .build();
+            ObjectMapper decorated = new ObjectMapper(factory);
+
+            assertMasked(decorated.writeValueAsString(decorated.readTree(PAYLOAD)));
+        }
+
+        @Test
+        @DisplayName("respects disabled config and enabled types")
+        void respectsConfig() throws JsonProcessingException {
+            MaskingConfig config = MaskingConfig.create().setEnabledTypes(java.util.EnumSet.of(MaskType.IBAN));
+            ObjectMapper decorated = new ObjectMapper(JsonFactory.builder()
+                    .addDecorator(MaskingJsonGenerator.decorator(NAMES, config))
+                    .build());
+
+            String json = decorated.writeValueAsString(decorated.readTree(PAYLOAD));
+            assertTrue(json.contains("\"cardNumber\":\"4111111111111111\""));
+            assertTrue(json.contains("\"iban\":\"ES******************7891\""));
+
+            config.setEnabled(false);
+            json = decorated.writeValueAsString(decorated.readTree(PAYLOAD));
+            assertTrue(json.contains("ES6621000418401234567891"));
+        }
+
+        @Test
+        @DisplayName("a long-lived generator sees config changes from the next value on")
+        void longLivedGenerator() throws Exception {
+            MaskingConfig config = MaskingConfig.create();
+            StringWriter out = new StringWriter();
+            try (JsonGenerator gen = new MaskingJsonGenerator(new JsonFactory().createGenerator(out), NAMES, config)) {
+                gen.writeStartArray();
+                gen.writeStartObject();
+                gen.writeStringField("iban", "ES6621000418401234567891");
+                gen.writeEndObject();
+                config.update(s -> s.withEnabled(false));
+                gen.writeStartObject();
+                gen.writeStringField("iban", "ES6621000418401234567891");
+                gen.writeEndObject();
+                gen.writeEndArray();
+            }
+
+            assertEquals("[{\"iban\":\"ES******************7891\"},{\"iban\":\"ES6621000418401234567891\"}]",
+                    out.toString());
+        }
+
+        @Test
+        @DisplayName("masks values streamed from a Reader")
+        void masksReaders() throws Exception {
+            StringWriter out = new StringWriter();
+            try (JsonGenerator gen = new MaskingJsonGenerator(new JsonFactory().createGenerator(out), NAMES,
+                    MaskingConfig.create())) {
+                gen.writeStartObject();
+                gen.writeFieldName("iban");
+                gen.writeString(new StringReader("ES6621000418401234567891"), -1);
+                gen.writeFieldName("cardNumber");
+                gen.writeString(new StringReader("4111111111111111 trailing"), 16);
+                gen.writeFieldName("note");
+                gen.writeString(new StringReader("ES6621000418401234567891"), -1);
+                gen.writeEndObject();
+            }
+
+            assertEquals("{\"iban\":\"ES******************7891\",\"cardNumber\":\"****-****-****-1111\","
+                    + "\"note\":\"ES6621000418401234567891\"}", out.toString());
+        }
+    }
+}
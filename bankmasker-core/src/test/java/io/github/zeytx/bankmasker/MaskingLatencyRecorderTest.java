@@ -0,0 +1,327 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaskingLatencyRecorder — per-type masking latency")
+class MaskingLatencyRecorderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    static class PaymentDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public String card = "4111111111111111";
+
+        @MaskData(MaskType.EMAIL)
+        public String email = "john.doe@example.com";
+    }
+
+    private static MaskingLatencyRecorder.Snapshot find(List<MaskingLatencyRecorder.Snapshot> snapshots,
+                                                        MaskType type, String field) {
+        return snapshots.stream()
+                .filter(s -> s.getType() == type && s.getField().equals(field))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No snapshot for " + type + " " + field));
+    }
+
+    @Nested
+    @DisplayName("Histogram")
+    class Histogram {
+
+        @Test
+        @DisplayName("an empty recorder has no snapshots")
+        void empty() {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            assertTrue(recorder.snapshot().isEmpty());
+            assertEquals(0, recorder.getTotalCount());
+        }
+
+        @ParameterizedTest(name = "{0} ns")
+        @ValueSource(longs = {0, 1, 31, 32, 100, 1_000, 12_345, 1_000_000, 987_654_321})
+        @DisplayName("reports a single value within 6.25%")
+        void precision(long nanos) {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder(1);
+            recorder.record(MaskType.IBAN, "iban", nanos);
+            recorder.record(MaskType.IBAN, "iban", 0);
+
+            MaskingLatencyRecorder.Snapshot snapshot = find(recorder.snapshot(), MaskType.IBAN, "iban");
+            long p99 = snapshot.getP99Nanos();
+            assertTrue(p99 >= nanos && p99 <= nanos + nanos / 16, () -> nanos + " reported as " + p99);
+            assertEquals(nanos, snapshot.getMaxNanos());
+        }
+
+        @Test
+        @DisplayName("computes percentiles, mean and max")
+        void percentiles() {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder(4);
+            for (long i = 1; i <= 1000; i++) {
+                recorder.record(MaskType.EMAIL, "email", i * 1000);
+            }
+
+            MaskingLatencyRecorder.Snapshot snapshot = find(recorder.snapshot(), MaskType.EMAIL, "email");
+            assertEquals(1000, snapshot.getCount());
+            assertEquals(500_500, snapshot.getMeanNanos(), 0.001);
+            assertEquals(1_000_000, snapshot.getMaxNanos());
+            assertEquals(500_000, snapshot.getP50Nanos(), 500_000 / 16.0);
+            assertEquals(990_000, snapshot.getP99Nanos(), 990_000 / 16.0);
+            assertEquals(999_000, snapshot.getP999Nanos(), 999_000 / 16.0);
+            assertEquals(1000, snapshot.getValueAtPercentile(0), 1000 / 16.0);
+        }
+
+        @Test
+        @DisplayName("clamps negative and very large values")
+        void clamps() {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder(1);
+            recorder.record(MaskType.SSN, "ssn", -5);
+            recorder.record(MaskType.SSN, "ssn", Long.MAX_VALUE);
+
+            MaskingLatencyRecorder.Snapshot snapshot = find(recorder.snapshot(), MaskType.SSN, "ssn");
+            assertEquals(2, snapshot.getCount());
+            assertEquals(0, snapshot.getP50Nanos());
+            assertEquals((1L << 36) - 1, snapshot.getMaxNanos());
+        }
+
+        @Test
+        @DisplayName("keeps types and fields apart")
+        void keys() {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            recorder.record(MaskType.IBAN, "iban", 10);
+            recorder.record(MaskType.IBAN, "payeeIban", 10);
+            recorder.record(MaskType.IBAN, "payeeIban", 10);
+            recorder.record(MaskType.EMAIL, "iban", 10);
+            recorder.record(MaskType.EMAIL, null, 10);
+
+            List<MaskingLatencyRecorder.Snapshot> snapshots = recorder.snapshot();
+            assertEquals(4, snapshots.size());
+            assertEquals(2, find(snapshots, MaskType.IBAN, "payeeIban").getCount());
+            assertEquals(1, find(snapshots, MaskType.EMAIL, "").getCount());
+            assertEquals(5, recorder.getTotalCount());
+        }
+
+        @Test
+        @DisplayName("snapshotAndReset starts a new interval")
+        void snapshotAndReset() {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            recorder.record(MaskType.PHONE, "phone", 100);
+
+            assertEquals(1, find(recorder.snapshotAndReset(), MaskType.PHONE, "phone").getCount());
+            assertEquals(0, find(recorder.snapshot(), MaskType.PHONE, "phone").getCount());
+            assertEquals(0, find(recorder.snapshot(), MaskType.PHONE, "phone").getP99Nanos());
+
+            recorder.record(MaskType.PHONE, "phone", 200);
+            recorder.reset();
+            assertEquals(0, recorder.getTotalCount());
+        }
+
+        @Test
+        @DisplayName("loses no counts under concurrent recording")
+        void concurrent() throws Exception {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder(8);
+            int threads = 8;
+            int perThread = 50_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    futures[t] = executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            recorder.record(MaskType.CREDIT_CARD, "card", i);
+                        }
+                    });
+                }
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            MaskingLatencyRecorder.Snapshot snapshot = find(recorder.snapshot(), MaskType.CREDIT_CARD, "card");
+            assertEquals((long) threads * perThread, snapshot.getCount());
+            assertEquals(perThread - 1, snapshot.getMaxNanos());
+        }
+
+        @Test
+        @DisplayName("rejects invalid stripes and percentiles")
+        void validation() {
+            assertThrows(IllegalArgumentException.class, () -> new MaskingLatencyRecorder(0));
+            assertThrows(IllegalArgumentException.class, () -> new MaskingLatencyRecorder(257));
+
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            recorder.record(MaskType.DNI, "dni", 1);
+            MaskingLatencyRecorder.Snapshot snapshot = recorder.snapshot().get(0);
+            assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(100.1));
+            assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Masking paths")
+    class MaskingPaths {
+
+        @Test
+        @DisplayName("MaskingSerializer records each masked field")
+        void serializer() throws Exception {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            MaskingConfig.getInstance().setLatencyRecorder(recorder);
+
+            mapper.writeValueAsString(new PaymentDTO());
+            mapper.writeValueAsString(new PaymentDTO());
+
+            List<MaskingLatencyRecorder.Snapshot> snapshots = recorder.snapshot();
+            assertEquals(2, find(snapshots, MaskType.CREDIT_CARD, "card").getCount());
+            assertEquals(2, find(snapshots, MaskType.EMAIL, "email").getCount());
+            assertTrue(find(snapshots, MaskType.CREDIT_CARD, "card").getMaxNanos() > 0);
+        }
+
+        @Test
+        @DisplayName("nothing is recorded once detached or while masking is disabled")
+        void detached() throws Exception {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            MaskingConfig config = MaskingConfig.getInstance().setLatencyRecorder(recorder);
+
+            config.setEnabled(false);
+            mapper.writeValueAsString(new PaymentDTO());
+            config.setEnabled(true).setLatencyRecorder(null);
+            mapper.writeValueAsString(new PaymentDTO());
+
+            assertEquals(0, recorder.getTotalCount());
+        }
+
+        @Test
+        @DisplayName("MaskingJsonGenerator records masked field names")
+        void generator() throws Exception {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            MaskingConfig config = MaskingConfig.create().setLatencyRecorder(recorder);
+            ObjectMapper decorated = new ObjectMapper(JsonFactory.builder()
+                    .addDecorator(MaskingJsonGenerator.decorator(MaskedFieldNames.builder().add("iban", MaskType.IBAN).build(), config))
+                    .build());
+
+            decorated.writeValueAsString(Map.of("iban", "ES6621000418401234567891", "note", "x"));
+
+            List<MaskingLatencyRecorder.Snapshot> snapshots = recorder.snapshot();
+            assertEquals(1, snapshots.size());
+            assertEquals(1, find(snapshots, MaskType.IBAN, "iban").getCount());
+        }
+
+        @Test
+        @DisplayName("JsonTreeMasker records masked nodes")
+        void tree() throws Exception {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            JsonNode tree = mapper.readTree("{\"cards\":[\"4111111111111111\",\"5500000000000004\"]}");
+
+            JsonTreeMasker.builder()
+                    .rule("cards[*]", MaskType.CREDIT_CARD)
+                    .config(MaskingConfig.create().setLatencyRecorder(recorder))
+                    .build()
+                    .mask(tree);
+
+            assertEquals(2, find(recorder.snapshot(), MaskType.CREDIT_CARD, "cards").getCount());
+        }
+
+        @Test
+        @DisplayName("MaskedSerializer records Masked values by field")
+        void masked() throws Exception {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            MaskingConfig.getInstance().setLatencyRecorder(recorder);
+
+            mapper.writeValueAsString(Map.of("iban", Masked.of("ES6621000418401234567891", MaskType.IBAN)));
+
+            assertEquals(1, find(recorder.snapshot(), MaskType.IBAN, "iban").getCount());
+        }
+
+        @Test
+        @DisplayName("MaskedToString records masked properties")
+        void toStringPath() {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            MaskingConfig.getInstance().setLatencyRecorder(recorder);
+
+            MaskedToString.of(new PaymentDTO());
+
+            List<MaskingLatencyRecorder.Snapshot> snapshots = recorder.snapshot();
+            assertEquals(1, find(snapshots, MaskType.CREDIT_CARD, "card").getCount());
+            assertEquals(1, find(snapshots, MaskType.EMAIL, "email").getCount());
+        }
+
+        @Test
+        @DisplayName("tenant configs share the default config's recorder")
+        void tenants() {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            TenantMaskingConfigs tenants = TenantMaskingConfigs.builder()
+                    .defaultConfig(MaskingConfig.create().setLatencyRecorder(recorder))
+                    .tenant("acme", '#', EnumSet.allOf(MaskType.class))
+                    .build();
+
+            assertSame(recorder, tenants.configFor("acme").getLatencyRecorder());
+        }
+    }
+
+    @Nested
+    @DisplayName("JMX")
+    class Jmx {
+
+        @Test
+        @DisplayName("exposes snapshots as composite data and resets through the MBean")
+        void mbean() throws Exception {
+            MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+            ObjectName name = recorder.registerMBean(MaskingLatencyRecorder.DEFAULT_OBJECT_NAME + ",name=test");
+            try {
+                recorder.record(MaskType.IBAN, "iban", 1_000);
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+                assertEquals(1L, server.getAttribute(name, "TotalCount"));
+                CompositeData[] snapshots = (CompositeData[]) server.getAttribute(name, "Snapshots");
+                assertEquals(1, snapshots.length);
+                assertEquals("IBAN", snapshots[0].get("type"));
+                assertEquals("iban", snapshots[0].get("field"));
+                assertEquals(1_000L, snapshots[0].get("maxNanos"));
+
+                server.invoke(name, "reset", null, null);
+                assertEquals(0L, server.getAttribute(name, "TotalCount"));
+
+                assertThrows(IllegalStateException.class, () -> recorder.registerMBean(name.toString()));
+            } finally {
+                recorder.unregisterMBean();
+            }
+            assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        }
+
+        @Test
+        @DisplayName("rejects malformed object names")
+        void malformedName() {
+            assertThrows(IllegalArgumentException.class, () -> new MaskingLatencyRecorder().registerMBean("no-domain"));
+        }
+    }
+}
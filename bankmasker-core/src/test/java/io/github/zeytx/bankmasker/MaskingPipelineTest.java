@@ -0,0 +1,94 @@
+package io.github.zeytx.bankmasker;
+
+import io.github.zeytx.bankmasker.MaskingPipeline.Normalizer;
+import io.github.zeytx.bankmasker.MaskingPipeline.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaskingPipeline — fused normalize/validate/mask")
+class MaskingPipelineTest {
+
+    private static final MaskingPipeline CARD = MaskingPipeline.builder()
+            .normalize(Normalizer.DIGITS)
+            .validate(Validator.LUHN)
+            .mask("****-****-****-####")
+            .build();
+
+    private static final MaskingPipeline IBAN = MaskingPipeline.builder()
+            .normalize(Normalizer.ALPHANUMERIC_UPPER)
+            .validate(Validator.IBAN)
+            .mask("##*+####")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"4111111111111111", "4111 1111 1111 1111", "4111-1111-1111-1111"})
+    @DisplayName("normalizes and masks valid card numbers")
+    void masksValidCards(String card) {
+        assertEquals("****-****-****-1111", CARD.mask(card));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"4111111111111112", "411111111111111", "not a card", ""})
+    @DisplayName("fully masks values failing validation or the pattern")
+    void fullyMasksInvalidCards(String card) {
+        assertEquals("********", CARD.mask(card));
+    }
+
+    @Test
+    @DisplayName("validates and masks IBANs, case and spaces aside")
+    void masksIbans() {
+        assertEquals("ES******************7891", IBAN.mask("ES66 2100 0418 4012 3456 7891"));
+        assertEquals("DE****************3000", IBAN.mask("de89370400440532013000"));
+        assertEquals("********", IBAN.mask("ES6721000418401234567891"));
+        assertEquals("********", IBAN.mask("ES66"));
+    }
+
+    @Test
+    @DisplayName("requires every validator to accept the value")
+    void combinesValidators() {
+        MaskingPipeline pipeline = MaskingPipeline.builder()
+                .normalize(Normalizer.DIGITS)
+                .validate(Validator.LUHN)
+                .validate(Validator.length(13, 15))
+                .mask("*+####")
+                .build();
+        assertEquals("********", pipeline.mask("4111111111111111"));
+        assertEquals("***********0005", pipeline.mask("378282246310005"));
+    }
+
+    @Test
+    @DisplayName("uses the configured mask character and appends to builders")
+    void usesMaskChar() {
+        assertEquals("####-####-####-1111", CARD.mask("4111111111111111", MaskingConfig.create().setDefaultMaskChar('#')));
+
+        MaskingConfig.getInstance().setDefaultMaskChar('x');
+        StringBuilder sb = new StringBuilder();
+        CARD.maskTo("4111111111111111", MaskingConfig.getInstance(), sb);
+        CARD.maskTo("1234", MaskingConfig.getInstance(), sb.append(' '));
+        assertEquals("xxxx-xxxx-xxxx-1111 xxxxxxxx", sb.toString());
+    }
+
+    @Test
+    @DisplayName("handles null values and requires a mask stage")
+    void edgeCases() {
+        assertNull(CARD.mask(null));
+        assertThrows(IllegalStateException.class, () -> MaskingPipeline.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> MaskingPipeline.builder().validate(null));
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaskingSequenceWriter — streaming masked records")
+class MaskingSequenceWriterTest {
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+        mapper = new ObjectMapper().registerModule(new MaskingModule(MaskingConfig.create()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    static class PaymentDTO {
+        public int id;
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber = "4111111111111111";
+
+        PaymentDTO(int id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    @DisplayName("writes a masked JSON array, flushing per batch")
+    void writesMaskedArrayInBatches() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Long> progress = new ArrayList<>();
+
+        MaskingSequenceWriter writer = MaskingSequenceWriter.builder(mapper.writer())
+                .type(PaymentDTO.class)
+                .batchSize(1000)
+                .progressListener(w -> progress.add(w.getRecordsWritten()))
+                .open(out);
+        for (int i = 0; i < 2500; i++) {
+            writer.write(new PaymentDTO(i));
+        }
+        long flushedBeforeClose = writer.getBytesWritten();
+        writer.close();
+
+        JsonNode array = mapper.readTree(out.toByteArray());
+        assertEquals(2500, array.size());
+        assertEquals(2499, array.get(2499).get("id").asInt());
+        assertEquals("****-****-****-1111", array.get(0).get("cardNumber").asText());
+        assertFalse(out.toString().contains("4111111111111111"));
+
+        assertEquals(List.of(1000L, 2000L, 2500L), progress);
+        assertEquals(3, writer.getBatchesFlushed());
+        assertEquals(2500, writer.getRecordsWritten());
+        assertTrue(flushedBeforeClose > 0 && flushedBeforeClose < out.size());
+        assertEquals(out.size(), writer.getBytesWritten());
+        assertTrue(writer.getRecordsPerSecond() > 0);
+    }
+
+    @Test
+    @DisplayName("writes to a channel and honours the writer's policy")
+    void writesToChannel() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MaskingSequenceWriter writer = MaskingSequenceWriter
+                .builder(MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.MASKED))
+                .open(Channels.newChannel(out))) {
+            writer.write(new PaymentDTO(1)).write(null);
+        }
+
+        assertEquals("[{\"id\":1,\"cardNumber\":\"********\"},null]", out.toString());
+    }
+
+    @Test
+    @DisplayName("rejects invalid arguments")
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MaskingSequenceWriter.builder(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> MaskingSequenceWriter.builder(mapper.writer()).batchSize(0));
+    }
+}
@@ -334,6 +334,51 @@ class MaskingSerializerTest {
             String json = mapper.writeValueAsString(new CreditCardDTO("4111111111111111"));
             assertTrue(json.contains("****-****-****-1111"));
         }
+
+        @Test
+        @DisplayName("update publishes several settings as one new version")
+        void updateIsOneVersion() {
+            MaskingConfig config = MaskingConfig.create();
+            MaskingConfig.Snapshot before = config.snapshot();
+
+            config.update(s -> s.withEnabled(false).withDefaultMaskChar('#'));
+
+            MaskingConfig.Snapshot after = config.snapshot();
+            assertEquals(before.getVersion() + 1, after.getVersion());
+            assertFalse(after.isEnabled());
+            assertEquals('#', after.getDefaultMaskChar());
+            assertTrue(before.isEnabled());
+            assertEquals('*', before.getDefaultMaskChar());
+        }
+
+        @Test
+        @DisplayName("snapshot views are read-only and fixed to their snapshot")
+        void snapshotView() throws JsonProcessingException {
+            MaskingConfig.getInstance().setDefaultMaskChar('#');
+            MaskingConfig view = MaskingConfig.getInstance().snapshot().asConfig();
+            MaskingConfig.getInstance().setDefaultMaskChar('X');
+
+            assertEquals('#', view.getDefaultMaskChar());
+            assertEquals("####-####-####-1111", MaskType.CREDIT_CARD.getStrategy().mask("4111111111111111", view));
+            assertSame(view, view.snapshot().asConfig());
+            assertThrows(IllegalStateException.class, () -> view.setEnabled(false));
+            assertTrue(mapper.writeValueAsString(new CreditCardDTO("4111111111111111")).contains("XXXX-XXXX-XXXX-1111"));
+        }
+
+        @Test
+        @DisplayName("reset keeps the version increasing")
+        void resetBumpsVersion() {
+            MaskingConfig config = MaskingConfig.create().setDefaultMaskChar('#');
+            long version = config.getVersion();
+
+            config.reset();
+
+            assertEquals(version + 1, config.getVersion());
+            assertEquals('*', config.getDefaultMaskChar());
+            assertThrows(IllegalArgumentException.class,
+                    () -> config.update(s -> s.withPseudonymizationKey(new byte[8])));
+            assertEquals(version + 1, config.getVersion());
+        }
     }
 
     @Nested
@@ -498,5 +543,74 @@ class MaskingSerializerTest {
             assertThrows(IllegalArgumentException.class, () -> new MaskingModule(null));
         }
     }
-}
 
+    @Nested
+    @DisplayName("MaskingPolicy — per-call policy")
+    class MaskingPolicyTests {
+
+        @Test
+        @DisplayName("PARTIAL is the default policy")
+        void partialIsDefault() throws JsonProcessingException {
+            String json = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.PARTIAL)
+                    .writeValueAsString(new CreditCardDTO("4111111111111111"));
+            assertEquals(mapper.writeValueAsString(new CreditCardDTO("4111111111111111")), json);
+        }
+
+        @Test
+        @DisplayName("MASKED fully masks regardless of type")
+        void maskedFullyMasks() throws JsonProcessingException {
+            String json = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.MASKED)
+                    .writeValueAsString(new CreditCardDTO("4111111111111111"));
+            assertEquals("{\"cardNumber\":\"********\"}", json);
+        }
+
+        @Test
+        @DisplayName("UNMASKED writes the original value without auditing")
+        void unmaskedWritesOriginal() throws JsonProcessingException {
+            List<String> auditLog = new ArrayList<>();
+            MaskingConfig.getInstance().setAuditLogger((field, type) -> auditLog.add(field));
+
+            String json = MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED)
+                    .writeValueAsString(new CreditCardDTO("4111111111111111"));
+
+            assertTrue(json.contains("4111111111111111"));
+            assertTrue(auditLog.isEmpty());
+        }
+
+        @Test
+        @DisplayName("policy applies only to the derived writer")
+        void policyIsPerWriter() throws JsonProcessingException {
+            MaskingModule.withPolicy(mapper.writer(), MaskingPolicy.UNMASKED)
+                    .writeValueAsString(new CreditCardDTO("4111111111111111"));
+
+            String json = mapper.writeValueAsString(new CreditCardDTO("4111111111111111"));
+            assertTrue(json.contains("****-****-****-1111"));
+        }
+
+        @Test
+        @DisplayName("per-call policy keeps the per-mapper config")
+        void policyKeepsPerMapperConfig() throws JsonProcessingException {
+            ObjectMapper customMapper = new ObjectMapper();
+            customMapper.registerModule(new MaskingModule(MaskingConfig.create().setEnabled(false)));
+
+            String json = MaskingModule.withPolicy(customMapper.writer(), MaskingPolicy.MASKED)
+                    .writeValueAsString(new CreditCardDTO("4111111111111111"));
+            assertTrue(json.contains("4111111111111111"), "per-mapper disabled config must survive withAttribute");
+        }
+
+        @Test
+        @DisplayName("per-call config overrides the global singleton")
+        void perCallConfig() throws JsonProcessingException {
+            String json = MaskingModule.withConfig(mapper.writer(), MaskingConfig.create().setEnabled(false))
+                    .writeValueAsString(new CreditCardDTO("4111111111111111"));
+            assertTrue(json.contains("4111111111111111"));
+        }
+
+        @Test
+        @DisplayName("rejects null policy and config")
+        void rejectsNulls() {
+            assertThrows(IllegalArgumentException.class, () -> MaskingModule.withPolicy(mapper.writer(), null));
+            assertThrows(IllegalArgumentException.class, () -> MaskingModule.withConfig(mapper.writer(), null));
+        }
+    }
+}
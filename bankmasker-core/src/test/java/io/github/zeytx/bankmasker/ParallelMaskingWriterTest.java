@@ -0,0 +1,137 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ParallelMaskingWriter — chunked parallel serialization")
+class ParallelMaskingWriterTest {
+
+    private ObjectMapper mapper;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+        mapper = new ObjectMapper().registerModule(new MaskingModule(MaskingConfig.create()));
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        MaskingConfig.getInstance().reset();
+    }
+
+    static class TransactionDTO {
+        public int id;
+        @MaskData(MaskType.CREDIT_CARD)
+        public String cardNumber = "4111111111111111";
+        @MaskData(MaskType.IBAN)
+        public String iban = "ES6621000418401234567891";
+
+        TransactionDTO(int id) {
+            this.id = id;
+        }
+    }
+
+    static class FailingDTO {
+        public String getValue() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private static List<TransactionDTO> transactions(int count) {
+        List<TransactionDTO> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(new TransactionDTO(i));
+        }
+        return list;
+    }
+
+    private ParallelMaskingWriter.Builder builder() {
+        return ParallelMaskingWriter.builder(mapper.writer())
+                .type(TransactionDTO.class)
+                .executor(executor)
+                .chunkSize(100)
+                .maxInFlight(3);
+    }
+
+    @Test
+    @DisplayName("produces the same bytes as a sequential writer, in order")
+    void matchesSequentialOutput() throws Exception {
+        List<TransactionDTO> list = transactions(10_050);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long bytes = builder().build().writeArray(list, out);
+
+        String expected = mapper.writeValueAsString(list);
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+        assertEquals(expected.length(), bytes);
+        assertFalse(expected.contains("4111111111111111"));
+    }
+
+    @Test
+    @DisplayName("uses gathering writes on file channels")
+    void writesToFileChannel(@TempDir Path dir) throws Exception {
+        List<TransactionDTO> list = transactions(5_000);
+        Path file = dir.resolve("export.json");
+        ParallelMaskingWriter writer = builder().build();
+
+        for (int run = 0; run < 2; run++) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.writeArray(list, channel);
+            }
+            assertEquals(mapper.writeValueAsString(list), Files.readString(file));
+        }
+    }
+
+    @Test
+    @DisplayName("writes empty and small lists")
+    void writesSmallLists() throws Exception {
+        ParallelMaskingWriter writer = builder().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeArray(List.of(), out);
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+
+        out.reset();
+        writer.writeArray(transactions(1), out);
+        assertEquals(mapper.writeValueAsString(transactions(1)), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("propagates serialization failures")
+    void propagatesFailures() {
+        ParallelMaskingWriter writer = ParallelMaskingWriter.builder(mapper.writer()).executor(executor).build();
+        assertThrows(JsonMappingException.class,
+                () -> writer.writeArray(List.of(new FailingDTO()), new ByteArrayOutputStream()));
+    }
+
+    @Test
+    @DisplayName("rejects invalid arguments")
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelMaskingWriter.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> builder().chunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder().maxInFlight(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder().build().writeArray(null, new ByteArrayOutputStream()));
+    }
+}
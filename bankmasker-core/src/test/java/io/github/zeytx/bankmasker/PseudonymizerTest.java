@@ -0,0 +1,149 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pseudonymizer — keyed HMAC tokens")
+class PseudonymizerTest {
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    @BeforeEach
+    void setUp() {
+        MaskingConfig.getInstance().reset();
+        MaskingConfig.getInstance().setPseudonymizationKey(KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    private static String expected(byte[] key, String value) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        byte[] digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+    }
+
+    @Nested
+    @DisplayName("Tokens")
+    class TokenTests {
+
+        @Test
+        @DisplayName("is the truncated HMAC-SHA256 in URL-safe Base64")
+        void matchesReferenceHmac() throws Exception {
+            for (String value : List.of("C-1029", "4111111111111111", "ñandú@correo.es", "")) {
+                String token = MaskType.PSEUDONYMIZE.getStrategy().mask(value);
+                assertEquals(expected(KEY, value), token);
+                assertEquals(22, token.length());
+            }
+        }
+
+        @Test
+        @DisplayName("is deterministic per key and differs across keys")
+        void deterministicPerKey() {
+            MaskingStrategy strategy = MaskType.PSEUDONYMIZE.getStrategy();
+            String first = strategy.mask("ES6621000418401234567891");
+            assertEquals(first, strategy.mask("ES6621000418401234567891"));
+            assertNotEquals(first, strategy.mask("ES6621000418401234567892"));
+
+            MaskingConfig.getInstance().setPseudonymizationKey("another-key-0123456789".getBytes(StandardCharsets.US_ASCII));
+            assertNotEquals(first, strategy.mask("ES6621000418401234567891"));
+        }
+
+        @Test
+        @DisplayName("uses the key of the given configuration")
+        void usesGivenConfig() throws Exception {
+            byte[] tenantKey = "tenant-key-0123456789".getBytes(StandardCharsets.US_ASCII);
+            MaskingConfig tenant = MaskingConfig.create().setPseudonymizationKey(tenantKey);
+            assertEquals(expected(tenantKey, "C-1029"), MaskType.PSEUDONYMIZE.getStrategy().mask("C-1029", tenant));
+        }
+
+        @Test
+        @DisplayName("fully masks values when no key is configured")
+        void fallsBackWithoutKey() {
+            MaskingConfig.getInstance().setPseudonymizationKey(null).setDefaultMaskChar('#');
+            assertEquals("########", MaskType.PSEUDONYMIZE.getStrategy().mask("C-1029"));
+            assertNull(MaskType.PSEUDONYMIZE.getStrategy().mask(null));
+        }
+
+        @Test
+        @DisplayName("rejects keys shorter than 16 bytes and copies the key")
+        void validatesKey() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> MaskingConfig.getInstance().setPseudonymizationKey(new byte[15]));
+
+            byte[] key = KEY.clone();
+            MaskingConfig config = MaskingConfig.create().setPseudonymizationKey(key);
+            String before = Pseudonymizer.pseudonymize("C-1029", config);
+            key[0] ^= 1;
+            assertEquals(before, Pseudonymizer.pseudonymize("C-1029", config));
+            assertTrue(config.hasPseudonymizationKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch API")
+    class BatchTests {
+
+        @Test
+        @DisplayName("matches per-value tokens, keeping order and nulls")
+        void matchesPerValue() {
+            List<String> values = Arrays.asList("a", null, "b", "a");
+            List<String> tokens = Pseudonymizer.pseudonymizeAll(values);
+            assertEquals(4, tokens.size());
+            assertEquals(Pseudonymizer.pseudonymize("a", MaskingConfig.getInstance()), tokens.get(0));
+            assertNull(tokens.get(1));
+            assertEquals(tokens.get(0), tokens.get(3));
+            assertNotEquals(tokens.get(0), tokens.get(2));
+        }
+
+        @Test
+        @DisplayName("fully masks the batch when no key is configured")
+        void fallsBackWithoutKey() {
+            MaskingConfig config = MaskingConfig.create();
+            assertEquals(Arrays.asList("********", null), Pseudonymizer.pseudonymizeAll(Arrays.asList("a", null), config));
+        }
+    }
+
+    @Nested
+    @DisplayName("Serialization")
+    class SerializationTests {
+
+        static class CustomerDTO {
+            @MaskData(MaskType.PSEUDONYMIZE)
+            public String customerId = "C-1029";
+        }
+
+        @Test
+        @DisplayName("pseudonymizes annotated fields")
+        void serializesToken() throws Exception {
+            String json = new ObjectMapper().writeValueAsString(new CustomerDTO());
+            assertEquals("{\"customerId\":\"" + expected(KEY, "C-1029") + "\"}", json);
+        }
+
+        @Test
+        @DisplayName("uses the key of the mapper's configuration")
+        void usesModuleConfig() throws Exception {
+            byte[] tenantKey = "tenant-key-0123456789".getBytes(StandardCharsets.US_ASCII);
+            ObjectMapper mapper = new ObjectMapper()
+                    .registerModule(new MaskingModule(MaskingConfig.create().setPseudonymizationKey(tenantKey)));
+            assertEquals("{\"customerId\":\"" + expected(tenantKey, "C-1029") + "\"}",
+                    mapper.writeValueAsString(new CustomerDTO()));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.zeytx.bankmasker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Multi-tenant configuration")
+class TenantMaskingConfigsTest {
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper();
+        MaskingConfig.getInstance().reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    static class PaymentDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public String card = "4111111111111111";
+
+        @MaskData(MaskType.IBAN)
+        public String iban = "ES6621000418401234567891";
+    }
+
+    @Nested
+    @DisplayName("TenantMaskingConfigs")
+    class TableTests {
+
+        @Test
+        @DisplayName("resolves tenants and falls back to the default config")
+        void resolvesTenants() {
+            MaskingConfig defaults = MaskingConfig.create();
+            MaskingConfig globex = MaskingConfig.create().setDefaultMaskChar('x');
+            TenantMaskingConfigs tenants = TenantMaskingConfigs.builder()
+                    .defaultConfig(defaults)
+                    .tenant("acme", '#', EnumSet.of(MaskType.CREDIT_CARD))
+                    .tenant("globex", globex)
+                    .build();
+
+            assertEquals('#', tenants.configFor("acme").getDefaultMaskChar());
+            assertSame(globex, tenants.configFor("globex"));
+            assertSame(defaults, tenants.configFor("unknown"));
+            assertSame(defaults, tenants.configFor(null));
+            assertEquals(2, tenants.size());
+        }
+
+        @Test
+        @DisplayName("tenants with equal settings share one config")
+        void internsEqualSettings() {
+            TenantMaskingConfigs.Builder builder = TenantMaskingConfigs.builder()
+                    .defaultConfig(MaskingConfig.create());
+            for (int i = 0; i < 2_000; i++) {
+                builder.tenant("tenant-" + i, i % 2 == 0 ? '#' : '*', Set.of(MaskType.CREDIT_CARD));
+            }
+            TenantMaskingConfigs tenants = builder.build();
+
+            assertEquals(2_000, tenants.size());
+            assertEquals(3, tenants.distinctConfigs().size());
+            assertSame(tenants.configFor("tenant-0"), tenants.configFor("tenant-1998"));
+            assertEquals('*', tenants.configFor("tenant-1999").getDefaultMaskChar());
+        }
+
+        @Test
+        @DisplayName("copies the default config set after the tenants")
+        void resolvesDefaultsAtBuild() {
+            MaskingConfig defaults = MaskingConfig.create().setEnabled(false);
+            TenantMaskingConfigs tenants = TenantMaskingConfigs.builder()
+                    .tenant("acme", '#', EnumSet.of(MaskType.CREDIT_CARD))
+                    .defaultConfig(defaults)
+                    .build();
+
+            MaskingConfig acme = tenants.configFor("acme");
+            assertFalse(acme.isEnabled());
+            assertEquals('#', acme.getDefaultMaskChar());
+            assertSame(defaults, tenants.getDefaultConfig());
+        }
+
+        @Test
+        @DisplayName("rejects null tenant, config and enabled types")
+        void rejectsNulls() {
+            TenantMaskingConfigs.Builder builder = TenantMaskingConfigs.builder();
+            assertThrows(IllegalArgumentException.class, () -> builder.tenant(null, MaskingConfig.create()));
+            assertThrows(IllegalArgumentException.class, () -> builder.tenant(null, '#', Set.of()));
+            assertThrows(IllegalArgumentException.class, () -> builder.tenant("acme", null));
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> builder.tenant("acme", '#', null));
+            assertEquals("enabledTypes must not be null", e.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> builder.defaultConfig(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("TenantMaskingWriters")
+    class WriterTests {
+
+        @Test
+        @DisplayName("applies each tenant's mask char and enabled types on a shared mapper")
+        void appliesTenantConfig() throws JsonProcessingException {
+            TenantMaskingConfigs tenants = TenantMaskingConfigs.builder()
+                    .defaultConfig(MaskingConfig.create())
+                    .tenant("acme", '#', EnumSet.of(MaskType.CREDIT_CARD))
+                    .tenant("globex", 'x', EnumSet.allOf(MaskType.class))
+                    .build();
+            TenantMaskingWriters writers = new TenantMaskingWriters(mapper.writer(), tenants);
+
+            String acme = writers.writerFor("acme").writeValueAsString(new PaymentDTO());
+            assertTrue(acme.contains("####-####-####-1111"));
+            assertTrue(acme.contains("ES6621000418401234567891"), "IBAN is not enabled for acme");
+
+            String globex = writers.writerFor("globex").writeValueAsString(new PaymentDTO());
+            assertTrue(globex.contains("xxxx-xxxx-xxxx-1111"));
+            assertTrue(globex.contains("ESxxxxxxxxxxxxxxxxxx7891"));
+
+            String unknown = writers.writerFor("unknown").writeValueAsString(new PaymentDTO());
+            assertTrue(unknown.contains("****-****-****-1111"));
+        }
+    }
+
+    @Nested
+    @DisplayName("MaskingConfig enabled types")
+    class EnabledTypesTests {
+
+        @Test
+        @DisplayName("all types are enabled by default and after reset")
+        void allEnabledByDefault() {
+            MaskingConfig config = MaskingConfig.create();
+            assertEquals(EnumSet.allOf(MaskType.class), config.getEnabledTypes());
+
+            config.setEnabledTypes(Set.of()).reset();
+            assertTrue(config.isTypeEnabled(MaskType.IBAN));
+        }
+
+        @Test
+        @DisplayName("per-mapper mask char applies to built-in types")
+        void perMapperMaskChar() throws JsonProcessingException {
+            mapper.registerModule(new MaskingModule(MaskingConfig.create().setDefaultMaskChar('#')));
+            String json = mapper.writeValueAsString(new PaymentDTO());
+            assertTrue(json.contains("####-####-####-1111"));
+            assertEquals('*', MaskingConfig.getInstance().getDefaultMaskChar());
+        }
+    }
+}
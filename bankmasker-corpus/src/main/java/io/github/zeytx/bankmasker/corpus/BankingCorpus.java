@@ -0,0 +1,677 @@
+package io.github.zeytx.bankmasker.corpus;
+
+import io.github.zeytx.bankmasker.MaskType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded generator of realistic synthetic banking data.
+ *
+ * <p>Hardcoded literals such as {@code "4111111111111111"} flatter benchmarks: the same value
+ * every time lets branch predictors, caches and string deduplication learn the input. This
+ * generator varies the data the way production traffic does:
+ * <ul>
+ *   <li>card numbers of several brands and lengths (12 to 19 digits), all Luhn-valid,
+ *       sometimes grouped with spaces or dashes;</li>
+ *   <li>IBANs for 17 countries with their own lengths and BBAN formats and correct mod-97
+ *       check digits, in electronic or print format;</li>
+ *   <li>phone numbers for 11 country codes, in E.164, spaced or {@code 00}-prefixed form;</li>
+ *   <li>names in Latin with diacritics, Cyrillic, Greek, Arabic, Devanagari, Hangul and CJK,
+ *       including characters outside the Basic Multilingual Plane;</li>
+ *   <li>public and private IPv4 addresses and full or compressed IPv6 addresses;</li>
+ *   <li>nested {@link Transaction} DTOs built from all of the above.</li>
+ * </ul>
+ *
+ * <p>The output depends only on the seed and the sequence of calls, so two runs with the same
+ * seed see the same data. Instances are not thread-safe; give each thread its own corpus, for
+ * example seeded with the base seed plus the thread index.
+ *
+ * @since 1.1.0
+ * @see Transaction
+ */
+public final class BankingCorpus {
+
+    /** Seed used by {@link #BankingCorpus()}. */
+    public static final long DEFAULT_SEED = 0x5EED_BA4CL;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] BASE64URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final String DNI_LETTERS = "TRWAGMYFPDXBNJZSQVHLCKE";
+
+    /** 2026-01-01T00:00:00Z; transactions fall within the following year. */
+    private static final long EPOCH_2026 = 1_767_225_600_000L;
+    private static final long YEAR_MILLIS = 365L * 24 * 60 * 60 * 1000;
+
+    private static final CardBrand[] BRANDS = {
+            new CardBrand("VISA", 45, new String[]{"4"}, new int[]{16, 16, 16, 13, 19}),
+            new CardBrand("MASTERCARD", 30, new String[]{"51", "52", "53", "54", "55", "2221", "2720"}, new int[]{16}),
+            new CardBrand("AMEX", 8, new String[]{"34", "37"}, new int[]{15}),
+            new CardBrand("DISCOVER", 5, new String[]{"6011", "644", "65"}, new int[]{16, 19}),
+            new CardBrand("UNIONPAY", 5, new String[]{"62"}, new int[]{16, 17, 18, 19}),
+            new CardBrand("JCB", 3, new String[]{"3528", "3589"}, new int[]{16}),
+            new CardBrand("DINERS", 2, new String[]{"36", "38"}, new int[]{14}),
+            new CardBrand("MAESTRO", 2, new String[]{"5018", "6759"}, new int[]{12, 13, 18, 19}),
+    };
+    private static final int BRAND_WEIGHT = totalWeight();
+
+    /** Country code and BBAN format: {@code n} digits, {@code a} letters, {@code c} either. */
+    private static final String[][] IBAN_FORMATS = {
+            {"DE", "18n"}, {"ES", "20n"}, {"FR", "10n11c2n"}, {"GB", "4a14n"}, {"IT", "1a10n12c"},
+            {"NL", "4a10n"}, {"BE", "12n"}, {"PT", "21n"}, {"PL", "24n"}, {"CH", "5n12c"},
+            {"BR", "23n1a1c"}, {"SA", "2n18c"}, {"SE", "20n"}, {"NO", "11n"}, {"IE", "4a14n"},
+            {"TR", "6n16c"}, {"AE", "19n"},
+    };
+    private static final char[][] IBAN_BBANS = expandIbanFormats();
+
+    /** Country calling code, national number length and leading digits of mobile numbers. */
+    private static final Object[][] PHONE_PLANS = {
+            {"1", 10, "2345679"}, {"44", 10, "7"}, {"52", 10, "35"}, {"34", 9, "67"},
+            {"49", 11, "1"}, {"33", 9, "67"}, {"55", 11, "1"}, {"91", 10, "789"},
+            {"81", 10, "89"}, {"86", 11, "1"}, {"971", 9, "5"},
+    };
+
+    /** First names and last names per culture, written given name first. */
+    private static final String[][][] NAMES = {
+            {{"James", "Olivia", "Michael", "Emma", "William", "Sophia", "Jean-Luc", "Mary Ann"},
+                    {"Smith", "Johnson", "Brown", "O'Connor", "Taylor", "Walker-Jones", "Nguyen"}},
+            {{"José", "María", "Sofía", "Andrés", "Lucía", "Íñigo", "Ana Belén"},
+                    {"García", "Fernández", "Muñoz", "Peña", "Álvarez", "de la Cruz", "Núñez"}},
+            {{"Jürgen", "Zoë", "François", "Søren", "Björn", "Anaïs", "Çağla"},
+                    {"Müller", "Lefèvre", "Ødegaard", "Großmann", "Dubois", "Åberg", "Öztürk"}},
+            {{"Łukasz", "Zuzana", "Małgorzata", "Jiří", "Ștefan"},
+                    {"Wiśniewski", "Dvořák", "Kowalczyk", "Nováková", "Țurcanu"}},
+            {{"Иван", "Анна", "Дмитрий", "Ольга"}, {"Петров", "Смирнова", "Кузнецов", "Иванова"}},
+            {{"Νίκος", "Ελένη", "Γιώργος"}, {"Παπαδόπουλος", "Γεωργίου", "Οικονόμου"}},
+            {{"محمد", "فاطمة", "أحمد", "ليلى"}, {"العلي", "الحسن", "منصور"}},
+            {{"अनिल", "प्रिया", "राहुल"}, {"कुमार", "शर्मा", "पटेल"}},
+            {{"健", "陽菜", "大翔"}, {"佐藤", "鈴木", "𠮷田", "髙橋"}},
+    };
+    /** Cultures written family name first without a space. */
+    private static final String[][][] JOINED_NAMES = {
+            {{"伟", "芳", "秀英", "俊杰"}, {"王", "李", "张", "欧阳"}},
+            {{"민준", "서연", "지호"}, {"김", "이", "박"}},
+    };
+
+    private static final String[] EMAIL_HANDLES = {
+            "john", "maria", "li.wei", "jp", "ahmed", "s.oconnor", "anna-lena", "kenji", "priya", "o_petrova"};
+    private static final String[] EMAIL_DOMAINS = {
+            "example.com", "mail.example.org", "bank.example.co.uk", "correo.example.mx", "example.de",
+            "example.com.br", "corp.example.io", "example.jp"};
+    private static final String[] CURRENCIES = {
+            "EUR", "EUR", "EUR", "USD", "USD", "GBP", "MXN", "BRL", "CHF", "PLN", "JPY", "INR", "AED"};
+    private static final String[] TAGS = {
+            "pos", "ecommerce", "recurring", "international", "contactless", "3ds", "refund", "atm"};
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/130.0 Safari/537.36",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 18_0 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Mobile/15E148",
+            "BankApp/5.12.0 (Android 15; Pixel 9)",
+            "okhttp/4.12.0",
+            "PaymentGateway/2.3"};
+    private static final String[] REFERENCES = {
+            "Invoice %d", "Rent %s", "Payroll ACME Corp %d", "Pago alquiler %s", "Überweisung %d",
+            "Loyer %s", "Order #%d", "Refund RMA-%d", "Оплата счёта %d", "振込 %d"};
+    private static final String[] MONTHS = {
+            "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    private static final String[] IPV6_PREFIXES = {"2001:db8", "2a00:1450", "2a02:8108", "2600:1f18", "fd12:3456", "fe80:0"};
+
+    private final SplittableRandom random;
+
+    /** Creates a corpus seeded with {@link #DEFAULT_SEED}. */
+    public BankingCorpus() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Creates a corpus.
+     *
+     * @param seed the seed; the same seed yields the same sequence of values
+     */
+    public BankingCorpus(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    // --- Single values ---
+
+    /**
+     * Returns a Luhn-valid card number of a weighted random brand. About one in five is
+     * grouped in fours with spaces or dashes.
+     *
+     * @return a card number
+     */
+    public String pan() {
+        return pan(brand());
+    }
+
+    private String pan(CardBrand brand) {
+        String prefix = pick(brand.prefixes());
+        int length = brand.lengths()[random.nextInt(brand.lengths().length)];
+        char[] digits = new char[length];
+        prefix.getChars(0, prefix.length(), digits, 0);
+        for (int i = prefix.length(); i < length - 1; i++) {
+            digits[i] = digit();
+        }
+        digits[length - 1] = (char) ('0' + luhnCheckDigit(digits, length - 1));
+
+        int style = random.nextInt(10);
+        if (style >= 2 || length % 4 != 0) {
+            return new String(digits);
+        }
+        char separator = style == 0 ? ' ' : '-';
+        StringBuilder grouped = new StringBuilder(length + length / 4);
+        for (int i = 0; i < length; i++) {
+            if (i > 0 && i % 4 == 0) {
+                grouped.append(separator);
+            }
+            grouped.append(digits[i]);
+        }
+        return grouped.toString();
+    }
+
+    /**
+     * Returns an IBAN of a random country with valid check digits. About one in seven is in
+     * print format, grouped in fours with spaces.
+     *
+     * @return an IBAN
+     */
+    public String iban() {
+        int country = random.nextInt(IBAN_FORMATS.length);
+        String code = IBAN_FORMATS[country][0];
+        char[] bban = IBAN_BBANS[country];
+        char[] iban = new char[4 + bban.length];
+        iban[0] = code.charAt(0);
+        iban[1] = code.charAt(1);
+        for (int i = 0; i < bban.length; i++) {
+            iban[4 + i] = switch (bban[i]) {
+                case 'n' -> digit();
+                case 'a' -> letter();
+                default -> random.nextInt(3) == 0 ? letter() : digit();
+            };
+        }
+        int check = 98 - ibanRemainder(iban);
+        iban[2] = (char) ('0' + check / 10);
+        iban[3] = (char) ('0' + check % 10);
+
+        if (random.nextInt(7) != 0) {
+            return new String(iban);
+        }
+        StringBuilder print = new StringBuilder(iban.length + iban.length / 4);
+        for (int i = 0; i < iban.length; i++) {
+            if (i > 0 && i % 4 == 0) {
+                print.append(' ');
+            }
+            print.append(iban[i]);
+        }
+        return print.toString();
+    }
+
+    /**
+     * Returns a mobile phone number of a random country, as {@code +525512345678},
+     * {@code +52 551 234 5678} or {@code 00525512345678}.
+     *
+     * @return a phone number
+     */
+    public String phone() {
+        Object[] plan = PHONE_PLANS[random.nextInt(PHONE_PLANS.length)];
+        String countryCode = (String) plan[0];
+        int length = (Integer) plan[1];
+        String leading = (String) plan[2];
+        char[] national = new char[length];
+        national[0] = leading.charAt(random.nextInt(leading.length()));
+        for (int i = 1; i < length; i++) {
+            national[i] = digit();
+        }
+
+        int style = random.nextInt(10);
+        StringBuilder phone = new StringBuilder(length + 8);
+        phone.append(style == 9 ? "00" : "+").append(countryCode);
+        if (style < 6 || style == 9) {
+            return phone.append(national).toString();
+        }
+        // Groups of three, the last four digits together
+        for (int i = 0; i < length; i++) {
+            if (i == 0 || (i % 3 == 0 && i <= length - 4)) {
+                phone.append(' ');
+            }
+            phone.append(national[i]);
+        }
+        return phone.toString();
+    }
+
+    /**
+     * Returns a full name. Roughly half are Latin script, with and without diacritics; the
+     * rest are Cyrillic, Greek, Arabic, Devanagari, Japanese, Chinese or Korean.
+     *
+     * @return a name
+     */
+    public String name() {
+        int culture = random.nextInt(NAMES.length + JOINED_NAMES.length + 4);
+        if (culture < 4) {
+            // Weight toward the first four, Latin-script cultures
+            culture = random.nextInt(4);
+        } else {
+            culture -= 4;
+        }
+        if (culture >= NAMES.length) {
+            String[][] names = JOINED_NAMES[culture - NAMES.length];
+            return pick(names[1]) + pick(names[0]);
+        }
+        String[][] names = NAMES[culture];
+        return pick(names[0]) + ' ' + pick(names[1]);
+    }
+
+    /**
+     * Returns an email address, sometimes with plus addressing, digits or upper case.
+     *
+     * @return an email address
+     */
+    public String email() {
+        StringBuilder email = new StringBuilder(32).append(pick(EMAIL_HANDLES));
+        switch (random.nextInt(4)) {
+            case 0 -> email.append(random.nextInt(1000));
+            case 1 -> email.append('+').append(pick(TAGS));
+            default -> {
+            }
+        }
+        email.append('@').append(pick(EMAIL_DOMAINS));
+        return random.nextInt(20) == 0 ? email.toString().toUpperCase(Locale.ROOT) : email.toString();
+    }
+
+    /**
+     * Returns an IPv4 address, about half of them in private ranges.
+     *
+     * @return an IPv4 address
+     */
+    public String ipv4() {
+        int a;
+        int b = random.nextInt(256);
+        switch (random.nextInt(6)) {
+            case 0 -> a = 10;
+            case 1 -> {
+                a = 172;
+                b = 16 + random.nextInt(16);
+            }
+            case 2 -> {
+                a = 192;
+                b = 168;
+            }
+            default -> {
+                a = 1 + random.nextInt(223);
+                if (a == 10 || a == 127) {
+                    a++;
+                }
+            }
+        }
+        return a + "." + b + "." + random.nextInt(256) + "." + (1 + random.nextInt(254));
+    }
+
+    /**
+     * Returns an IPv6 address, about half of them with a run of zero groups compressed
+     * to {@code ::}.
+     *
+     * @return an IPv6 address
+     */
+    public String ipv6() {
+        String prefix = pick(IPV6_PREFIXES);
+        int[] groups = new int[6];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = random.nextInt(0x10000);
+        }
+        int zeroStart = -1;
+        int zeroEnd = -1;
+        if (random.nextBoolean()) {
+            zeroStart = random.nextInt(4);
+            zeroEnd = zeroStart + 2 + random.nextInt(2);
+        }
+
+        StringBuilder ip = new StringBuilder(39).append(prefix);
+        for (int i = 0; i < groups.length; i++) {
+            if (i == zeroStart) {
+                ip.append(':');
+                i = zeroEnd - 1;
+                if (zeroEnd == groups.length) {
+                    ip.append(':');
+                }
+                continue;
+            }
+            ip.append(':');
+            appendHex(ip, groups[i]);
+        }
+        return ip.toString();
+    }
+
+    /**
+     * Returns an IPv4 address, or an IPv6 address about three times in ten.
+     *
+     * @return an IP address
+     */
+    public String ipAddress() {
+        return random.nextInt(10) < 3 ? ipv6() : ipv4();
+    }
+
+    /**
+     * Returns a US Social Security Number with a valid area, group and serial, usually as
+     * {@code 123-45-6789}.
+     *
+     * @return an SSN
+     */
+    public String ssn() {
+        int area = 1 + random.nextInt(899);
+        if (area == 666) {
+            area = 665;
+        }
+        int group = 1 + random.nextInt(99);
+        int serial = 1 + random.nextInt(9999);
+        String format = random.nextInt(5) == 0 ? "%03d%02d%04d" : "%03d-%02d-%04d";
+        return String.format(Locale.ROOT, format, area, group, serial);
+    }
+
+    /**
+     * Returns a national ID: a Spanish DNI or NIE with its control letter, or a
+     * Mexican CURP.
+     *
+     * @return a national ID
+     */
+    public String nationalId() {
+        int kind = random.nextInt(10);
+        if (kind < 7) {
+            int number = random.nextInt(100_000_000);
+            return String.format(Locale.ROOT, "%08d", number) + DNI_LETTERS.charAt(number % 23);
+        }
+        if (kind < 9) {
+            int prefix = random.nextInt(3);
+            int number = random.nextInt(10_000_000);
+            return "XYZ".charAt(prefix) + String.format(Locale.ROOT, "%07d", number)
+                    + DNI_LETTERS.charAt((prefix * 10_000_000 + number) % 23);
+        }
+        StringBuilder curp = new StringBuilder(18);
+        for (int i = 0; i < 4; i++) {
+            curp.append(letter());
+        }
+        curp.append(String.format(Locale.ROOT, "%02d%02d%02d", random.nextInt(100), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+        curp.append(random.nextBoolean() ? 'H' : 'M').append("DF");
+        for (int i = 0; i < 3; i++) {
+            curp.append(letter());
+        }
+        return curp.append(digit()).append(digit()).toString();
+    }
+
+    /**
+     * Returns a passport number: two letters and seven digits, one letter and eight digits,
+     * or nine digits.
+     *
+     * @return a passport number
+     */
+    public String passport() {
+        int letters = random.nextInt(3);
+        StringBuilder passport = new StringBuilder(9);
+        for (int i = 0; i < 9; i++) {
+            passport.append(i < letters ? letter() : digit());
+        }
+        return passport.toString();
+    }
+
+    /**
+     * Returns a domestic bank account number of 8 to 17 digits.
+     *
+     * @return an account number
+     */
+    public String bankAccount() {
+        int length = 8 + random.nextInt(10);
+        char[] account = new char[length];
+        for (int i = 0; i < length; i++) {
+            account[i] = digit();
+        }
+        return new String(account);
+    }
+
+    /**
+     * Returns a free-text payment reference, such as an invoice number or a note in one of
+     * several languages.
+     *
+     * @return a reference
+     */
+    public String reference() {
+        String template = pick(REFERENCES);
+        return template.contains("%s")
+                ? String.format(Locale.ROOT, template, pick(MONTHS))
+                : String.format(Locale.ROOT, template, 1000 + random.nextInt(9_000_000));
+    }
+
+    /**
+     * Returns a value suited to the given type. {@link MaskType#AUTO} yields a mix of card
+     * numbers, IBANs, emails, phone numbers and free text; {@link MaskType#PSEUDONYMIZE} a
+     * customer ID; {@link MaskType#TOTAL} and {@link MaskType#CUSTOM} a reference.
+     *
+     * @param type the mask type
+     * @return a value of that type
+     */
+    public String value(MaskType type) {
+        return switch (type) {
+            case CREDIT_CARD -> pan();
+            case EMAIL -> email();
+            case PHONE -> phone();
+            case DNI -> nationalId();
+            case IBAN -> iban();
+            case SSN -> ssn();
+            case NAME -> name();
+            case PASSPORT -> passport();
+            case BANK_ACCOUNT -> bankAccount();
+            case IP_ADDRESS -> ipAddress();
+            case AUTO -> switch (random.nextInt(5)) {
+                case 0 -> pan();
+                case 1 -> iban();
+                case 2 -> email();
+                case 3 -> phone();
+                default -> reference();
+            };
+            case PSEUDONYMIZE -> customerId();
+            default -> reference();
+        };
+    }
+
+    /**
+     * Returns {@code count} values of the given type. Benchmarks typically cycle through
+     * such an array so every invocation sees a different value.
+     *
+     * @param type  the mask type
+     * @param count the number of values
+     * @return the values
+     */
+    public String[] values(MaskType type, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = value(type);
+        }
+        return values;
+    }
+
+    // --- DTOs ---
+
+    /**
+     * Returns a transaction with a payer and payee, a card in seven cases out of ten, a device
+     * and up to three tags.
+     *
+     * @return a transaction
+     */
+    public Transaction transaction() {
+        PaymentCard card = null;
+        if (random.nextInt(10) < 7) {
+            CardBrand brand = brand();
+            card = new PaymentCard(brand.name(), pan(brand), name(),
+                    String.format(Locale.ROOT, "%02d/%02d", 1 + random.nextInt(12), 26 + random.nextInt(8)));
+        }
+        int tagCount = random.nextInt(4);
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(pick(TAGS));
+        }
+        // Log-uniform amounts between 1.00 and 100,000.00
+        long amount = (long) Math.pow(10, 2 + random.nextDouble() * 5);
+        return new Transaction(
+                uuid(),
+                EPOCH_2026 + random.nextLong(YEAR_MILLIS),
+                amount,
+                pick(CURRENCIES),
+                reference(),
+                party(),
+                party(),
+                card,
+                new Device(ipAddress(), pick(USER_AGENTS)),
+                tags,
+                token(32));
+    }
+
+    /**
+     * Returns {@code count} transactions.
+     *
+     * @param count the number of transactions
+     * @return the transactions
+     */
+    public List<Transaction> transactions(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(transaction());
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns a party with all personal fields filled in.
+     *
+     * @return a party
+     */
+    public Party party() {
+        return new Party(customerId(), name(), email(), phone(), iban(), nationalId());
+    }
+
+    private String customerId() {
+        return String.format(Locale.ROOT, "C%010d", random.nextLong(10_000_000_000L));
+    }
+
+    private String uuid() {
+        long high = random.nextLong();
+        long low = random.nextLong();
+        StringBuilder uuid = new StringBuilder(36);
+        for (int i = 0; i < 32; i++) {
+            if (i == 8 || i == 12 || i == 16 || i == 20) {
+                uuid.append('-');
+            }
+            long bits = i < 16 ? high >>> (60 - 4 * i) : low >>> (60 - 4 * (i - 16));
+            uuid.append(HEX[(int) (bits & 0xF)]);
+        }
+        return uuid.toString();
+    }
+
+    private String token(int length) {
+        char[] token = new char[length];
+        for (int i = 0; i < length; i++) {
+            token[i] = BASE64URL[random.nextInt(BASE64URL.length)];
+        }
+        return new String(token);
+    }
+
+    // --- Helpers ---
+
+    private CardBrand brand() {
+        int roll = random.nextInt(BRAND_WEIGHT);
+        for (CardBrand brand : BRANDS) {
+            roll -= brand.weight();
+            if (roll < 0) {
+                return brand;
+            }
+        }
+        return BRANDS[0];
+    }
+
+    private char digit() {
+        return (char) ('0' + random.nextInt(10));
+    }
+
+    private char letter() {
+        return (char) ('A' + random.nextInt(26));
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static void appendHex(StringBuilder out, int group) {
+        boolean started = false;
+        for (int shift = 12; shift >= 0; shift -= 4) {
+            int nibble = (group >>> shift) & 0xF;
+            if (nibble != 0 || started || shift == 0) {
+                out.append(HEX[nibble]);
+                started = true;
+            }
+        }
+    }
+
+    /** Check digit that makes {@code digits[0..length]} followed by it Luhn-valid. */
+    static int luhnCheckDigit(char[] digits, int length) {
+        int sum = 0;
+        for (int i = length - 1, k = 0; i >= 0; i--, k++) {
+            int d = digits[i] - '0';
+            if (k % 2 == 0) {
+                d *= 2;
+                if (d > 9) {
+                    d -= 9;
+                }
+            }
+            sum += d;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    /** Mod-97 remainder of an IBAN with its check digits set to {@code 00}, per ISO 13616. */
+    static int ibanRemainder(char[] iban) {
+        int remainder = 0;
+        for (int i = 4; i < iban.length + 4; i++) {
+            char c = i < iban.length ? iban[i] : (i < iban.length + 2 ? iban[i - iban.length] : '0');
+            if (c >= 'A' && c <= 'Z') {
+                remainder = (remainder * 100 + (c - 'A' + 10)) % 97;
+            } else {
+                remainder = (remainder * 10 + (c - '0')) % 97;
+            }
+        }
+        return remainder;
+    }
+
+    private static int totalWeight() {
+        int total = 0;
+        for (CardBrand brand : BRANDS) {
+            total += brand.weight();
+        }
+        return total;
+    }
+
+    private static char[][] expandIbanFormats() {
+        char[][] bbans = new char[IBAN_FORMATS.length][];
+        for (int i = 0; i < IBAN_FORMATS.length; i++) {
+            StringBuilder bban = new StringBuilder();
+            int count = 0;
+            for (char c : IBAN_FORMATS[i][1].toCharArray()) {
+                if (c >= '0' && c <= '9') {
+                    count = count * 10 + (c - '0');
+                } else {
+                    bban.append(String.valueOf(c).repeat(count));
+                    count = 0;
+                }
+            }
+            bbans[i] = bban.toString().toCharArray();
+        }
+        return bbans;
+    }
+
+    private record CardBrand(String name, int weight, String[] prefixes, int[] lengths) {
+    }
+}
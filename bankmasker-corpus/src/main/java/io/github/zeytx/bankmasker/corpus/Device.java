@@ -0,0 +1,17 @@
+package io.github.zeytx.bankmasker.corpus;
+
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+
+/**
+ * Device a {@link Transaction} was initiated from.
+ *
+ * @param ipAddress IPv4 or IPv6 address
+ * @param userAgent user agent, not masked
+ * @since 1.1.0
+ */
+public record Device(
+        @MaskData(MaskType.IP_ADDRESS) String ipAddress,
+        String userAgent
+) {
+}
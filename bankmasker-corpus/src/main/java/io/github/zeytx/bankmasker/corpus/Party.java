@@ -0,0 +1,25 @@
+package io.github.zeytx.bankmasker.corpus;
+
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+
+/**
+ * Payer or payee of a {@link Transaction}.
+ *
+ * @param customerId internal customer identifier, not masked
+ * @param name       full name, possibly in a non-Latin script
+ * @param email      email address
+ * @param phone      international phone number
+ * @param iban       account IBAN
+ * @param nationalId national ID
+ * @since 1.1.0
+ */
+public record Party(
+        String customerId,
+        @MaskData(MaskType.NAME) String name,
+        @MaskData(MaskType.EMAIL) String email,
+        @MaskData(MaskType.PHONE) String phone,
+        @MaskData(MaskType.IBAN) String iban,
+        @MaskData(MaskType.DNI) String nationalId
+) {
+}
@@ -0,0 +1,21 @@
+package io.github.zeytx.bankmasker.corpus;
+
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+
+/**
+ * Card used for a {@link Transaction}.
+ *
+ * @param brand  card brand, not masked
+ * @param pan    Luhn-valid card number
+ * @param holder cardholder name
+ * @param expiry expiry date as {@code MM/YY}, not masked
+ * @since 1.1.0
+ */
+public record PaymentCard(
+        String brand,
+        @MaskData(MaskType.CREDIT_CARD) String pan,
+        @MaskData(MaskType.NAME) String holder,
+        String expiry
+) {
+}
@@ -0,0 +1,37 @@
+package io.github.zeytx.bankmasker.corpus;
+
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+
+import java.util.List;
+
+/**
+ * Synthetic card or transfer transaction, nested like a typical payment API response.
+ *
+ * @param id          transaction identifier
+ * @param timestamp   epoch milliseconds
+ * @param amountMinor amount in minor units, e.g. cents
+ * @param currency    ISO 4217 currency code
+ * @param reference   free-text reference, not masked
+ * @param payer       the paying party
+ * @param payee       the receiving party
+ * @param card        the card used, or {@code null} for transfers
+ * @param device      the originating device
+ * @param tags        labels, not masked
+ * @param auditToken  opaque token, fully masked
+ * @since 1.1.0
+ */
+public record Transaction(
+        String id,
+        long timestamp,
+        long amountMinor,
+        String currency,
+        String reference,
+        Party payer,
+        Party payee,
+        PaymentCard card,
+        Device device,
+        List<String> tags,
+        @MaskData(MaskType.TOTAL) String auditToken
+) {
+}
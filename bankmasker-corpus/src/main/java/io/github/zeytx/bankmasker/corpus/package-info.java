@@ -0,0 +1,19 @@
+/**
+ * Deterministic synthetic banking data for benchmarks and load tests.
+ *
+ * <p>{@link io.github.zeytx.bankmasker.corpus.BankingCorpus} generates values shaped like
+ * production data — Luhn-valid card numbers of every common length, IBANs with correct check
+ * digits for many countries, international phone numbers, names in several scripts, IPv4 and
+ * IPv6 addresses — and nested {@link io.github.zeytx.bankmasker.corpus.Transaction} DTOs
+ * annotated with {@link io.github.zeytx.bankmasker.MaskData}. The same seed always yields the
+ * same data, so runs stay comparable.
+ *
+ * <pre>{@code
+ * BankingCorpus corpus = new BankingCorpus(42);
+ * String[] pans = corpus.values(MaskType.CREDIT_CARD, 1024);
+ * List<Transaction> batch = corpus.transactions(100);
+ * }</pre>
+ *
+ * @since 1.1.0
+ */
+package io.github.zeytx.bankmasker.corpus;
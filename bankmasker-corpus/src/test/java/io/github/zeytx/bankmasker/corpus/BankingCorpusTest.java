@@ -0,0 +1,239 @@
+package io.github.zeytx.bankmasker.corpus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskUtils;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BankingCorpus")
+class BankingCorpusTest {
+
+    private static final int SAMPLES = 2_000;
+
+    private final BankingCorpus corpus = new BankingCorpus(7);
+
+    @AfterEach
+    void tearDown() {
+        MaskingConfig.getInstance().reset();
+    }
+
+    @Nested
+    @DisplayName("Determinism")
+    class Determinism {
+
+        @Test
+        @DisplayName("same seed yields the same values")
+        void sameSeed() {
+            BankingCorpus a = new BankingCorpus(42);
+            BankingCorpus b = new BankingCorpus(42);
+            assertArrayEquals(a.values(MaskType.AUTO, 500), b.values(MaskType.AUTO, 500));
+            assertEquals(a.transactions(50), b.transactions(50));
+        }
+
+        @Test
+        @DisplayName("different seeds yield different values")
+        void differentSeeds() {
+            assertNotEquals(List.of(new BankingCorpus(1).values(MaskType.CREDIT_CARD, 20)),
+                    List.of(new BankingCorpus(2).values(MaskType.CREDIT_CARD, 20)));
+        }
+
+        @Test
+        @DisplayName("values vary within a run")
+        void variety() {
+            Set<String> pans = new HashSet<>(List.of(corpus.values(MaskType.CREDIT_CARD, SAMPLES)));
+            assertTrue(pans.size() > SAMPLES * 0.99);
+        }
+    }
+
+    @Nested
+    @DisplayName("Values")
+    class Values {
+
+        @Test
+        @DisplayName("card numbers are Luhn-valid and 12 to 19 digits long")
+        void pans() {
+            Set<Integer> lengths = new HashSet<>();
+            for (int i = 0; i < SAMPLES; i++) {
+                String pan = corpus.pan();
+                String digits = pan.replaceAll("[ -]", "");
+                assertTrue(digits.matches("\\d{12,19}"), pan);
+                assertTrue(luhnValid(digits), pan);
+                lengths.add(digits.length());
+            }
+            assertTrue(lengths.containsAll(Set.of(13, 14, 15, 16, 19)), lengths.toString());
+        }
+
+        @Test
+        @DisplayName("IBANs have valid check digits and country-specific lengths")
+        void ibans() {
+            Set<String> countries = new HashSet<>();
+            for (int i = 0; i < SAMPLES; i++) {
+                String iban = corpus.iban().replace(" ", "");
+                assertTrue(iban.matches("[A-Z]{2}\\d{2}[A-Z0-9]+"), iban);
+                assertEquals(1, mod97(iban), iban);
+                countries.add(iban.substring(0, 2));
+                switch (iban.substring(0, 2)) {
+                    case "DE", "GB", "IE" -> assertEquals(22, iban.length(), iban);
+                    case "ES" -> assertEquals(24, iban.length(), iban);
+                    case "NL" -> assertEquals(18, iban.length(), iban);
+                    case "NO" -> assertEquals(15, iban.length(), iban);
+                    case "BR" -> assertEquals(29, iban.length(), iban);
+                    default -> {
+                    }
+                }
+            }
+            assertEquals(17, countries.size());
+        }
+
+        @Test
+        @DisplayName("phone numbers are international")
+        void phones() {
+            for (int i = 0; i < SAMPLES; i++) {
+                String phone = corpus.phone();
+                assertTrue(phone.matches("(\\+|00)\\d{1,3}( ?\\d)+"), phone);
+                String digits = phone.replaceAll("\\D", "");
+                assertTrue(digits.length() >= 10 && digits.length() <= 16, phone);
+            }
+        }
+
+        @Test
+        @DisplayName("names include non-Latin scripts and supplementary characters")
+        void names() {
+            Set<Character.UnicodeScript> scripts = new HashSet<>();
+            boolean supplementary = false;
+            for (int i = 0; i < SAMPLES; i++) {
+                String name = corpus.name();
+                assertFalse(name.isBlank());
+                scripts.add(Character.UnicodeScript.of(name.codePointAt(0)));
+                supplementary |= name.codePoints().anyMatch(Character::isSupplementaryCodePoint);
+            }
+            assertTrue(scripts.containsAll(Set.of(Character.UnicodeScript.LATIN, Character.UnicodeScript.CYRILLIC,
+                    Character.UnicodeScript.GREEK, Character.UnicodeScript.ARABIC, Character.UnicodeScript.HAN,
+                    Character.UnicodeScript.HANGUL, Character.UnicodeScript.DEVANAGARI)), scripts.toString());
+            assertTrue(supplementary);
+        }
+
+        @Test
+        @DisplayName("IP addresses are valid IPv4 or IPv6")
+        void ipAddresses() throws Exception {
+            boolean compressed = false;
+            for (int i = 0; i < SAMPLES; i++) {
+                String v4 = corpus.ipv4();
+                assertTrue(v4.matches("\\d{1,3}(\\.\\d{1,3}){3}"), v4);
+                assertEquals(v4, java.net.InetAddress.getByName(v4).getHostAddress());
+
+                String v6 = corpus.ipv6();
+                assertTrue(v6.matches("[0-9a-f:]+"), v6);
+                assertInstanceOf(java.net.Inet6Address.class, java.net.InetAddress.getByName(v6), v6);
+                compressed |= v6.contains("::");
+            }
+            assertTrue(compressed);
+        }
+
+        @Test
+        @DisplayName("national IDs carry the right control letter")
+        void nationalIds() {
+            String letters = "TRWAGMYFPDXBNJZSQVHLCKE";
+            for (int i = 0; i < SAMPLES; i++) {
+                String id = corpus.nationalId();
+                if (id.matches("\\d{8}[A-Z]")) {
+                    assertEquals(letters.charAt(Integer.parseInt(id.substring(0, 8)) % 23), id.charAt(8), id);
+                } else if (id.matches("[XYZ]\\d{7}[A-Z]")) {
+                    int number = Integer.parseInt("XYZ".indexOf(id.charAt(0)) + id.substring(1, 8));
+                    assertEquals(letters.charAt(number % 23), id.charAt(8), id);
+                } else {
+                    assertTrue(id.matches("[A-Z]{4}\\d{6}[HM]DF[A-Z]{3}\\d{2}"), id);
+                }
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskType.class)
+        @DisplayName("every mask type has values the masker changes")
+        void everyType(MaskType type) {
+            MaskingConfig.getInstance().setPseudonymizationKey(new byte[32]);
+            for (String value : corpus.values(type, 200)) {
+                assertNotNull(value);
+                assertNotEquals(value, MaskUtils.mask(value, type), type + ": " + value);
+            }
+        }
+
+        @Test
+        @DisplayName("negative counts are rejected")
+        void negativeCount() {
+            assertThrows(IllegalArgumentException.class, () -> corpus.values(MaskType.EMAIL, -1));
+            assertThrows(IllegalArgumentException.class, () -> corpus.transactions(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Transactions")
+    class Transactions {
+
+        @Test
+        @DisplayName("serialize with every personal field masked")
+        void masked() throws Exception {
+            ObjectMapper mapper = new ObjectMapper();
+            for (Transaction transaction : corpus.transactions(200)) {
+                JsonNode json = mapper.valueToTree(transaction);
+                assertEquals(transaction.id(), json.get("id").asText());
+                assertEquals(transaction.currency(), json.get("currency").asText());
+                assertNotEquals(transaction.payer().email(), json.at("/payer/email").asText());
+                assertNotEquals(transaction.payer().iban(), json.at("/payer/iban").asText());
+                assertNotEquals(transaction.payee().phone(), json.at("/payee/phone").asText());
+                assertNotEquals(transaction.device().ipAddress(), json.at("/device/ipAddress").asText());
+                assertEquals("********", json.get("auditToken").asText());
+                if (transaction.card() != null) {
+                    assertTrue(json.at("/card/pan").asText().startsWith("****-****-****-"));
+                    assertEquals(transaction.card().brand(), json.at("/card/brand").asText());
+                } else {
+                    assertTrue(json.get("card").isNull());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("mix cards and transfers")
+        void cardsAndTransfers() {
+            List<Transaction> transactions = corpus.transactions(500);
+            long withCard = transactions.stream().filter(t -> t.card() != null).count();
+            assertTrue(withCard > 250 && withCard < 450, "with card: " + withCard);
+            assertTrue(transactions.stream().allMatch(t -> t.amountMinor() >= 100 && t.amountMinor() <= 10_000_000));
+        }
+    }
+
+    private static boolean luhnValid(String digits) {
+        int sum = 0;
+        for (int i = digits.length() - 1, k = 0; i >= 0; i--, k++) {
+            int d = digits.charAt(i) - '0';
+            if (k % 2 == 1) {
+                d = d * 2 > 9 ? d * 2 - 9 : d * 2;
+            }
+            sum += d;
+        }
+        return sum % 10 == 0;
+    }
+
+    private static int mod97(String iban) {
+        String rearranged = iban.substring(4) + iban.substring(0, 4);
+        StringBuilder numeric = new StringBuilder();
+        for (char c : rearranged.toCharArray()) {
+            numeric.append(Character.isLetter(c) ? String.valueOf(c - 'A' + 10) : String.valueOf(c));
+        }
+        return new BigInteger(numeric.toString()).mod(BigInteger.valueOf(97)).intValue();
+    }
+}
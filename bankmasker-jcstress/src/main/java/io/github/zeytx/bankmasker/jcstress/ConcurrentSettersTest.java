@@ -0,0 +1,46 @@
+package io.github.zeytx.bankmasker.jcstress;
+
+import io.github.zeytx.bankmasker.MaskingConfig;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Two threads changing different settings at the same time both succeed: each update is
+ * applied to the latest snapshot, so neither overwrites the other with stale values, and each
+ * publishes its own version. Results are (enabled, mask character, version).
+ */
+@JCStressTest
+@Description("Concurrent setters never lose updates")
+@Outcome(id = "0, 35, 2", expect = ACCEPTABLE, desc = "Both updates applied")
+@Outcome(expect = FORBIDDEN, desc = "Lost update")
+@State
+public class ConcurrentSettersTest {
+
+    private final MaskingConfig config = MaskingConfig.create();
+
+    @Actor
+    public void disable() {
+        config.setEnabled(false);
+    }
+
+    @Actor
+    public void changeMaskChar() {
+        config.setDefaultMaskChar('#');
+    }
+
+    @Arbiter
+    public void result(III_Result r) {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        r.r1 = snapshot.isEnabled() ? 1 : 0;
+        r.r2 = snapshot.getDefaultMaskChar();
+        r.r3 = (int) snapshot.getVersion();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.zeytx.bankmasker.jcstress;
+
+import io.github.zeytx.bankmasker.MaskingConfig;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE_INTERESTING;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Counterpart of {@link SnapshotConsistencyTest} reading through the individual getters:
+ * each getter reads a different snapshot, so a reader can see the mask character of one
+ * version and the enabled flag of another. This is why the serializers read one snapshot
+ * per field. Results are (enabled, mask character).
+ */
+@JCStressTest
+@Description("Separate getters can observe different versions")
+@Outcome(id = "1, 42", expect = ACCEPTABLE, desc = "Old settings")
+@Outcome(id = "0, 35", expect = ACCEPTABLE, desc = "New settings")
+@Outcome(id = "1, 35", expect = ACCEPTABLE_INTERESTING, desc = "Enabled read before the update, mask char after")
+@Outcome(id = "0, 42", expect = FORBIDDEN, desc = "Reads of one reference cannot go back to an older version")
+@State
+public class GetterTearingTest {
+
+    private final MaskingConfig config = MaskingConfig.create();
+
+    @Actor
+    public void writer() {
+        config.update(s -> s.withEnabled(false).withDefaultMaskChar('#'));
+    }
+
+    @Actor
+    public void reader(II_Result r) {
+        r.r1 = config.isEnabled() ? 1 : 0;
+        r.r2 = config.getDefaultMaskChar();
+    }
+}
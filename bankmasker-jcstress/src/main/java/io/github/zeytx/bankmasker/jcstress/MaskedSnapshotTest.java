@@ -0,0 +1,41 @@
+package io.github.zeytx.bankmasker.jcstress;
+
+import io.github.zeytx.bankmasker.Masked;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * {@link Masked#masked(MaskingConfig)}, the path behind {@code toString()} and
+ * {@code appendTo}, reads the enabled flags and the mask character from one snapshot,
+ * so it never combines the enabled flag of one version with the mask character of another.
+ * The result is the first character of the masked card number.
+ */
+@JCStressTest
+@Description("Masked values are masked under one config snapshot")
+@Outcome(id = "42", expect = ACCEPTABLE, desc = "Old settings: ****-****-****-1111")
+@Outcome(id = "52", expect = ACCEPTABLE, desc = "New settings, masking disabled: 4111111111111111")
+@Outcome(id = "35", expect = FORBIDDEN, desc = "Enabled flag of the old version, mask char of the new: ####-####-####-1111")
+@State
+public class MaskedSnapshotTest {
+
+    private final MaskingConfig config = MaskingConfig.create();
+
+    @Actor
+    public void writer() {
+        config.update(s -> s.withEnabled(false).withDefaultMaskChar('#'));
+    }
+
+    @Actor
+    public void reader(I_Result r) {
+        r.r1 = Masked.of("4111111111111111", MaskType.CREDIT_CARD).masked(config).charAt(0);
+    }
+}
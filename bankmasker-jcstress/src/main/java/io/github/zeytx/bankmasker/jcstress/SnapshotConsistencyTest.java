@@ -0,0 +1,40 @@
+package io.github.zeytx.bankmasker.jcstress;
+
+import io.github.zeytx.bankmasker.MaskingConfig;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * A reader taking a {@link MaskingConfig#snapshot()} while another thread disables masking
+ * and changes the mask character in one {@link MaskingConfig#update update} sees either the
+ * old settings or the new ones, never a mix. Results are (enabled, mask character).
+ */
+@JCStressTest
+@Description("Snapshots never show half of a multi-setting update")
+@Outcome(id = "1, 42", expect = ACCEPTABLE, desc = "Old settings: enabled, '*'")
+@Outcome(id = "0, 35", expect = ACCEPTABLE, desc = "New settings: disabled, '#'")
+@Outcome(expect = FORBIDDEN, desc = "Torn read")
+@State
+public class SnapshotConsistencyTest {
+
+    private final MaskingConfig config = MaskingConfig.create();
+
+    @Actor
+    public void writer() {
+        config.update(s -> s.withEnabled(false).withDefaultMaskChar('#'));
+    }
+
+    @Actor
+    public void reader(II_Result r) {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        r.r1 = snapshot.isEnabled() ? 1 : 0;
+        r.r2 = snapshot.getDefaultMaskChar();
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * jcstress tests of {@link io.github.zeytx.bankmasker.MaskingConfig} under concurrent updates.
+ *
+ * <p>Each test races configuration writers against readers many millions of times and checks
+ * that only allowed outcomes appear: a {@link io.github.zeytx.bankmasker.MaskingConfig.Snapshot}
+ * never shows half of an update, nor does a {@link io.github.zeytx.bankmasker.Masked} value masked
+ * under it, and concurrent setters never lose each other's changes.
+ *
+ * <pre>
+ * mvn -pl bankmasker-jcstress -am package -DskipTests
+ * java -jar bankmasker-jcstress/target/bankmasker-jcstress-1.0.0-SNAPSHOT.jar
+ * </pre>
+ *
+ * @since 1.1.0
+ */
+package io.github.zeytx.bankmasker.jcstress;
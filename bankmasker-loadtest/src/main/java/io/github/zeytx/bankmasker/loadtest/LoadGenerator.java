@@ -0,0 +1,137 @@
+package io.github.zeytx.bankmasker.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model HTTP load generator: sends requests at a fixed rate, whether or not earlier
+ * responses have arrived, and records each latency from the time the request was
+ * <em>scheduled</em> to be sent. A stalled server therefore shows up in the percentiles
+ * instead of silently lowering the request rate (coordinated omission).
+ *
+ * <p>Every request runs on its own virtual thread when the JVM supports them (Java 21+), and
+ * on a cached thread pool otherwise.
+ */
+final class LoadGenerator implements AutoCloseable {
+
+    /** Latencies above this are recorded as this value. */
+    private static final long MAX_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+    private final ExecutorService executor;
+    private final HttpClient client;
+
+    LoadGenerator() {
+        this.executor = newExecutor();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Result of one run at a fixed rate.
+     *
+     * @param rate       requested rate in requests per second
+     * @param requests   requests sent
+     * @param throughput completed requests per second
+     * @param errors     failed, non-200 or unfinished requests
+     * @param latency    latencies of successful requests in nanoseconds
+     */
+    record Run(int rate, long requests, double throughput, long errors, Histogram latency) {
+    }
+
+    /**
+     * Sends GET requests to {@code uri} at {@code rate} requests per second for
+     * {@code duration}, then waits up to {@code timeout} for outstanding responses.
+     *
+     * @param uri      the target
+     * @param rate     requests per second
+     * @param duration how long to send requests
+     * @param timeout  how long to wait for the last responses
+     * @return the result
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Run run(URI uri, int rate, Duration duration, Duration timeout) throws InterruptedException {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = duration.toNanos() / interval;
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+        Histogram latency = new ConcurrentHistogram(MAX_LATENCY, 3);
+        LongAdder errors = new LongAdder();
+        CountDownLatch done = new CountDownLatch(Math.toIntExact(requests));
+
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long scheduled = start + i * interval;
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            executor.execute(() -> {
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        latency.recordValue(Math.min(System.nanoTime() - scheduled, MAX_LATENCY));
+                    } else {
+                        errors.increment();
+                    }
+                } catch (IOException e) {
+                    errors.increment();
+                } catch (InterruptedException e) {
+                    errors.increment();
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        long elapsed = System.nanoTime() - start;
+        long completed = latency.getTotalCount();
+        return new Run(rate, requests, completed * 1e9 / elapsed, errors.sum() + done.getCount(), latency);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /** Virtual thread per task where available; this module still compiles for Java 17. */
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "load-generator");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Whether requests run on virtual threads.
+     *
+     * @return {@code true} on Java 21+
+     */
+    boolean virtualThreads() {
+        return !(executor instanceof ThreadPoolExecutor);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.zeytx.bankmasker.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * End-to-end load test of the BankMasker Spring Boot starter.
+ *
+ * <p>For each scenario — masking on, masking off, masking with audit logging — boots
+ * {@link LoadTestApplication} on a random port, warms it up, then drives
+ * {@code GET /transactions} at each configured rate with a {@link LoadGenerator} and records
+ * p50, p99, p99.9 and max latency. Comparing scenarios at the same rate gives the cost of
+ * masking per request, and the highest rate a scenario sustains sizes capacity for masked
+ * endpoints.
+ *
+ * <p>Settings, as system properties:
+ * <ul>
+ *   <li>{@code bankmasker.load.scenarios} — default {@code MASKED,UNMASKED,AUDITED}</li>
+ *   <li>{@code bankmasker.load.rates} — requests per second, default {@code 250,500,1000}</li>
+ *   <li>{@code bankmasker.load.duration} — seconds per rate, default {@code 20}</li>
+ *   <li>{@code bankmasker.load.warmup} — seconds of warm-up per scenario, default {@code 10}</li>
+ *   <li>{@code bankmasker.load.count} — transactions per response, default {@code 10}</li>
+ *   <li>{@code bankmasker.load.output} — report directory, default {@code target/loadtest}</li>
+ * </ul>
+ *
+ * <p>The report directory receives {@code report.md} and one HdrHistogram percentile
+ * distribution ({@code .hgrm}, in milliseconds) per scenario and rate. Audit log lines go to
+ * {@code audit.log} in the same directory rather than the console.
+ *
+ * <p>Run with:
+ * <pre>
+ * java -Dbankmasker.load.rates=500,1000,2000 -jar bankmasker-loadtest/target/bankmasker-loadtest-1.0.0-SNAPSHOT.jar
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    /** Starter configuration under test. */
+    enum Scenario {
+        MASKED("bankmasker.enabled=true"),
+        UNMASKED("bankmasker.enabled=false"),
+        AUDITED("bankmasker.enabled=true", "bankmasker.audit.enabled=true");
+
+        private final String[] properties;
+
+        Scenario(String... properties) {
+            this.properties = properties;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Scenario> scenarios = Arrays.stream(
+                        System.getProperty("bankmasker.load.scenarios", "MASKED,UNMASKED,AUDITED").split(","))
+                .map(name -> Scenario.valueOf(name.trim().toUpperCase(Locale.ROOT)))
+                .toList();
+        int[] rates = Arrays.stream(System.getProperty("bankmasker.load.rates", "250,500,1000").split(","))
+                .mapToInt(rate -> Integer.parseInt(rate.trim()))
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("bankmasker.load.duration", 20));
+        Duration warmup = Duration.ofSeconds(Long.getLong("bankmasker.load.warmup", 10));
+        int count = Integer.getInteger("bankmasker.load.count", 10);
+        Path output = Path.of(System.getProperty("bankmasker.load.output", "target/loadtest"));
+        Files.createDirectories(output);
+
+        List<Result> results = new ArrayList<>();
+        try (LoadGenerator generator = new LoadGenerator()) {
+            System.out.printf(Locale.ROOT, "Client on %s threads, %d transactions per response%n",
+                    generator.virtualThreads() ? "virtual" : "platform", count);
+            for (Scenario scenario : scenarios) {
+                ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                        .properties(scenario.properties)
+                        .properties("server.port=0", "spring.main.banner-mode=off")
+                        .run();
+                try {
+                    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                    URI uri = URI.create("http://localhost:" + port + "/transactions?count=" + count);
+                    Duration timeout = Duration.ofSeconds(30);
+
+                    System.out.printf(Locale.ROOT, "%s: warming up for %ds%n", scenario, warmup.toSeconds());
+                    generator.run(uri, rates[0], warmup, timeout);
+                    for (int rate : rates) {
+                        LoadGenerator.Run run = generator.run(uri, rate, duration, timeout);
+                        Result result = new Result(scenario, run);
+                        results.add(result);
+                        System.out.println(result.row());
+                        writeDistribution(output.resolve(scenario.name().toLowerCase(Locale.ROOT) + "-" + rate + ".hgrm"),
+                                run.latency());
+                    }
+                } finally {
+                    context.close();
+                }
+            }
+        }
+
+        String report = report(results, duration, count);
+        Files.writeString(output.resolve("report.md"), report);
+        System.out.println();
+        System.out.println(report);
+    }
+
+    /** One scenario at one rate. */
+    private record Result(Scenario scenario, LoadGenerator.Run run) {
+
+        String row() {
+            Histogram latency = run.latency();
+            return String.format(Locale.ROOT, "| %s | %d | %.0f | %.2f | %.2f | %.2f | %.2f | %d |",
+                    scenario, run.rate(), run.throughput(),
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)), millis(latency.getMaxValue()), run.errors());
+        }
+    }
+
+    private static String report(List<Result> results, Duration duration, int count) {
+        StringBuilder out = new StringBuilder();
+        out.append("# Load test\n\n");
+        out.append(String.format(Locale.ROOT,
+                "GET /transactions?count=%d, %ds per rate, latency from the scheduled send time in ms.%n%n",
+                count, duration.toSeconds()));
+        out.append("| Scenario | Rate (req/s) | Achieved (req/s) | p50 | p99 | p99.9 | max | Errors |\n");
+        out.append("|----------|--------------|------------------|-----|-----|-------|-----|--------|\n");
+        for (Result result : results) {
+            out.append(result.row()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static void writeDistribution(Path file, Histogram latency) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+            latency.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
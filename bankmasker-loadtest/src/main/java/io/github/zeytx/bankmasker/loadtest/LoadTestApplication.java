@@ -0,0 +1,19 @@
+package io.github.zeytx.bankmasker.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Sample Spring MVC application under load: serves synthetic transactions through
+ * {@link TransactionController}, masked by the BankMasker starter's auto-configuration.
+ *
+ * <p>{@link LoadTest} boots it once per scenario; it can also be run on its own to
+ * drive it with an external load generator.
+ */
+@SpringBootApplication
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(LoadTestApplication.class, args);
+    }
+}
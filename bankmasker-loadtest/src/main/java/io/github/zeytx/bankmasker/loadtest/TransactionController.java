@@ -0,0 +1,43 @@
+package io.github.zeytx.bankmasker.loadtest;
+
+import io.github.zeytx.bankmasker.corpus.BankingCorpus;
+import io.github.zeytx.bankmasker.corpus.Transaction;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Returns pages of synthetic transactions from a pool generated once at startup, so requests
+ * measure serialization and masking rather than data generation. Successive requests get
+ * different transactions.
+ */
+@RestController
+public class TransactionController {
+
+    /** Pool size; a power of two so the rotating offset wraps with a mask. */
+    static final int POOL = 1024;
+
+    private final List<Transaction> pool = new BankingCorpus().transactions(POOL);
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Returns the next {@code count} transactions of the pool, at most {@value #POOL}.
+     *
+     * @param count the number of transactions
+     * @return the transactions
+     */
+    @GetMapping("/transactions")
+    public List<Transaction> transactions(@RequestParam(name = "count", defaultValue = "10") int count) {
+        int size = Math.max(0, Math.min(count, POOL));
+        int start = next.getAndAdd(size);
+        List<Transaction> page = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            page.add(pool.get((start + i) & (POOL - 1)));
+        }
+        return page;
+    }
+}
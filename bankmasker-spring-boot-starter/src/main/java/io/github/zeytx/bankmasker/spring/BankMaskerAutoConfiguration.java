@@ -1,27 +1,43 @@
 package io.github.zeytx.bankmasker.spring;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskingAuditLogger;
 import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingModule;
 import io.github.zeytx.bankmasker.MaskingSerializer;
 import io.github.zeytx.bankmasker.Slf4jMaskingAuditLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 /**
  * Auto-configuration for BankMasker.
  *
- * <p>Automatically configures {@link MaskingConfig} from {@code application.yml}
- * properties and optionally enables SLF4J-based audit logging.
+ * <p>Creates a dedicated {@link MaskingConfig} from {@code application.yml} properties and
+ * registers it, through a {@link MaskingModule}, on the {@link ObjectMapper} that Spring Boot
+ * builds. Optionally enables SLF4J-based audit logging and {@link MaskingStatistics}, and
+ * exposes a {@link MaskingWriterCache} with one pre-built writer per masking policy.
+ *
+ * <p>The global {@link MaskingConfig#getInstance()} singleton is left untouched, so several
+ * application contexts in one JVM each mask with their own settings. Code that masks outside
+ * Jackson, such as {@link io.github.zeytx.bankmasker.MaskUtils}, keeps using the singleton.
  *
  * <p>This configuration is activated when {@link MaskingSerializer} is on the classpath.
  *
  * @since 1.0.0
  */
-@AutoConfiguration
+@AutoConfiguration(before = JacksonAutoConfiguration.class)
 @ConditionalOnClass(MaskingSerializer.class)
 @EnableConfigurationProperties
 public class BankMaskerAutoConfiguration {
@@ -35,20 +51,63 @@ public class BankMaskerAutoConfiguration {
     }
 
     @Bean
-    public MaskingConfig maskingConfig(BankMaskerProperties properties) {
-        MaskingConfig config = MaskingConfig.getInstance();
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "bankmasker.statistics", name = "enabled", havingValue = "true")
+    public MaskingStatistics maskingStatistics() {
+        return new MaskingStatistics();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MaskingConfig maskingConfig(BankMaskerProperties properties,
+                                       ObjectProvider<MaskingStatistics> statistics) {
+        MaskingConfig config = MaskingConfig.create();
         config.setEnabled(properties.isEnabled());
         config.setDefaultMaskChar(properties.getDefaultMaskChar());
 
+        MaskingAuditLogger auditLogger = null;
         if (properties.getAudit().isEnabled()) {
-            config.setAuditLogger(new Slf4jMaskingAuditLogger());
+            auditLogger = new Slf4jMaskingAuditLogger();
             log.info("[BankMasker] Audit logging enabled");
         }
+        MaskingStatistics stats = statistics.getIfAvailable();
+        if (stats != null) {
+            auditLogger = stats.wrap(auditLogger);
+            log.info("[BankMasker] Masking statistics enabled");
+        }
+        if (auditLogger != null) {
+            config.setAuditLogger(auditLogger);
+        }
 
         log.info("[BankMasker] Auto-configured — enabled={}, maskChar='{}'",
                 properties.isEnabled(), properties.getDefaultMaskChar());
 
         return config;
     }
-}
 
+    @Bean
+    @ConditionalOnMissingBean
+    public MaskingWriterCache maskingWriterCache(ObjectProvider<ObjectMapper> objectMapper,
+                                                 MaskingConfig config,
+                                                 BankMaskerProperties properties) {
+        BankMaskerProperties.Policy policy = properties.getPolicy();
+        ObjectMapper mapper = objectMapper.getIfAvailable(
+                () -> new ObjectMapper().registerModule(new MaskingModule(config)));
+        return new MaskingWriterCache(mapper, config, policy.getDefaultPolicy(), policy.getRoles());
+    }
+
+    /**
+     * Registers the context's {@link MaskingConfig} on mappers built by
+     * {@link Jackson2ObjectMapperBuilder}, including Spring Boot's own {@link ObjectMapper}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Jackson2ObjectMapperBuilder.class)
+    static class JacksonConfiguration {
+
+        @Bean
+        public Jackson2ObjectMapperBuilderCustomizer bankMaskerObjectMapperBuilderCustomizer(MaskingConfig config) {
+            // Registered after the builder's own modules, so it does not replace them
+            return builder -> builder.postConfigurer(mapper -> mapper.registerModule(new MaskingModule(config)));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.zeytx.bankmasker.spring;
+
+import io.github.zeytx.bankmasker.MaskingAuditLogger;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingLatencyRecorder;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint ({@code /actuator/bankmasker}) reporting the effective masking
+ * configuration and, when enabled, masking activity.
+ *
+ * <p>The response has these sections:
+ * <ul>
+ *   <li>{@code config}: the effective {@link MaskingConfig}, from one
+ *       {@link MaskingConfig#snapshot() snapshot} so the values belong to the same version.
+ *       The pseudonymization key itself is never shown, only whether one is set.</li>
+ *   <li>{@code audit}: whether masked fields are audit-logged, and by which logger. Audit
+ *       logging is synchronous, so there is no queue that could back up or drop entries.</li>
+ *   <li>{@code policy}: the default masking policy and the policy granted to each role.</li>
+ *   <li>{@code statistics}: counts per type and field and throughput over 1, 5 and
+ *       15 minutes, from {@link MaskingStatistics} ({@code bankmasker.statistics.enabled}).</li>
+ *   <li>{@code latency}: percentiles per type and field, if a {@link MaskingLatencyRecorder}
+ *       is attached to the config.</li>
+ * </ul>
+ *
+ * <p>Like any endpoint, it must be exposed, e.g. with
+ * {@code management.endpoints.web.exposure.include=health,bankmasker}.
+ *
+ * @since 1.1.0
+ */
+@Endpoint(id = "bankmasker")
+public class BankMaskerEndpoint {
+
+    private final MaskingConfig config;
+    private final BankMaskerProperties properties;
+    private final MaskingStatistics statistics;
+
+    /**
+     * Creates the endpoint.
+     *
+     * @param config     the masking configuration to report
+     * @param properties the starter properties
+     * @param statistics the statistics, or {@code null} if not enabled
+     */
+    public BankMaskerEndpoint(MaskingConfig config, BankMaskerProperties properties, MaskingStatistics statistics) {
+        this.config = config;
+        this.properties = properties;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Returns the current configuration and statistics.
+     *
+     * @return the report, ready for JSON serialization
+     */
+    @ReadOperation
+    public Map<String, Object> report() {
+        MaskingConfig.Snapshot snapshot = config.snapshot();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config(snapshot));
+        report.put("audit", audit(snapshot));
+        report.put("policy", policy());
+        report.put("statistics", statistics());
+        MaskingLatencyRecorder recorder = snapshot.getLatencyRecorder();
+        if (recorder != null) {
+            report.put("latency", latency(recorder));
+        }
+        return report;
+    }
+
+    private static Map<String, Object> config(MaskingConfig.Snapshot snapshot) {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("enabled", snapshot.isEnabled());
+        section.put("defaultMaskChar", String.valueOf(snapshot.getDefaultMaskChar()));
+        section.put("enabledTypes", snapshot.getEnabledTypes());
+        section.put("pseudonymizationKey", snapshot.hasPseudonymizationKey());
+        section.put("version", snapshot.getVersion());
+        return section;
+    }
+
+    private Map<String, Object> audit(MaskingConfig.Snapshot snapshot) {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("enabled", properties.getAudit().isEnabled());
+        MaskingAuditLogger logger = snapshot.getAuditLogger();
+        section.put("logger", logger != null ? logger.getClass().getName() : null);
+        section.put("delivery", "synchronous");
+        return section;
+    }
+
+    private Map<String, Object> policy() {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("defaultPolicy", properties.getPolicy().getDefaultPolicy());
+        section.put("roles", properties.getPolicy().getRoles());
+        return section;
+    }
+
+    private Map<String, Object> statistics() {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("enabled", statistics != null);
+        if (statistics == null) {
+            return section;
+        }
+        section.put("total", statistics.getTotalCount());
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        throughput.put("1m", statistics.getThroughput(Duration.ofMinutes(1)));
+        throughput.put("5m", statistics.getThroughput(Duration.ofMinutes(5)));
+        throughput.put("15m", statistics.getThroughput(Duration.ofMinutes(15)));
+        section.put("throughputPerSecond", throughput);
+        section.put("types", statistics.getTypeCounts());
+        section.put("fields", statistics.getFieldCounts());
+        return section;
+    }
+
+    private static List<Map<String, Object>> latency(MaskingLatencyRecorder recorder) {
+        List<Map<String, Object>> section = new ArrayList<>();
+        for (MaskingLatencyRecorder.Snapshot snapshot : recorder.snapshot()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("type", snapshot.getType());
+            entry.put("field", snapshot.getField());
+            entry.put("count", snapshot.getCount());
+            entry.put("meanNanos", snapshot.getMeanNanos());
+            entry.put("p50Nanos", snapshot.getP50Nanos());
+            entry.put("p99Nanos", snapshot.getP99Nanos());
+            entry.put("p999Nanos", snapshot.getP999Nanos());
+            entry.put("maxNanos", snapshot.getMaxNanos());
+            section.add(entry);
+        }
+        return section;
+    }
+}
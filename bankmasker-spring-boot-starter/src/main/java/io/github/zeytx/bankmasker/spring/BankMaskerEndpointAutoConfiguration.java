@@ -0,0 +1,33 @@
+package io.github.zeytx.bankmasker.spring;
+
+import io.github.zeytx.bankmasker.MaskingConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Auto-configuration of the {@link BankMaskerEndpoint}.
+ *
+ * <p>Activated when Spring Boot Actuator is on the classpath and the {@code bankmasker}
+ * endpoint is enabled and exposed.
+ *
+ * @since 1.1.0
+ */
+@AutoConfiguration(after = BankMaskerAutoConfiguration.class)
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnBean(MaskingConfig.class)
+@ConditionalOnAvailableEndpoint(endpoint = BankMaskerEndpoint.class)
+public class BankMaskerEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BankMaskerEndpoint bankMaskerEndpoint(MaskingConfig config, BankMaskerProperties properties,
+                                                 ObjectProvider<MaskingStatistics> statistics) {
+        return new BankMaskerEndpoint(config, properties, statistics.getIfAvailable());
+    }
+}
@@ -1,5 +1,10 @@
 package io.github.zeytx.bankmasker.spring;
 
+import io.github.zeytx.bankmasker.MaskingPolicy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Configuration properties for BankMasker.
  *
@@ -10,6 +15,12 @@ package io.github.zeytx.bankmasker.spring;
  *   default-mask-char: '*'
  *   audit:
  *     enabled: true
+ *   statistics:
+ *     enabled: true
+ *   policy:
+ *     default-policy: partial
+ *     roles:
+ *       ROLE_BACKOFFICE: unmasked
  * </pre>
  *
  * @since 1.0.0
@@ -31,6 +42,16 @@ public class BankMaskerProperties {
      */
     private Audit audit = new Audit();
 
+    /**
+     * Per-call masking policy settings.
+     */
+    private Policy policy = new Policy();
+
+    /**
+     * Masking statistics settings.
+     */
+    private Statistics statistics = new Statistics();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -55,6 +76,22 @@ public class BankMaskerProperties {
         this.audit = audit;
     }
 
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(Policy policy) {
+        this.policy = policy;
+    }
+
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    public void setStatistics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
     /**
      * Audit logging sub-properties.
      */
@@ -73,5 +110,60 @@ public class BankMaskerProperties {
             this.enabled = enabled;
         }
     }
-}
 
+    /**
+     * Masking policy sub-properties.
+     *
+     * @since 1.1.0
+     */
+    public static class Policy {
+
+        /**
+         * Policy used when none of the caller's roles is mapped.
+         */
+        private MaskingPolicy defaultPolicy = MaskingPolicy.PARTIAL;
+
+        /**
+         * Policy granted to each role. When a caller has several mapped roles,
+         * the most permissive policy wins.
+         */
+        private Map<String, MaskingPolicy> roles = new LinkedHashMap<>();
+
+        public MaskingPolicy getDefaultPolicy() {
+            return defaultPolicy;
+        }
+
+        public void setDefaultPolicy(MaskingPolicy defaultPolicy) {
+            this.defaultPolicy = defaultPolicy;
+        }
+
+        public Map<String, MaskingPolicy> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(Map<String, MaskingPolicy> roles) {
+            this.roles = roles;
+        }
+    }
+
+    /**
+     * Masking statistics sub-properties.
+     *
+     * @since 1.1.0
+     */
+    public static class Statistics {
+
+        /**
+         * Whether masked fields are counted for the bankmasker actuator endpoint.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
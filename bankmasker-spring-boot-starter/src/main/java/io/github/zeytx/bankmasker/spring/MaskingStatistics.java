@@ -0,0 +1,191 @@
+package io.github.zeytx.bankmasker.spring;
+
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingAuditLogger;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts masked fields per {@link MaskType} and field name, and the rate of masking over
+ * sliding windows of up to 15 minutes.
+ *
+ * <p>It receives masked fields as a {@link MaskingAuditLogger}, wrapped around the configured
+ * audit logger by {@link #wrap(MaskingAuditLogger)}. Counters are {@link LongAdder}s, which
+ * spread concurrent increments over striped cells. Each masked field therefore costs a map
+ * lookup and two uncontended increments, and reading the counts never blocks masking.
+ *
+ * <p>Enabled with {@code bankmasker.statistics.enabled=true} and reported by the
+ * {@code bankmasker} actuator endpoint.
+ *
+ * @since 1.1.0
+ * @see BankMaskerEndpoint
+ */
+public class MaskingStatistics implements MaskingAuditLogger {
+
+    /** Width of one throughput slot. */
+    static final long SLOT_MILLIS = 5_000;
+
+    /** Slots kept: 15 minutes. */
+    private static final int SLOTS = (int) (Duration.ofMinutes(15).toMillis() / SLOT_MILLIS);
+
+    private static final MaskType[] TYPES = MaskType.values();
+
+    /** Counters by field name, indexed by {@link MaskType#ordinal()}. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Map<String, LongAdder>[] fields = new Map[TYPES.length];
+
+    /** Ring of per-slot counts; {@code epochs} holds the slot number each count belongs to. */
+    private final LongAdder[] slotCounts = new LongAdder[SLOTS];
+    private final AtomicLongArray epochs = new AtomicLongArray(SLOTS);
+
+    private final LongSupplier clock;
+    private final long startMillis;
+
+    /**
+     * Creates empty statistics.
+     */
+    public MaskingStatistics() {
+        this(System::currentTimeMillis);
+    }
+
+    MaskingStatistics(LongSupplier clock) {
+        this.clock = clock;
+        this.startMillis = clock.getAsLong();
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = new ConcurrentHashMap<>();
+        }
+        for (int i = 0; i < SLOTS; i++) {
+            slotCounts[i] = new LongAdder();
+            epochs.set(i, -1);
+        }
+    }
+
+    @Override
+    public void onFieldMasked(String fieldName, MaskType maskType) {
+        Map<String, LongAdder> byField = fields[maskType.ordinal()];
+        String key = fieldName != null ? fieldName : "unknown";
+        LongAdder counter = byField.get(key);
+        if (counter == null) {
+            counter = byField.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+
+        long epoch = clock.getAsLong() / SLOT_MILLIS;
+        int slot = (int) (epoch % SLOTS);
+        if (epochs.get(slot) != epoch) {
+            roll(slot, epoch);
+        }
+        slotCounts[slot].increment();
+    }
+
+    /** Clears a slot left over from an earlier lap of the ring; runs once per slot and lap. */
+    private void roll(int slot, long epoch) {
+        synchronized (slotCounts[slot]) {
+            if (epochs.get(slot) < epoch) {
+                slotCounts[slot].reset();
+                epochs.set(slot, epoch);
+            }
+        }
+    }
+
+    /**
+     * Returns a logger that updates these statistics, then calls {@code next}.
+     *
+     * @param next the audit logger to call after counting, or {@code null}
+     * @return the wrapping logger, or this instance if {@code next} is {@code null}
+     */
+    public MaskingAuditLogger wrap(MaskingAuditLogger next) {
+        if (next == null) {
+            return this;
+        }
+        return (fieldName, maskType) -> {
+            onFieldMasked(fieldName, maskType);
+            next.onFieldMasked(fieldName, maskType);
+        };
+    }
+
+    /**
+     * Returns the number of fields masked since startup.
+     *
+     * @return the total count
+     */
+    public long getTotalCount() {
+        long total = 0;
+        for (Map<String, LongAdder> byField : fields) {
+            for (LongAdder counter : byField.values()) {
+                total += counter.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of fields masked with each type since startup, omitting unused types.
+     *
+     * @return the counts by type
+     */
+    public Map<MaskType, Long> getTypeCounts() {
+        Map<MaskType, Long> counts = new EnumMap<>(MaskType.class);
+        for (MaskType type : TYPES) {
+            long count = 0;
+            for (LongAdder counter : fields[type.ordinal()].values()) {
+                count += counter.sum();
+            }
+            if (count > 0) {
+                counts.put(type, count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of times each field was masked since startup, by type.
+     *
+     * @return the counts by type, then field name
+     */
+    public Map<MaskType, Map<String, Long>> getFieldCounts() {
+        Map<MaskType, Map<String, Long>> counts = new EnumMap<>(MaskType.class);
+        for (MaskType type : TYPES) {
+            Map<String, Long> byField = new LinkedHashMap<>();
+            fields[type.ordinal()].forEach((field, counter) -> byField.put(field, counter.sum()));
+            if (!byField.isEmpty()) {
+                counts.put(type, byField);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the masked fields per second over the last {@code window}, or since startup if
+     * that is shorter. The window is rounded to whole 5-second slots, the current slot included.
+     *
+     * @param window between 5 seconds and 15 minutes
+     * @return the rate in fields per second
+     */
+    public double getThroughput(Duration window) {
+        long windowMillis = window.toMillis();
+        if (windowMillis < SLOT_MILLIS || windowMillis > SLOTS * SLOT_MILLIS) {
+            throw new IllegalArgumentException("window must be between 5 seconds and 15 minutes");
+        }
+        long now = clock.getAsLong();
+        long current = now / SLOT_MILLIS;
+        int slots = (int) (windowMillis / SLOT_MILLIS);
+        long count = 0;
+        for (long epoch = current - slots + 1; epoch <= current; epoch++) {
+            int slot = (int) (Math.floorMod(epoch, (long) SLOTS));
+            if (epochs.get(slot) == epoch) {
+                count += slotCounts[slot].sum();
+            }
+        }
+        long covered = (slots - 1) * SLOT_MILLIS + now % SLOT_MILLIS;
+        long elapsed = Math.min(covered, now - startMillis);
+        return elapsed <= 0 ? 0 : count * 1000.0 / elapsed;
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.zeytx.bankmasker.spring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingModule;
+import io.github.zeytx.bankmasker.MaskingPolicy;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Pre-built {@link ObjectWriter}s, one per {@link MaskingPolicy}, resolved from the
+ * caller's roles.
+ *
+ * <p>Writers are created once at startup, so picking the right one per request is a
+ * map lookup — no writer is built and no shared configuration is mutated on the
+ * request path.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * ObjectWriter writer = writerCache.forRoles(List.of("ROLE_BACKOFFICE"));
+ * String json = writer.writeValueAsString(payment);
+ * }</pre>
+ *
+ * @since 1.1.0
+ * @see MaskingPolicy
+ * @see BankMaskerProperties.Policy
+ */
+public class MaskingWriterCache {
+
+    private final Map<MaskingPolicy, ObjectWriter> writers = new EnumMap<>(MaskingPolicy.class);
+    private final Map<String, MaskingPolicy> rolePolicies;
+    private final MaskingPolicy defaultPolicy;
+
+    /**
+     * Creates the cache, building one writer per policy from the given mapper.
+     *
+     * @param mapper        the mapper to derive the writers from
+     * @param defaultPolicy the policy used when no role is mapped
+     * @param rolePolicies  the policy granted to each role
+     */
+    public MaskingWriterCache(ObjectMapper mapper, MaskingPolicy defaultPolicy,
+                              Map<String, MaskingPolicy> rolePolicies) {
+        this(mapper, null, defaultPolicy, rolePolicies);
+    }
+
+    /**
+     * Creates the cache, building one writer per policy from the given mapper, all bound to
+     * the given configuration whatever modules the mapper has.
+     *
+     * @param mapper        the mapper to derive the writers from
+     * @param config        the masking configuration, or {@code null} for the mapper's own
+     * @param defaultPolicy the policy used when no role is mapped
+     * @param rolePolicies  the policy granted to each role
+     * @since 1.1.0
+     */
+    public MaskingWriterCache(ObjectMapper mapper, MaskingConfig config, MaskingPolicy defaultPolicy,
+                              Map<String, MaskingPolicy> rolePolicies) {
+        ObjectWriter base = config != null ? MaskingModule.withConfig(mapper.writer(), config) : mapper.writer();
+        for (MaskingPolicy policy : MaskingPolicy.values()) {
+            writers.put(policy, MaskingModule.withPolicy(base, policy));
+        }
+        this.defaultPolicy = defaultPolicy != null ? defaultPolicy : MaskingPolicy.PARTIAL;
+        this.rolePolicies = Map.copyOf(rolePolicies);
+    }
+
+    /**
+     * Returns the pre-built writer for the given policy.
+     *
+     * @param policy the masking policy
+     * @return the cached writer
+     */
+    public ObjectWriter forPolicy(MaskingPolicy policy) {
+        return writers.get(policy);
+    }
+
+    /**
+     * Returns the pre-built writer for the most permissive policy granted to the given roles.
+     *
+     * @param roles the caller's roles, may be empty
+     * @return the cached writer
+     */
+    public ObjectWriter forRoles(Collection<String> roles) {
+        return writers.get(resolvePolicy(roles));
+    }
+
+    /**
+     * Resolves the most permissive policy granted to the given roles,
+     * or the default policy if none of them is mapped.
+     *
+     * @param roles the caller's roles, may be empty
+     * @return the resolved policy
+     */
+    public MaskingPolicy resolvePolicy(Collection<String> roles) {
+        MaskingPolicy resolved = null;
+        for (String role : roles) {
+            MaskingPolicy policy = rolePolicies.get(role);
+            if (policy != null && (resolved == null || policy.ordinal() > resolved.ordinal())) {
+                resolved = policy;
+            }
+        }
+        return resolved != null ? resolved : defaultPolicy;
+    }
+
+    /**
+     * Returns the policy used when none of the caller's roles is mapped.
+     *
+     * @return the default policy
+     */
+    public MaskingPolicy getDefaultPolicy() {
+        return defaultPolicy;
+    }
+}
@@ -1,11 +1,24 @@
 package io.github.zeytx.bankmasker.spring;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
 import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingPolicy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("BankMaskerAutoConfiguration")
@@ -14,6 +27,11 @@ class BankMaskerAutoConfigurationTest {
     private final ApplicationContextRunner runner = new ApplicationContextRunner()
             .withConfiguration(AutoConfigurations.of(BankMaskerAutoConfiguration.class));
 
+    static class CardDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public String card = "4111111111111111";
+    }
+
     @Test
     @DisplayName("creates MaskingConfig bean with defaults")
     void createsDefaultBeans() {
@@ -66,5 +84,91 @@ class BankMaskerAutoConfigurationTest {
             assertThat(config.getAuditLogger()).isNull();
         });
     }
-}
 
+    @Test
+    @DisplayName("creates MaskingWriterCache with PARTIAL default policy")
+    void createsWriterCache() {
+        runner.run(context -> {
+            MaskingWriterCache cache = context.getBean(MaskingWriterCache.class);
+            assertThat(cache.getDefaultPolicy()).isEqualTo(MaskingPolicy.PARTIAL);
+            assertThat(cache.forRoles(List.of()).writeValueAsString(new CardDTO()))
+                    .contains("****-****-****-1111");
+        });
+    }
+
+    @Test
+    @DisplayName("resolves the most permissive policy from mapped roles")
+    void resolvesPolicyFromRoles() {
+        runner.withPropertyValues(
+                        "bankmasker.policy.default-policy=masked",
+                        "bankmasker.policy.roles.ROLE_AGENT=partial",
+                        "bankmasker.policy.roles.ROLE_BACKOFFICE=unmasked")
+                .run(context -> {
+                    MaskingWriterCache cache = context.getBean(MaskingWriterCache.class);
+                    assertThat(cache.resolvePolicy(List.of("ROLE_USER"))).isEqualTo(MaskingPolicy.MASKED);
+                    assertThat(cache.resolvePolicy(List.of("ROLE_AGENT"))).isEqualTo(MaskingPolicy.PARTIAL);
+                    assertThat(cache.resolvePolicy(List.of("ROLE_AGENT", "ROLE_BACKOFFICE")))
+                            .isEqualTo(MaskingPolicy.UNMASKED);
+                    assertThat(cache.forRoles(List.of("ROLE_BACKOFFICE")).writeValueAsString(new CardDTO()))
+                            .contains("4111111111111111");
+                    assertThat(cache.forRoles(List.of("ROLE_USER")).writeValueAsString(new CardDTO()))
+                            .contains("********");
+                });
+    }
+
+    @Test
+    @DisplayName("registers a dedicated config on Spring's ObjectMapper and leaves the singleton alone")
+    void registersDedicatedConfig() {
+        runner.withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+                .withPropertyValues("bankmasker.default-mask-char=#", "bankmasker.audit.enabled=true")
+                .run(context -> {
+                    MaskingConfig config = context.getBean(MaskingConfig.class);
+                    assertThat(config).isNotSameAs(MaskingConfig.getInstance());
+
+                    String json = context.getBean(ObjectMapper.class).writeValueAsString(new CardDTO());
+                    assertThat(json).contains("####-####-####-1111");
+                    assertThat(context.getBean(MaskingWriterCache.class).forPolicy(MaskingPolicy.PARTIAL)
+                            .writeValueAsString(new CardDTO())).contains("####-####-####-1111");
+
+                    assertThat(MaskingConfig.getInstance().getDefaultMaskChar()).isEqualTo('*');
+                    assertThat(MaskingConfig.getInstance().getAuditLogger()).isNull();
+                    assertThat(new ObjectMapper().writeValueAsString(new CardDTO())).contains("****-****-****-1111");
+                });
+    }
+
+    @Test
+    @DisplayName("concurrent contexts with different configs do not leak into each other")
+    void concurrentContextsAreIsolated() throws Exception {
+        char[] maskChars = {'#', 'X', '*', '~'};
+        int rounds = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(maskChars.length);
+        CyclicBarrier start = new CyclicBarrier(maskChars.length);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (char maskChar : maskChars) {
+                results.add(executor.submit(() -> runner
+                        .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+                        .withPropertyValues("bankmasker.default-mask-char=" + maskChar,
+                                "bankmasker.enabled=" + (maskChar != '~'))
+                        .run(context -> {
+                            ObjectMapper mapper = context.getBean(ObjectMapper.class);
+                            String expected = maskChar == '~'
+                                    ? "4111111111111111"
+                                    : String.valueOf(maskChar).repeat(4) + "-" + String.valueOf(maskChar).repeat(4)
+                                    + "-" + String.valueOf(maskChar).repeat(4) + "-1111";
+                            start.await(30, TimeUnit.SECONDS);
+                            for (int i = 0; i < rounds; i++) {
+                                assertThat(mapper.writeValueAsString(new CardDTO())).contains(expected);
+                            }
+                        })));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(MaskingConfig.getInstance().isEnabled()).isTrue();
+        assertThat(MaskingConfig.getInstance().getDefaultMaskChar()).isEqualTo('*');
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.zeytx.bankmasker.spring;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.zeytx.bankmasker.MaskData;
+import io.github.zeytx.bankmasker.MaskType;
+import io.github.zeytx.bankmasker.MaskingConfig;
+import io.github.zeytx.bankmasker.MaskingLatencyRecorder;
+import io.github.zeytx.bankmasker.MaskingPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("bankmasker actuator endpoint")
+class BankMaskerEndpointTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    BankMaskerAutoConfiguration.class, BankMaskerEndpointAutoConfiguration.class))
+            .withPropertyValues("management.endpoints.web.exposure.include=bankmasker");
+
+    static class CardDTO {
+        @MaskData(MaskType.CREDIT_CARD)
+        public String card = "4111111111111111";
+
+        @MaskData(MaskType.IBAN)
+        public String iban = "ES6621000418401234567891";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> section(Map<String, Object> report, String name) {
+        return (Map<String, Object>) report.get(name);
+    }
+
+    @Nested
+    @DisplayName("MaskingStatistics")
+    class Statistics {
+
+        private final AtomicLong now = new AtomicLong(1_000_000);
+        private final MaskingStatistics statistics = new MaskingStatistics(now::get);
+
+        @Test
+        @DisplayName("counts per type and field")
+        void counts() {
+            statistics.onFieldMasked("card", MaskType.CREDIT_CARD);
+            statistics.onFieldMasked("card", MaskType.CREDIT_CARD);
+            statistics.onFieldMasked("payeeIban", MaskType.IBAN);
+            statistics.onFieldMasked(null, MaskType.IBAN);
+
+            assertThat(statistics.getTotalCount()).isEqualTo(4);
+            assertThat(statistics.getTypeCounts())
+                    .containsExactly(Map.entry(MaskType.CREDIT_CARD, 2L), Map.entry(MaskType.IBAN, 2L));
+            assertThat(statistics.getFieldCounts().get(MaskType.IBAN))
+                    .containsEntry("payeeIban", 1L)
+                    .containsEntry("unknown", 1L);
+        }
+
+        @Test
+        @DisplayName("computes throughput over sliding windows")
+        void throughput() {
+            // 10 fields per second for 10 minutes
+            for (int second = 0; second < 600; second++) {
+                for (int i = 0; i < 10; i++) {
+                    statistics.onFieldMasked("card", MaskType.CREDIT_CARD);
+                }
+                now.addAndGet(1000);
+            }
+            assertThat(statistics.getThroughput(Duration.ofMinutes(1))).isCloseTo(10, within(1.0));
+            assertThat(statistics.getThroughput(Duration.ofMinutes(5))).isCloseTo(10, within(0.5));
+            assertThat(statistics.getThroughput(Duration.ofMinutes(15))).isCloseTo(10, within(0.5));
+
+            // Idle for two minutes: the 1-minute window empties, longer windows still see traffic
+            now.addAndGet(Duration.ofMinutes(2).toMillis());
+            assertThat(statistics.getThroughput(Duration.ofMinutes(1))).isZero();
+            assertThat(statistics.getThroughput(Duration.ofMinutes(5))).isCloseTo(6, within(0.5));
+
+            // After a full lap of the ring, old slots are cleared rather than counted again
+            now.addAndGet(Duration.ofMinutes(15).toMillis());
+            statistics.onFieldMasked("card", MaskType.CREDIT_CARD);
+            assertThat(statistics.getThroughput(Duration.ofMinutes(15))).isLessThan(0.01);
+            assertThat(statistics.getTotalCount()).isEqualTo(6001);
+        }
+
+        @Test
+        @DisplayName("rejects windows outside 5 seconds to 15 minutes")
+        void windowBounds() {
+            assertThatThrownBy(() -> statistics.getThroughput(Duration.ofSeconds(1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> statistics.getThroughput(Duration.ofMinutes(16)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("wraps the audit logger and still calls it")
+        void wrap() {
+            List<String> audited = new ArrayList<>();
+            statistics.wrap((field, type) -> audited.add(field + ":" + type)).onFieldMasked("iban", MaskType.IBAN);
+
+            assertThat(audited).containsExactly("iban:IBAN");
+            assertThat(statistics.getTotalCount()).isEqualTo(1);
+            assertThat(statistics.wrap(null)).isSameAs(statistics);
+        }
+    }
+
+    @Nested
+    @DisplayName("Auto-configuration")
+    class AutoConfiguration {
+
+        @Test
+        @DisplayName("reports the effective configuration without statistics by default")
+        void reportsConfig() {
+            runner.withPropertyValues("bankmasker.default-mask-char=#", "bankmasker.policy.roles.ROLE_OPS=unmasked")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(BankMaskerEndpoint.class);
+                        assertThat(context).doesNotHaveBean(MaskingStatistics.class);
+                        assertThat(context.getBean(MaskingConfig.class).getAuditLogger()).isNull();
+
+                        Map<String, Object> report = context.getBean(BankMaskerEndpoint.class).report();
+                        assertThat(section(report, "config"))
+                                .containsEntry("enabled", true)
+                                .containsEntry("defaultMaskChar", "#")
+                                .containsEntry("pseudonymizationKey", false);
+                        assertThat(section(report, "statistics")).containsOnly(Map.entry("enabled", false));
+                        assertThat(section(report, "policy").get("roles").toString()).contains("ROLE_OPS");
+                        assertThat(report).doesNotContainKey("latency");
+                    });
+        }
+
+        @Test
+        @DisplayName("counts masked fields and keeps audit logging when statistics are enabled")
+        void reportsStatistics() {
+            runner.withPropertyValues("bankmasker.statistics.enabled=true", "bankmasker.audit.enabled=true")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(MaskingStatistics.class);
+                        ObjectWriter writer = context.getBean(MaskingWriterCache.class).forPolicy(MaskingPolicy.PARTIAL);
+                        writer.writeValueAsString(new CardDTO());
+                        writer.writeValueAsString(new CardDTO());
+
+                        Map<String, Object> report = context.getBean(BankMaskerEndpoint.class).report();
+                        Map<String, Object> statistics = section(report, "statistics");
+                        assertThat(statistics).containsEntry("enabled", true).containsEntry("total", 4L);
+                        assertThat(statistics.get("types").toString()).contains("CREDIT_CARD=2", "IBAN=2");
+                        assertThat(statistics.get("fields").toString()).contains("card=2", "iban=2");
+                        assertThat(section(report, "audit")).containsEntry("enabled", true);
+                    });
+        }
+
+        @Test
+        @DisplayName("includes latency percentiles when a recorder is attached")
+        void reportsLatency() {
+            runner.run(context -> {
+                MaskingLatencyRecorder recorder = new MaskingLatencyRecorder();
+                context.getBean(MaskingConfig.class).setLatencyRecorder(recorder);
+                context.getBean(MaskingWriterCache.class).forPolicy(MaskingPolicy.PARTIAL)
+                        .writeValueAsString(new CardDTO());
+
+                Map<String, Object> report = context.getBean(BankMaskerEndpoint.class).report();
+                assertThat(report.get("latency").toString()).contains("type=CREDIT_CARD", "field=card", "count=1");
+            });
+        }
+
+        @Test
+        @DisplayName("is not created unless exposed")
+        void notExposed() {
+            new ApplicationContextRunner()
+                    .withConfiguration(AutoConfigurations.of(
+                            BankMaskerAutoConfiguration.class, BankMaskerEndpointAutoConfiguration.class))
+                    .run(context -> assertThat(context).doesNotHaveBean(BankMaskerEndpoint.class));
+        }
+    }
+}